@@ -0,0 +1,7 @@
+package com.autenticacao.cliente;
+
+import java.util.UUID;
+
+/** Claims de um ‘token’ cuja assinatura, emissor e expiração já foram conferidos. */
+record ClaimsVerificadas(
+    String jti, String sub, UUID uid, String role, boolean ativo, long versao, long exp) {}
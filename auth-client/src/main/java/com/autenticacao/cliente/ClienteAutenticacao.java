@@ -0,0 +1,262 @@
+package com.autenticacao.cliente;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Verificação dos ‘tokens’ de acesso da API de autenticação dentro do próprio serviço consumidor,
+ * sem Spring e sem chamada de rede no caminho comum.
+ *
+ * <p>A assinatura é conferida localmente com o JWKS em cache, recarregado periodicamente e sempre
+ * que aparece um {@code kid} desconhecido; essa recarga roda em segundo plano e, enquanto não
+ * termina, o token vai para a introspecção. Revogações de tokens e versões de sessão chegam pelo
+ * próprio consumidor, de forma incremental ({@link #revogar}, {@link #registrarVersao}), e cada
+ * aplicação do feed é confirmada com {@link #confirmarFeed()}. Quando não é possível decidir
+ * localmente — JWKS indisponível ou feed sem confirmação dentro da tolerância — o token é enviado
+ * à introspecção em lote, agrupado com os demais pendentes.
+ *
+ * <p>Chamadas de rede (JWKS e lotes) rodam em um ‘pool’ próprio, fora da thread que dispara os
+ * temporizadores; cada uma é limitada pelo {@code timeout} do transporte.
+ *
+ * <pre>{@code
+ * ClienteAutenticacao cliente =
+ *     ClienteAutenticacao.builder()
+ *         .urlBase(URI.create("http://autenticacao:8095"))
+ *         .credencial(() -> tokenDoServico)
+ *         .build();
+ * ResultadoVerificacao resultado = cliente.verificar(token);
+ * }</pre>
+ */
+public final class ClienteAutenticacao implements AutoCloseable {
+
+  private final ConjuntoChaves conjuntoChaves;
+  private final VerificadorToken verificador;
+  private final EstadoRevogacoes estadoRevogacoes;
+  private final IntrospeccaoEmLote introspeccao;
+  private final ScheduledExecutorService agendador;
+  private final ExecutorService envios;
+
+  private ClienteAutenticacao(Builder builder) {
+    this.agendador = Executors.newSingleThreadScheduledExecutor(threads("cliente-autenticacao"));
+    this.envios = Executors.newCachedThreadPool(threads("cliente-autenticacao-envio"));
+    this.conjuntoChaves =
+        new ConjuntoChaves(builder.transporte, builder.clock, builder.intervaloMinimoJwks);
+    this.verificador = new VerificadorToken(builder.clock);
+    this.estadoRevogacoes = new EstadoRevogacoes(builder.clock, builder.toleranciaFeed);
+    this.introspeccao =
+        new IntrospeccaoEmLote(
+            builder.transporte, agendador, envios, builder.tamanhoMaximoLote, builder.esperaLote);
+
+    conjuntoChaves.atualizar();
+    long intervaloJwks = builder.intervaloAtualizacaoJwks.toMillis();
+    agendador.scheduleWithFixedDelay(
+        () -> conjuntoChaves.atualizarEmSegundoPlano(envios),
+        intervaloJwks,
+        intervaloJwks,
+        TimeUnit.MILLISECONDS);
+    agendador.scheduleWithFixedDelay(estadoRevogacoes::limparExpirados, 1, 1, TimeUnit.MINUTES);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private static ThreadFactory threads(String nome) {
+    return tarefa -> {
+      Thread thread = new Thread(tarefa, nome);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Verifica o ‘token’, localmente sempre que possível. Bloqueia apenas quando é preciso recorrer à
+   * introspecção.
+   *
+   * @throws CompletionException se a introspecção necessária falhar
+   */
+  public ResultadoVerificacao verificar(String token) {
+    return verificarLocalmente(token).orElseGet(() -> introspeccao.introspectar(token).join());
+  }
+
+  /** Como {@link #verificar(String)}, sem bloquear quando for preciso recorrer à introspecção. */
+  public CompletableFuture<ResultadoVerificacao> verificarAsync(String token) {
+    return verificarLocalmente(token)
+        .map(CompletableFuture::completedFuture)
+        .orElseGet(() -> introspeccao.introspectar(token));
+  }
+
+  /**
+   * Decide apenas com o que está em memória.
+   *
+   * @return resultado, ou vazio quando não for possível decidir localmente
+   */
+  public Optional<ResultadoVerificacao> verificarLocalmente(String token) {
+    int fimCabecalho = VerificadorToken.fimCabecalho(token);
+    if (fimCabecalho < 0) {
+      return Optional.of(ResultadoVerificacao.inativo(ResultadoVerificacao.Origem.LOCAL));
+    }
+
+    ConjuntoChaves.Chave chave = conjuntoChaves.resolver(token, fimCabecalho);
+    if (chave == null) {
+      conjuntoChaves.atualizarEmSegundoPlano(envios);
+      if (!conjuntoChaves.confiavel()) {
+        return Optional.empty();
+      }
+      // A recarga pode ter terminado entre a primeira busca e a verificação acima
+      chave = conjuntoChaves.resolver(token, fimCabecalho);
+      if (chave == null) {
+        return Optional.of(ResultadoVerificacao.inativo(ResultadoVerificacao.Origem.LOCAL));
+      }
+    }
+
+    ClaimsVerificadas claims = verificador.verificar(token, fimCabecalho, chave.chavePublica());
+    if (claims == null || !claims.ativo()) {
+      return Optional.of(ResultadoVerificacao.inativo(ResultadoVerificacao.Origem.LOCAL));
+    }
+    if (!estadoRevogacoes.atualizado()) {
+      return Optional.empty();
+    }
+    if (estadoRevogacoes.revogado(claims.jti())
+        || claims.versao() < estadoRevogacoes.versaoMinima(claims.uid())) {
+      return Optional.of(ResultadoVerificacao.inativo(ResultadoVerificacao.Origem.LOCAL));
+    }
+    return Optional.of(
+        new ResultadoVerificacao(
+            true,
+            claims.sub(),
+            claims.uid(),
+            claims.role(),
+            claims.exp(),
+            ResultadoVerificacao.Origem.LOCAL));
+  }
+
+  /** Aplica a revogação de um ‘token’ pelo jti. */
+  public void revogar(String jti, Instant expiraEm) {
+    estadoRevogacoes.revogar(jti, expiraEm.getEpochSecond());
+  }
+
+  /**
+   * Aplica a versão vigente dos ‘tokens’ do usuário: tokens com versão anterior passam a ser
+   * recusados (todas as sessões revogadas).
+   */
+  public void registrarVersao(UUID usuarioId, long versaoVigente) {
+    estadoRevogacoes.registrarVersao(usuarioId, versaoVigente);
+  }
+
+  /**
+   * Confirma que revogações e versões estão em dia até este instante. Deve ser chamado a cada
+   * leitura do feed, mesmo sem novidades.
+   */
+  public void confirmarFeed() {
+    estadoRevogacoes.confirmarAtualizacao();
+  }
+
+  @Override
+  public void close() {
+    agendador.shutdownNow();
+    envios.shutdownNow();
+  }
+
+  /** Configuração do {@link ClienteAutenticacao}. */
+  public static final class Builder {
+
+    private URI urlBase;
+    private Supplier<String> credencial;
+    private TransporteAutenticacao transporte;
+    private Clock clock = Clock.systemUTC();
+    private Duration timeout = Duration.ofSeconds(2);
+    private Duration toleranciaFeed = Duration.ofSeconds(30);
+    private Duration intervaloAtualizacaoJwks = Duration.ofMinutes(5);
+    private Duration intervaloMinimoJwks = Duration.ofSeconds(30);
+    private int tamanhoMaximoLote = 100;
+    private Duration esperaLote = Duration.ofMillis(2);
+
+    private Builder() {}
+
+    /** Endereço da API de autenticação, usado pelo {@link TransporteHttp}. */
+    public Builder urlBase(URI urlBase) {
+      this.urlBase = urlBase;
+      return this;
+    }
+
+    /** Fornece o ‘token’ de acesso do próprio serviço, exigido pela introspecção. */
+    public Builder credencial(Supplier<String> credencial) {
+      this.credencial = credencial;
+      return this;
+    }
+
+    /** Substitui o {@link TransporteHttp}; dispensa {@code urlBase} e {@code credencial}. */
+    public Builder transporte(TransporteAutenticacao transporte) {
+      this.transporte = transporte;
+      return this;
+    }
+
+    public Builder clock(Clock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    public Builder timeout(Duration timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+
+    /** Tempo sem {@link #confirmarFeed()} após o qual os tokens vão para a introspecção. */
+    public Builder toleranciaFeed(Duration toleranciaFeed) {
+      this.toleranciaFeed = toleranciaFeed;
+      return this;
+    }
+
+    /**
+     * Intervalo de recarga periódica do JWKS; deve ser menor que a antecedência com que a API
+     * publica uma nova chave antes de usá-la (10 minutos por padrão).
+     */
+    public Builder intervaloAtualizacaoJwks(Duration intervaloAtualizacaoJwks) {
+      this.intervaloAtualizacaoJwks = intervaloAtualizacaoJwks;
+      return this;
+    }
+
+    /** Intervalo mínimo entre recargas do JWKS provocadas por {@code kid} desconhecido. */
+    public Builder intervaloMinimoJwks(Duration intervaloMinimoJwks) {
+      this.intervaloMinimoJwks = intervaloMinimoJwks;
+      return this;
+    }
+
+    /** Não deve exceder {@code seguranca.introspeccao.tamanho-maximo-lote} da API. */
+    public Builder tamanhoMaximoLote(int tamanhoMaximoLote) {
+      this.tamanhoMaximoLote = tamanhoMaximoLote;
+      return this;
+    }
+
+    /** Tempo máximo que um token espera pelos demais antes de o lote ser enviado. */
+    public Builder esperaLote(Duration esperaLote) {
+      this.esperaLote = esperaLote;
+      return this;
+    }
+
+    public ClienteAutenticacao build() {
+      if (transporte == null) {
+        transporte =
+            new TransporteHttp(
+                Objects.requireNonNull(urlBase, "urlBase"),
+                Objects.requireNonNull(credencial, "credencial"),
+                timeout);
+      }
+      return new ClienteAutenticacao(this);
+    }
+  }
+}
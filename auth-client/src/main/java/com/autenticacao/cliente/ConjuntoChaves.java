@@ -0,0 +1,228 @@
+package com.autenticacao.cliente;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Cópia local do JWKS da API de autenticação.
+ *
+ * <p>Para cada chave é montado o cabeçalho JWT que a API emite com ela; na verificação, o
+ * cabeçalho do ‘token’ é comparado com esses cabeçalhos sem ser decodificado. O conjunto é
+ * substituído por inteiro a cada recarga, então chaves retiradas do JWKS deixam de ser aceitas.
+ */
+final class ConjuntoChaves {
+
+  private static final JsonFactory JSON = new JsonFactory();
+  private static final ECParameterSpec P256 = parametrosP256();
+
+  private final TransporteAutenticacao transporte;
+  private final Clock clock;
+  private final Duration intervaloMinimoAtualizacao;
+  private final AtomicBoolean atualizando = new AtomicBoolean();
+
+  private volatile Estado estado = new Estado(List.of(), Map.of(), null);
+  private volatile Instant ultimaTentativa;
+  private volatile boolean ultimaAtualizacaoFalhou;
+
+  ConjuntoChaves(
+      TransporteAutenticacao transporte, Clock clock, Duration intervaloMinimoAtualizacao) {
+    this.transporte = transporte;
+    this.clock = clock;
+    this.intervaloMinimoAtualizacao = intervaloMinimoAtualizacao;
+  }
+
+  /**
+   * Chave do ‘token’: primeiro pela comparação direta do cabeçalho, depois pelo {@code kid} lido do
+   * cabeçalho.
+   *
+   * @return chave, ou null se o kid for desconhecido ou o cabeçalho inválido
+   */
+  Chave resolver(String token, int fimCabecalho) {
+    Estado atual = estado;
+    for (Chave chave : atual.chaves()) {
+      String cabecalho = chave.cabecalhoCodificado();
+      if (cabecalho.length() == fimCabecalho && token.startsWith(cabecalho)) {
+        return chave;
+      }
+    }
+    String kid = VerificadorToken.lerKid(token, fimCabecalho);
+    return kid == null ? null : atual.porKid().get(kid);
+  }
+
+  /**
+   * Recarrega o JWKS, no máximo uma vez a cada {@code intervaloMinimoAtualizacao} e por uma thread
+   * de cada vez; as demais seguem sem esperar.
+   *
+   * @return {@code true} se esta chamada recarregou o conjunto
+   */
+  boolean atualizar() {
+    return iniciarAtualizacao() && recarregar();
+  }
+
+  /**
+   * Como {@link #atualizar()}, mas a recarga roda em {@code executor} e quem chama não espera por
+   * ela. Enquanto a recarga está em andamento o conjunto não é {@link #confiavel()}.
+   */
+  void atualizarEmSegundoPlano(Executor executor) {
+    if (!iniciarAtualizacao()) {
+      return;
+    }
+    try {
+      executor.execute(this::recarregar);
+    } catch (RejectedExecutionException e) {
+      atualizando.set(false);
+    }
+  }
+
+  /** Reserva a recarga para quem chama, respeitando o intervalo mínimo entre tentativas. */
+  private boolean iniciarAtualizacao() {
+    Instant agora = clock.instant();
+    Instant anterior = ultimaTentativa;
+    if (anterior != null && agora.isBefore(anterior.plus(intervaloMinimoAtualizacao))) {
+      return false;
+    }
+    if (!atualizando.compareAndSet(false, true)) {
+      return false;
+    }
+    ultimaTentativa = agora;
+    return true;
+  }
+
+  /** Deve ser chamado apenas depois de {@link #iniciarAtualizacao()} devolver {@code true}. */
+  private boolean recarregar() {
+    try {
+      estado = carregar(transporte.buscarJwks(), clock.instant());
+      ultimaAtualizacaoFalhou = false;
+      return true;
+    } catch (IOException | RuntimeException e) {
+      ultimaAtualizacaoFalhou = true;
+      return false;
+    } finally {
+      atualizando.set(false);
+    }
+  }
+
+  /**
+   * Indica se uma chave ausente do conjunto significa ‘token’ inválido: o JWKS foi carregado, a
+   * última recarga deu certo e não há outra em andamento.
+   */
+  boolean confiavel() {
+    return estado.carregadoEm() != null && !ultimaAtualizacaoFalhou && !atualizando.get();
+  }
+
+  private static Estado carregar(String jwks, Instant agora) throws IOException {
+    List<Chave> chaves = new ArrayList<>();
+    try (JsonParser parser = JSON.createParser(jwks)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("JWKS inválido");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String campo = parser.currentName();
+        JsonToken valor = parser.nextToken();
+        if ("keys".equals(campo) && valor == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Chave chave = lerChave(parser);
+            if (chave != null) {
+              chaves.add(chave);
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+
+    Map<String, Chave> porKid = new HashMap<>();
+    chaves.forEach(chave -> porKid.put(chave.kid(), chave));
+    return new Estado(List.copyOf(chaves), Map.copyOf(porKid), agora);
+  }
+
+  /** Lê uma chave do JWKS; chaves de outro tipo, curva ou algoritmo são ignoradas. */
+  private static Chave lerChave(JsonParser parser) throws IOException {
+    Map<String, String> campos = new HashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String campo = parser.currentName();
+      if (parser.nextToken() == JsonToken.VALUE_STRING) {
+        campos.put(campo, parser.getText());
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    String kid = campos.get("kid");
+    if (kid == null
+        || !"EC".equals(campos.get("kty"))
+        || !"P-256".equals(campos.get("crv"))
+        || !VerificadorToken.ALGORITMO_ES256.equals(campos.getOrDefault("alg", "ES256"))
+        || campos.get("x") == null
+        || campos.get("y") == null) {
+      return null;
+    }
+    try {
+      Base64.Decoder base64 = Base64.getUrlDecoder();
+      ECPoint ponto =
+          new ECPoint(
+              new BigInteger(1, base64.decode(campos.get("x"))),
+              new BigInteger(1, base64.decode(campos.get("y"))));
+      ECPublicKey chavePublica =
+          (ECPublicKey)
+              KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(ponto, P256));
+      return new Chave(kid, codificarCabecalho(kid), chavePublica);
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /** Mesmo cabeçalho emitido pela API para a chave, em Base64 URL sem padding. */
+  private static String codificarCabecalho(String kid) {
+    String cabecalho =
+        "{\"alg\":\""
+            + VerificadorToken.ALGORITMO_ES256
+            + "\",\"typ\":\"JWT\",\"kid\":\""
+            + new String(JsonStringEncoder.getInstance().quoteAsString(kid))
+            + "\"}";
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cabecalho.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ECParameterSpec parametrosP256() {
+    try {
+      AlgorithmParameters parametros = AlgorithmParameters.getInstance("EC");
+      parametros.init(new ECGenParameterSpec("secp256r1"));
+      return parametros.getParameterSpec(ECParameterSpec.class);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  record Chave(String kid, String cabecalhoCodificado, ECPublicKey chavePublica) {}
+
+  /** Estado imutável do conjunto, trocado por inteiro a cada recarga. */
+  private record Estado(List<Chave> chaves, Map<String, Chave> porKid, Instant carregadoEm) {}
+}
@@ -0,0 +1,70 @@
+package com.autenticacao.cliente;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revogações e versões de ‘tokens’ recebidas do serviço consumidor, aplicadas de forma
+ * incremental.
+ *
+ * <p>As decisões locais só são confiáveis enquanto esses dados estiverem em dia: se o consumidor
+ * não confirmar a atualização dentro da {@code tolerancia}, o estado é considerado desatualizado e
+ * os tokens passam a ser decididos por introspecção.
+ */
+final class EstadoRevogacoes {
+
+  private final Map<String, Long> revogados = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> versoes = new ConcurrentHashMap<>();
+  private final Clock clock;
+  private final Duration tolerancia;
+
+  private volatile Instant atualizadoEm;
+
+  EstadoRevogacoes(Clock clock, Duration tolerancia) {
+    this.clock = clock;
+    this.tolerancia = tolerancia;
+  }
+
+  void revogar(String jti, long expiraEm) {
+    if (expiraEm > clock.instant().getEpochSecond()) {
+      revogados.merge(jti, expiraEm, Math::max);
+    }
+  }
+
+  /** Registra a versão vigente dos tokens do usuário; versões anteriores são ignoradas. */
+  void registrarVersao(UUID usuarioId, long versaoVigente) {
+    versoes.merge(usuarioId, versaoVigente, Math::max);
+  }
+
+  void confirmarAtualizacao() {
+    atualizadoEm = clock.instant();
+  }
+
+  boolean atualizado() {
+    Instant ultima = atualizadoEm;
+    return ultima != null && !clock.instant().isAfter(ultima.plus(tolerancia));
+  }
+
+  boolean revogado(String jti) {
+    return revogados.containsKey(jti);
+  }
+
+  /** Tokens com versão menor que a retornada foram revogados com as demais sessões do usuário. */
+  long versaoMinima(UUID usuarioId) {
+    return versoes.getOrDefault(usuarioId, 0L);
+  }
+
+  /** Remove revogações de tokens já expirados, que seriam recusados de qualquer forma. */
+  void limparExpirados() {
+    long agora = clock.instant().getEpochSecond();
+    revogados.values().removeIf(expiraEm -> expiraEm <= agora);
+  }
+
+  int quantidadeRevogados() {
+    return revogados.size();
+  }
+}
@@ -0,0 +1,185 @@
+package com.autenticacao.cliente;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Agrupa os ‘tokens’ que não puderam ser decididos localmente em chamadas ao endpoint de
+ * introspecção em lote. Um lote é enviado quando atinge {@code tamanhoMaximo} ou quando o primeiro
+ * token dele espera {@code espera}, o que ocorrer primeiro.
+ *
+ * <p>O {@code agendador} só dispara os temporizadores; as chamadas ao transporte rodam em {@code
+ * envios}, para que uma introspecção lenta não atrase os demais lotes nem a recarga do JWKS.
+ */
+final class IntrospeccaoEmLote {
+
+  private static final JsonFactory JSON = new JsonFactory();
+
+  private final TransporteAutenticacao transporte;
+  private final ScheduledExecutorService agendador;
+  private final Executor envios;
+  private final int tamanhoMaximo;
+  private final long esperaNanos;
+  private final Object trava = new Object();
+
+  private List<Pendente> pendentes = new ArrayList<>();
+  private ScheduledFuture<?> envioAgendado;
+
+  IntrospeccaoEmLote(
+      TransporteAutenticacao transporte,
+      ScheduledExecutorService agendador,
+      Executor envios,
+      int tamanhoMaximo,
+      Duration espera) {
+    this.transporte = transporte;
+    this.agendador = agendador;
+    this.envios = envios;
+    this.tamanhoMaximo = tamanhoMaximo;
+    this.esperaNanos = espera.toNanos();
+  }
+
+  CompletableFuture<ResultadoVerificacao> introspectar(String token) {
+    Pendente pendente = new Pendente(token, new CompletableFuture<>());
+    List<Pendente> lote = null;
+    synchronized (trava) {
+      pendentes.add(pendente);
+      if (pendentes.size() >= tamanhoMaximo) {
+        lote = retirarPendentes();
+      } else if (pendentes.size() == 1) {
+        envioAgendado =
+            agendador.schedule(this::enviarPendentes, esperaNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    if (lote != null) {
+      despachar(lote);
+    }
+    return pendente.resultado();
+  }
+
+  private void enviarPendentes() {
+    List<Pendente> lote;
+    synchronized (trava) {
+      lote = retirarPendentes();
+    }
+    despachar(lote);
+  }
+
+  private void despachar(List<Pendente> lote) {
+    if (lote.isEmpty()) {
+      return;
+    }
+    try {
+      envios.execute(() -> enviar(lote));
+    } catch (RejectedExecutionException e) {
+      lote.forEach(pendente -> pendente.resultado().completeExceptionally(e));
+    }
+  }
+
+  /** Deve ser chamado com a trava. */
+  private List<Pendente> retirarPendentes() {
+    List<Pendente> lote = pendentes;
+    pendentes = new ArrayList<>();
+    if (envioAgendado != null) {
+      envioAgendado.cancel(false);
+      envioAgendado = null;
+    }
+    return lote;
+  }
+
+  private void enviar(List<Pendente> lote) {
+    try {
+      List<ResultadoVerificacao> resultados =
+          lerResposta(transporte.introspectarLote(escreverRequisicao(lote)));
+      if (resultados.size() != lote.size()) {
+        throw new IOException("Introspecção em lote retornou quantidade diferente de resultados");
+      }
+      for (int i = 0; i < lote.size(); i++) {
+        lote.get(i).resultado().complete(resultados.get(i));
+      }
+    } catch (IOException | RuntimeException e) {
+      lote.forEach(pendente -> pendente.resultado().completeExceptionally(e));
+    }
+  }
+
+  static String escreverRequisicao(List<Pendente> lote) throws IOException {
+    StringWriter saida = new StringWriter(lote.size() * 320);
+    try (JsonGenerator gerador = JSON.createGenerator(saida)) {
+      gerador.writeStartObject();
+      gerador.writeArrayFieldStart("tokens");
+      for (Pendente pendente : lote) {
+        gerador.writeString(pendente.token());
+      }
+      gerador.writeEndArray();
+      gerador.writeEndObject();
+    }
+    return saida.toString();
+  }
+
+  static List<ResultadoVerificacao> lerResposta(String corpo) throws IOException {
+    List<ResultadoVerificacao> resultados = new ArrayList<>();
+    try (JsonParser parser = JSON.createParser(corpo)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Resposta de introspecção inválida");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String campo = parser.currentName();
+        JsonToken valor = parser.nextToken();
+        if ("resultados".equals(campo) && valor == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            resultados.add(lerResultado(parser));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return resultados;
+  }
+
+  private static ResultadoVerificacao lerResultado(JsonParser parser) throws IOException {
+    boolean ativo = false;
+    String sub = null;
+    String uid = null;
+    String role = null;
+    long exp = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String campo = parser.currentName();
+      parser.nextToken();
+      switch (campo) {
+        case "active" -> ativo = parser.getValueAsBoolean();
+        case "sub" -> sub = parser.getValueAsString();
+        case "uid" -> uid = parser.getValueAsString();
+        case "role" -> role = parser.getValueAsString();
+        case "exp" -> exp = parser.getValueAsLong();
+        default -> parser.skipChildren();
+      }
+    }
+    if (!ativo) {
+      return ResultadoVerificacao.inativo(ResultadoVerificacao.Origem.INTROSPECCAO);
+    }
+    return new ResultadoVerificacao(
+        true,
+        sub,
+        uid == null ? null : UUID.fromString(uid),
+        role,
+        exp,
+        ResultadoVerificacao.Origem.INTROSPECCAO);
+  }
+
+  record Pendente(String token, CompletableFuture<ResultadoVerificacao> resultado) {}
+}
@@ -0,0 +1,35 @@
+package com.autenticacao.cliente;
+
+import java.util.UUID;
+
+/**
+ * Resultado da verificação de um ‘token’ de acesso. Para tokens inativos apenas {@code ativo} e
+ * {@code origem} são preenchidos.
+ *
+ * @param ativo se o token é válido, não revogado e de usuário ativo
+ * @param sub e-mail do usuário
+ * @param uid identificador do usuário
+ * @param role papel do usuário
+ * @param exp expiração do token, em segundos desde a época
+ * @param origem onde a decisão foi tomada
+ */
+public record ResultadoVerificacao(
+    boolean ativo, String sub, UUID uid, String role, long exp, Origem origem) {
+
+  private static final ResultadoVerificacao INATIVO_LOCAL =
+      new ResultadoVerificacao(false, null, null, null, 0, Origem.LOCAL);
+  private static final ResultadoVerificacao INATIVO_INTROSPECCAO =
+      new ResultadoVerificacao(false, null, null, null, 0, Origem.INTROSPECCAO);
+
+  public static ResultadoVerificacao inativo(Origem origem) {
+    return origem == Origem.LOCAL ? INATIVO_LOCAL : INATIVO_INTROSPECCAO;
+  }
+
+  /** Onde a decisão sobre o ‘token’ foi tomada. */
+  public enum Origem {
+    /** Verificado no próprio serviço, com o JWKS e os dados de revogação em memória. */
+    LOCAL,
+    /** Decidido pela API de autenticação, via introspecção em lote. */
+    INTROSPECCAO
+  }
+}
@@ -0,0 +1,21 @@
+package com.autenticacao.cliente;
+
+import java.io.IOException;
+
+/**
+ * Acesso à API de autenticação usado pelo {@link ClienteAutenticacao}. A implementação padrão é
+ * {@link TransporteHttp}; serviços que já tenham um cliente HTTP próprio podem fornecer outra.
+ */
+public interface TransporteAutenticacao {
+
+  /**
+   * @return corpo JSON do endpoint {@code /.well-known/jwks.json}
+   */
+  String buscarJwks() throws IOException;
+
+  /**
+   * @param corpo JSON no formato {@code {"tokens": [...]}}
+   * @return corpo JSON da resposta da introspecção em lote
+   */
+  String introspectarLote(String corpo) throws IOException;
+}
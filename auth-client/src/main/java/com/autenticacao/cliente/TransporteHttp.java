@@ -0,0 +1,67 @@
+package com.autenticacao.cliente;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * {@link TransporteAutenticacao} sobre o {@link HttpClient} do JDK. A introspecção exige um
+ * ‘token’ de acesso do próprio serviço consumidor, com perfil ADMIN, obtido a cada chamada de
+ * {@code credencial}.
+ */
+public final class TransporteHttp implements TransporteAutenticacao {
+
+  static final String JWKS = "/.well-known/jwks.json";
+  static final String INTROSPECCAO_LOTE = "/api/autenticacao/introspeccao/lote";
+  private static final int HTTP_200_OK = 200;
+
+  private final HttpClient httpClient;
+  private final URI jwks;
+  private final URI introspeccaoLote;
+  private final Supplier<String> credencial;
+  private final Duration timeout;
+
+  public TransporteHttp(URI urlBase, Supplier<String> credencial, Duration timeout) {
+    this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    this.jwks = urlBase.resolve(JWKS);
+    this.introspeccaoLote = urlBase.resolve(INTROSPECCAO_LOTE);
+    this.credencial = credencial;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public String buscarJwks() throws IOException {
+    return enviar(HttpRequest.newBuilder(jwks).timeout(timeout).GET().build());
+  }
+
+  @Override
+  public String introspectarLote(String corpo) throws IOException {
+    return enviar(
+        HttpRequest.newBuilder(introspeccaoLote)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + credencial.get())
+            .POST(HttpRequest.BodyPublishers.ofString(corpo))
+            .build());
+  }
+
+  private String enviar(HttpRequest requisicao) throws IOException {
+    try {
+      HttpResponse<String> resposta =
+          httpClient.send(requisicao, HttpResponse.BodyHandlers.ofString());
+      if (resposta.statusCode() != HTTP_200_OK) {
+        throw new IOException(
+            "Resposta " + resposta.statusCode() + " da API de autenticação em " + requisicao.uri());
+      }
+      return resposta.body();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+    }
+  }
+}
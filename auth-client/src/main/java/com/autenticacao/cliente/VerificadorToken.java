@@ -0,0 +1,269 @@
+package com.autenticacao.cliente;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Verificação local do formato fixo dos ‘tokens’ de acesso (ES256, cabeçalho com {@code kid}).
+ *
+ * <p>A assinatura é conferida antes de qualquer leitura de JSON e o payload é lido com o parser de
+ * streaming em uma única passada. Cada thread reutiliza sua instância de {@link Signature} e seus
+ * buffers, de modo que um token válido não aloca além das próprias claims.
+ */
+final class VerificadorToken {
+
+  static final String ALGORITMO_ES256 = "ES256";
+  static final String EMISSOR = "auth";
+  private static final String ALGORITMO_ASSINATURA = "SHA256withECDSAinP1363Format";
+  private static final int TAMANHO_ASSINATURA = 64;
+  private static final int TAMANHO_ASSINATURA_CODIFICADA = 86;
+
+  private static final JsonFactory JSON = new JsonFactory();
+  private static final byte[] VALORES_BASE64_URL = new byte[128];
+  private static final ThreadLocal<Contexto> CONTEXTO = ThreadLocal.withInitial(Contexto::new);
+
+  static {
+    Arrays.fill(VALORES_BASE64_URL, (byte) -1);
+    String alfabeto = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alfabeto.length(); i++) {
+      VALORES_BASE64_URL[alfabeto.charAt(i)] = (byte) i;
+    }
+  }
+
+  private final Clock clock;
+
+  VerificadorToken(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Confere a estrutura do token.
+   *
+   * @return posição do primeiro ponto (fim do cabeçalho), ou -1 se o formato for inválido
+   */
+  static int fimCabecalho(String token) {
+    if (token == null) {
+      return -1;
+    }
+    int fimCabecalho = token.indexOf('.');
+    int fimPayload = fimCabecalho < 0 ? -1 : token.indexOf('.', fimCabecalho + 1);
+    if (fimCabecalho <= 0
+        || fimPayload < 0
+        || token.length() - fimPayload - 1 != TAMANHO_ASSINATURA_CODIFICADA) {
+      return -1;
+    }
+    return fimCabecalho;
+  }
+
+  /**
+   * Lê o {@code kid} do cabeçalho. Usado apenas quando o cabeçalho não coincide com nenhum dos
+   * cabeçalhos conhecidos.
+   *
+   * @return kid, ou null se o cabeçalho for inválido ou de outro algoritmo
+   */
+  static String lerKid(String token, int fimCabecalho) {
+    byte[] codificado = token.substring(0, fimCabecalho).getBytes(StandardCharsets.US_ASCII);
+    byte[] cabecalho = new byte[(fimCabecalho * 3) / 4 + 1];
+    int tamanho = decodificarBase64Url(codificado, 0, fimCabecalho, cabecalho);
+    if (tamanho < 0) {
+      return null;
+    }
+
+    try (JsonParser parser = JSON.createParser(cabecalho, 0, tamanho)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      String kid = null;
+      String algoritmo = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String campo = parser.currentName();
+        parser.nextToken();
+        if ("kid".equals(campo)) {
+          kid = parser.getValueAsString();
+        } else if ("alg".equals(campo)) {
+          algoritmo = parser.getValueAsString();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return ALGORITMO_ES256.equals(algoritmo) ? kid : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Verifica assinatura, emissor e expiração e extrai as claims.
+   *
+   * @param token token com estrutura já conferida por {@link #fimCabecalho(String)}
+   * @param fimCabecalho posição do fim do cabeçalho
+   * @param chave chave pública correspondente ao kid do token
+   * @return claims verificadas, ou null se o token for inválido por qualquer motivo
+   */
+  ClaimsVerificadas verificar(String token, int fimCabecalho, ECPublicKey chave) {
+    int fimPayload = token.indexOf('.', fimCabecalho + 1);
+    Contexto contexto = CONTEXTO.get();
+    byte[] bytes = contexto.copiarAscii(token);
+    if (bytes == null) {
+      return null;
+    }
+
+    byte[] assinaturaRecebida = contexto.assinaturaRecebida;
+    int tamanhoAssinatura =
+        decodificarBase64Url(bytes, fimPayload + 1, token.length(), assinaturaRecebida);
+    if (tamanhoAssinatura != TAMANHO_ASSINATURA) {
+      return null;
+    }
+
+    try {
+      Signature assinatura = contexto.assinatura;
+      assinatura.initVerify(chave);
+      assinatura.update(bytes, 0, fimPayload);
+      if (!assinatura.verify(assinaturaRecebida)) {
+        return null;
+      }
+    } catch (GeneralSecurityException e) {
+      return null;
+    }
+
+    byte[] payload = contexto.payload(fimPayload - fimCabecalho);
+    int tamanhoPayload = decodificarBase64Url(bytes, fimCabecalho + 1, fimPayload, payload);
+    return tamanhoPayload < 0 ? null : lerPayload(payload, tamanhoPayload);
+  }
+
+  private ClaimsVerificadas lerPayload(byte[] payload, int tamanho) {
+    String subject = null;
+    String emissor = null;
+    String jti = null;
+    String usuarioId = null;
+    String role = null;
+    Boolean ativo = null;
+    long versao = -1;
+    long expiracao = -1;
+
+    try (JsonParser parser = JSON.createParser(payload, 0, tamanho)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String campo = parser.currentName();
+        JsonToken valor = parser.nextToken();
+        switch (campo) {
+          case "sub" -> subject = parser.getValueAsString();
+          case "iss" -> emissor = parser.getValueAsString();
+          case "jti" -> jti = parser.getValueAsString();
+          case "uid" -> usuarioId = parser.getValueAsString();
+          case "role" -> role = parser.getValueAsString();
+          case "ativo" -> ativo = valor.isBoolean() ? parser.getBooleanValue() : null;
+          case "ver" -> versao = valor == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+          case "exp" ->
+              expiracao = valor == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      return null;
+    }
+
+    if (!EMISSOR.equals(emissor)
+        || subject == null
+        || jti == null
+        || usuarioId == null
+        || role == null
+        || ativo == null
+        || versao < 0
+        || expiracao <= clock.instant().getEpochSecond()) {
+      return null;
+    }
+    try {
+      return new ClaimsVerificadas(
+          jti, subject, UUID.fromString(usuarioId), role, ativo, versao, expiracao);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Decodifica Base64 URL sem padding diretamente para {@code destino}, sem alocar. Só aceita a
+   * forma canônica: os bits que sobram no último caractere precisam ser zero, senão textos
+   * diferentes decodificariam para os mesmos bytes.
+   *
+   * @return quantidade de bytes escritos, ou -1 se a entrada for inválida ou não couber
+   */
+  static int decodificarBase64Url(byte[] origem, int inicio, int fim, byte[] destino) {
+    int tamanho = fim - inicio;
+    if (tamanho % 4 == 1 || (tamanho * 3) / 4 > destino.length) {
+      return -1;
+    }
+    int acumulado = 0;
+    int bits = 0;
+    int posicao = 0;
+    for (int i = inicio; i < fim; i++) {
+      int caractere = origem[i];
+      int valor = caractere < 0 ? -1 : VALORES_BASE64_URL[caractere];
+      if (valor < 0) {
+        return -1;
+      }
+      acumulado = (acumulado << 6) | valor;
+      bits += 6;
+      if (bits >= 8) {
+        bits -= 8;
+        destino[posicao++] = (byte) (acumulado >> bits);
+        acumulado &= (1 << bits) - 1;
+      }
+    }
+    return acumulado == 0 ? posicao : -1;
+  }
+
+  /** Estado reutilizado por thread: instância de {@link Signature} e buffers de trabalho. */
+  private static final class Contexto {
+
+    private final Signature assinatura;
+    private final byte[] assinaturaRecebida = new byte[TAMANHO_ASSINATURA];
+    private byte[] token = new byte[1024];
+    private byte[] payload = new byte[768];
+
+    private Contexto() {
+      try {
+        assinatura = Signature.getInstance(ALGORITMO_ASSINATURA);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    /** Copia o token para o buffer da thread; retorna null se houver caractere não ASCII. */
+    private byte[] copiarAscii(String valor) {
+      int tamanho = valor.length();
+      if (token.length < tamanho) {
+        token = new byte[tamanho];
+      }
+      for (int i = 0; i < tamanho; i++) {
+        char caractere = valor.charAt(i);
+        if (caractere > 127) {
+          return null;
+        }
+        token[i] = (byte) caractere;
+      }
+      return token;
+    }
+
+    private byte[] payload(int tamanhoCodificado) {
+      int necessario = (tamanhoCodificado * 3) / 4 + 1;
+      if (payload.length < necessario) {
+        payload = new byte[necessario];
+      }
+      return payload;
+    }
+  }
+}
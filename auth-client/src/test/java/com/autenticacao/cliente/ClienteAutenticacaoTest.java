@@ -0,0 +1,267 @@
+package com.autenticacao.cliente;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.autenticacao.cliente.ResultadoVerificacao.Origem;
+
+class ClienteAutenticacaoTest {
+
+  private static final String RESPOSTA_INATIVO = "{\"active\":false}";
+
+  private final EmissorTokensTeste emissor = new EmissorTokensTeste();
+  private final UUID usuarioId = UUID.randomUUID();
+  private final Instant expiraEm = Instant.now().plusSeconds(900);
+
+  private TransporteFalso transporte;
+  private ClienteAutenticacao cliente;
+
+  @BeforeEach
+  void setUp() {
+    transporte = new TransporteFalso(emissor.jwks());
+    cliente =
+        ClienteAutenticacao.builder()
+            .transporte(transporte)
+            .intervaloMinimoJwks(Duration.ZERO)
+            .esperaLote(Duration.ofMillis(50))
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cliente.close();
+  }
+
+  @Test
+  @DisplayName("Deve verificar localmente token válido com feed em dia")
+  void deveVerificarLocalmente() {
+    cliente.confirmarFeed();
+
+    ResultadoVerificacao resultado =
+        cliente.verificar(emissor.emitir("jti", usuarioId, 0, expiraEm));
+
+    assertTrue(resultado.ativo());
+    assertEquals(Origem.LOCAL, resultado.origem());
+    assertEquals(usuarioId, resultado.uid());
+    assertEquals("usuario@email.com", resultado.sub());
+    assertEquals("USER", resultado.role());
+    assertEquals(expiraEm.getEpochSecond(), resultado.exp());
+    assertEquals(0, transporte.lotes.size());
+  }
+
+  @Test
+  @DisplayName("Deve recusar localmente token adulterado, expirado ou malformado")
+  void deveRecusarTokenInvalido() {
+    cliente.confirmarFeed();
+    String token = emissor.emitir("jti", usuarioId, 0, expiraEm);
+    char[] adulterado = token.toCharArray();
+    int posicao = adulterado.length - 10;
+    adulterado[posicao] = adulterado[posicao] == 'A' ? 'B' : 'A';
+
+    assertFalse(cliente.verificar(new String(adulterado)).ativo());
+    char ultimo = token.charAt(token.length() - 1);
+    String naoCanonico = token.substring(0, token.length() - 1) + (char) (ultimo + 1);
+    assertFalse(cliente.verificar(naoCanonico).ativo());
+    String expirado = emissor.emitir("jti", usuarioId, 0, Instant.now().minusSeconds(1));
+    assertFalse(cliente.verificar(expirado).ativo());
+    assertFalse(cliente.verificar("nao-e-um-token").ativo());
+    assertEquals(0, transporte.lotes.size());
+  }
+
+  @Test
+  @DisplayName("Deve recusar token revogado pelo jti ou com versão anterior à vigente")
+  void deveAplicarRevogacoesDoFeed() {
+    String revogado = emissor.emitir("revogado", usuarioId, 0, expiraEm);
+    String versaoAntiga = emissor.emitir("antigo", usuarioId, 0, expiraEm);
+    String versaoAtual = emissor.emitir("atual", usuarioId, 1, expiraEm);
+
+    cliente.revogar("revogado", expiraEm);
+    cliente.registrarVersao(usuarioId, 1);
+    cliente.confirmarFeed();
+
+    assertFalse(cliente.verificar(revogado).ativo());
+    assertFalse(cliente.verificar(versaoAntiga).ativo());
+    assertTrue(cliente.verificar(versaoAtual).ativo());
+    assertEquals(0, transporte.lotes.size());
+  }
+
+  @Test
+  @DisplayName("Deve recorrer à introspecção em lote quando o feed não estiver em dia")
+  void deveIntrospectarEmLoteSemFeed() {
+    transporte.respostaLote =
+        quantidade ->
+            "{\"resultados\":["
+                + String.join(",", Collections.nCopies(quantidade, RESPOSTA_INATIVO))
+                + "]}";
+    String primeiro = emissor.emitir("um", usuarioId, 0, expiraEm);
+    String segundo = emissor.emitir("dois", usuarioId, 0, expiraEm);
+
+    assertTrue(cliente.verificarLocalmente(primeiro).isEmpty());
+    CompletableFuture<ResultadoVerificacao> a = cliente.verificarAsync(primeiro);
+    CompletableFuture<ResultadoVerificacao> b = cliente.verificarAsync(segundo);
+
+    assertFalse(a.join().ativo());
+    assertEquals(Origem.INTROSPECCAO, b.join().origem());
+    assertEquals(1, transporte.lotes.size());
+    assertTrue(transporte.lotes.get(0).contains(primeiro));
+    assertTrue(transporte.lotes.get(0).contains(segundo));
+  }
+
+  @Test
+  @DisplayName("Deve recarregar o JWKS em segundo plano ao encontrar kid desconhecido")
+  void deveRecarregarJwksComKidDesconhecido() throws InterruptedException {
+    cliente.confirmarFeed();
+    EmissorTokensTeste novaChave = new EmissorTokensTeste();
+    transporte.jwks = novaChave.jwks();
+    int buscasAntes = transporte.buscasJwks.get();
+    String token = novaChave.emitir("jti", usuarioId, 0, expiraEm);
+
+    cliente.verificarLocalmente(token);
+    aguardar(
+        () -> cliente.verificarLocalmente(token).filter(ResultadoVerificacao::ativo).isPresent());
+
+    assertEquals(buscasAntes + 1, transporte.buscasJwks.get());
+    assertEquals(Origem.LOCAL, cliente.verificar(token).origem());
+  }
+
+  @Test
+  @DisplayName("Não deve bloquear quem verifica enquanto o JWKS é recarregado")
+  void naoDeveBloquearVerificacaoDuranteRecargaJwks() {
+    cliente.confirmarFeed();
+    EmissorTokensTeste novaChave = new EmissorTokensTeste();
+    transporte.jwks = novaChave.jwks();
+    transporte.bloqueioJwks = new CountDownLatch(1);
+    String token = novaChave.emitir("jti", usuarioId, 0, expiraEm);
+
+    try {
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(1),
+          () -> {
+            assertTrue(cliente.verificarLocalmente(token).isEmpty());
+            assertTrue(cliente.verificarLocalmente(token).isEmpty());
+          });
+    } finally {
+      transporte.bloqueioJwks.countDown();
+    }
+  }
+
+  @Test
+  @DisplayName("Lote lento não deve atrasar o envio dos lotes seguintes")
+  void loteLentoNaoDeveAtrasarOsSeguintes() {
+    ClienteAutenticacao porToken =
+        ClienteAutenticacao.builder().transporte(transporte).tamanhoMaximoLote(1).build();
+    transporte.respostaLote = quantidade -> "{\"resultados\":[" + RESPOSTA_INATIVO + "]}";
+    transporte.bloqueioLote = new CountDownLatch(1);
+    transporte.tokenLento = emissor.emitir("lento", usuarioId, 0, expiraEm);
+
+    try {
+      CompletableFuture<ResultadoVerificacao> lento =
+          porToken.verificarAsync(transporte.tokenLento);
+      CompletableFuture<ResultadoVerificacao> seguinte =
+          porToken.verificarAsync(emissor.emitir("seguinte", usuarioId, 0, expiraEm));
+
+      assertFalse(seguinte.orTimeout(1, TimeUnit.SECONDS).join().ativo());
+      assertFalse(lento.isDone());
+      transporte.bloqueioLote.countDown();
+      assertFalse(lento.orTimeout(1, TimeUnit.SECONDS).join().ativo());
+    } finally {
+      transporte.bloqueioLote.countDown();
+      porToken.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Deve recorrer à introspecção quando o JWKS não puder ser carregado")
+  void deveIntrospectarSemJwks() {
+    transporte.jwks = null;
+    transporte.respostaLote =
+        quantidade ->
+            "{\"resultados\":[{\"active\":true,\"sub\":\"usuario@email.com\",\"uid\":\""
+                + usuarioId
+                + "\",\"role\":\"USER\",\"exp\":1}]}";
+    cliente.confirmarFeed();
+    EmissorTokensTeste desconhecida = new EmissorTokensTeste();
+
+    ResultadoVerificacao resultado =
+        cliente.verificar(desconhecida.emitir("jti", usuarioId, 0, expiraEm));
+
+    assertTrue(resultado.ativo());
+    assertEquals(Origem.INTROSPECCAO, resultado.origem());
+    assertEquals(usuarioId, resultado.uid());
+  }
+
+  private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+    long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (!condicao.getAsBoolean()) {
+      assertTrue(System.nanoTime() < limite, "condição não atingida a tempo");
+      Thread.sleep(5);
+    }
+  }
+
+  private static final class TransporteFalso implements TransporteAutenticacao {
+
+    private final AtomicInteger buscasJwks = new AtomicInteger();
+    private final List<String> lotes = new CopyOnWriteArrayList<>();
+    private volatile String jwks;
+    private volatile IntFunction<String> respostaLote;
+    private volatile CountDownLatch bloqueioJwks;
+    private volatile CountDownLatch bloqueioLote;
+    private volatile String tokenLento;
+
+    private TransporteFalso(String jwks) {
+      this.jwks = jwks;
+    }
+
+    @Override
+    public String buscarJwks() throws IOException {
+      aguardarLiberacao(bloqueioJwks);
+      buscasJwks.incrementAndGet();
+      if (jwks == null) {
+        throw new IOException("indisponível");
+      }
+      return jwks;
+    }
+
+    @Override
+    public String introspectarLote(String corpo) throws IOException {
+      String lento = tokenLento;
+      if (lento != null && corpo.contains(lento)) {
+        aguardarLiberacao(bloqueioLote);
+      }
+      lotes.add(corpo);
+      int quantidade = corpo.split("\",\"", -1).length;
+      return respostaLote.apply(quantidade);
+    }
+
+    private static void aguardarLiberacao(CountDownLatch bloqueio) throws IOException {
+      if (bloqueio == null) {
+        return;
+      }
+      try {
+        bloqueio.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException(e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.autenticacao.cliente;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/** Emite ‘tokens’ no mesmo formato da API de autenticação, para os testes do cliente. */
+public class EmissorTokensTeste {
+
+  private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+  private final String kid = UUID.randomUUID().toString();
+  private final KeyPair par;
+
+  public EmissorTokensTeste() {
+    try {
+      KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+      gerador.initialize(new ECGenParameterSpec("secp256r1"));
+      par = gerador.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public String jwks() {
+    ECPublicKey publica = (ECPublicKey) par.getPublic();
+    return "{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\",\"kid\":\""
+        + kid
+        + "\",\"use\":\"sig\",\"alg\":\"ES256\",\"x\":\""
+        + coordenada(publica.getW().getAffineX())
+        + "\",\"y\":\""
+        + coordenada(publica.getW().getAffineY())
+        + "\"}]}";
+  }
+
+  public String emitir(String jti, UUID usuarioId, long versao, Instant expiraEm) {
+    String cabecalho = "{\"alg\":\"ES256\",\"typ\":\"JWT\",\"kid\":\"" + kid + "\"}";
+    String payload =
+        "{\"sub\":\"usuario@email.com\",\"iss\":\"auth\",\"jti\":\""
+            + jti
+            + "\",\"uid\":\""
+            + usuarioId
+            + "\",\"role\":\"USER\",\"ativo\":true,\"ver\":"
+            + versao
+            + ",\"exp\":"
+            + expiraEm.getEpochSecond()
+            + "}";
+    String conteudo = base64(cabecalho) + '.' + base64(payload);
+    try {
+      Signature assinatura = Signature.getInstance("SHA256withECDSAinP1363Format");
+      assinatura.initSign(par.getPrivate());
+      assinatura.update(conteudo.getBytes(StandardCharsets.US_ASCII));
+      return conteudo + '.' + BASE64_URL.encodeToString(assinatura.sign());
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String base64(String json) {
+    return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String coordenada(BigInteger valor) {
+    byte[] bytes = valor.toByteArray();
+    byte[] fixo = new byte[32];
+    int copiar = Math.min(bytes.length, 32);
+    System.arraycopy(bytes, bytes.length - copiar, fixo, 32 - copiar, copiar);
+    return BASE64_URL.encodeToString(fixo);
+  }
+}
@@ -0,0 +1,91 @@
+package com.autenticacao.cliente.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.autenticacao.cliente.ClienteAutenticacao;
+import com.autenticacao.cliente.EmissorTokensTeste;
+import com.autenticacao.cliente.TransporteAutenticacao;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Mede tempo e bytes alocados por verificação local, com o registro de revogações vazio e com
+ * muitas revogações aplicadas. Executado apenas por {@code ./gradlew :auth-client:benchmark}.
+ */
+@Tag("benchmark")
+class ClienteAutenticacaoBenchmarkTest {
+
+  private static final int AQUECIMENTO = 20_000;
+  private static final int ITERACOES = 50_000;
+  private static final int REVOGACOES = 100_000;
+
+  @Test
+  @DisplayName("Mede o custo da verificação local de um token")
+  void medirVerificacaoLocal() {
+    EmissorTokensTeste emissor = new EmissorTokensTeste();
+    Instant expiraEm = Instant.now().plusSeconds(3600);
+    String token = emissor.emitir("jti", UUID.randomUUID(), 0, expiraEm);
+
+    try (ClienteAutenticacao cliente =
+        ClienteAutenticacao.builder().transporte(transporte(emissor.jwks())).build()) {
+      cliente.confirmarFeed();
+      Resultado semRevogacoes = medir(cliente, token);
+
+      for (int i = 0; i < REVOGACOES; i++) {
+        cliente.revogar(UUID.randomUUID().toString(), expiraEm);
+      }
+      cliente.confirmarFeed();
+      Resultado comRevogacoes = medir(cliente, token);
+
+      System.out.printf("verificação local: %s%n", semRevogacoes);
+      System.out.printf("com %d revogações: %s%n", REVOGACOES, comRevogacoes);
+    }
+  }
+
+  private Resultado medir(ClienteAutenticacao cliente, String token) {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    for (int i = 0; i < AQUECIMENTO; i++) {
+      assertTrue(cliente.verificarLocalmente(token).orElseThrow().ativo());
+    }
+
+    long bytesAntes = threads.getThreadAllocatedBytes(threadId);
+    long inicio = System.nanoTime();
+    for (int i = 0; i < ITERACOES; i++) {
+      assertTrue(cliente.verificarLocalmente(token).orElseThrow().ativo());
+    }
+    long nanos = System.nanoTime() - inicio;
+    long bytes = threads.getThreadAllocatedBytes(threadId) - bytesAntes;
+
+    return new Resultado(nanos / ITERACOES, bytes / ITERACOES);
+  }
+
+  private static TransporteAutenticacao transporte(String jwks) {
+    return new TransporteAutenticacao() {
+      @Override
+      public String buscarJwks() {
+        return jwks;
+      }
+
+      @Override
+      public String introspectarLote(String corpo) {
+        throw new IllegalStateException("Introspecção não esperada no benchmark");
+      }
+    };
+  }
+
+  private record Resultado(long nanosPorOperacao, long bytesPorOperacao) {
+    @Override
+    public String toString() {
+      return nanosPorOperacao + " ns/op, " + bytesPorOperacao + " B/op";
+    }
+  }
+}
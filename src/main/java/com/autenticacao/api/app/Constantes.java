@@ -65,6 +65,14 @@ public interface Constantes {
     String SEGREDO = "secret"; // cuidado com segredos em código
   }
 
+  interface ClaimsToken {
+    String USUARIO_ID = "uid";
+    String ROLE = "role";
+    String ATIVO = "ativo";
+    String ID_TOKEN = "jti";
+    String VERSAO = "ver";
+  }
+
   interface Schema {
     String AUTENTICACAO = "autenticacao";
   }
@@ -77,6 +85,7 @@ public interface Constantes {
     String HISTORICO_USUARIO = "historico_usuarios";
     String HISTORICO_AUTENTICACAO = "historico_autenticacoes";
     String CONTROLE_ACESSO_USUARIO = "controle_acesso_usuario";
+    String CHAVE_ASSINATURA = "chave_assinatura";
   }
 
   interface ColunasUsuario {
@@ -102,6 +111,7 @@ public interface Constantes {
     String DATA_HORA_ALTERACAO_SENHA = "data_hora_alteracao_senha";
     String ATIVO = "ativo";
     String USUARIO = "usuario";
+    String VERSAO_TOKEN = "versao_token";
   }
 
   interface ColunasHistoricoUsuario {
@@ -115,6 +125,16 @@ public interface Constantes {
     String CAMPOS_ALTERADOS = "campos_alterados";
   }
 
+  interface ColunasChaveAssinatura {
+    String KID = "kid";
+    String ALGORITMO = "algoritmo";
+    String CHAVE_PUBLICA = "chave_publica";
+    String CHAVE_PRIVADA = "chave_privada";
+    String DATA_HORA_CRIACAO = "data_hora_criacao";
+    String ATIVA_DESDE = "ativa_desde";
+    String EXPIRA_EM = "expira_em";
+  }
+
   interface Rotas {
     // Autenticação
     String LOGIN = "/login";
@@ -123,6 +143,13 @@ public interface Constantes {
     String API_AUTENTICAR = "/api/autenticacao";
     String ALTERAR_SENHA = "/alterar-senha";
     String REVOKE_REFRESH_TOKEN = "/revoke-refresh-token";
+    String INTROSPECCAO = "/introspeccao";
+    String INTROSPECCAO_LOTE = "/introspeccao/lote";
+    String SESSOES = "/sessoes";
+    String REVOGAR_SESSOES = "/sessoes/revogar";
+
+    // Chaves públicas (JWKS)
+    String JWKS = "/.well-known/jwks.json";
 
     // Usuários
     String LISTAR_TODOS = "/listar-todos";
@@ -0,0 +1,40 @@
+package com.autenticacao.api.app.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Respostas e requisições em CBOR ({@code application/cbor}) para as chamadas entre serviços.
+ *
+ * <p>O conversor é adicionado ao final da lista, depois do JSON: só é escolhido quando o cliente
+ * pede {@code Accept: application/cbor} (ou envia {@code Content-Type: application/cbor}); quem
+ * aceita qualquer tipo, como navegadores, continua recebendo JSON. O mapper parte do mesmo {@link
+ * Jackson2ObjectMapperBuilder} configurado pelo Spring Boot, então as propriedades {@code
+ * spring.jackson.*} valem também para o CBOR.
+ */
+@Configuration
+public class CborConfig implements WebMvcConfigurer {
+
+  private final Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
+
+  public CborConfig(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+    this.jackson2ObjectMapperBuilder = jackson2ObjectMapperBuilder;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(conversorCbor(jackson2ObjectMapperBuilder));
+  }
+
+  public static MappingJackson2CborHttpMessageConverter conversorCbor(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+}
@@ -12,11 +12,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.autenticacao.api.app.config.security.senha.FabricaCodificadorSenha;
+
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -43,6 +44,8 @@ public class SecurityConfigurations {
                         "/swagger-resources/**",
                         "/webjars/**")
                     .permitAll()
+                    .requestMatchers(HttpMethod.GET, JWKS)
+                    .permitAll()
                     .requestMatchers(HttpMethod.POST, API_AUTENTICAR + LOGIN)
                     .permitAll()
                     .requestMatchers(HttpMethod.POST, API_USUARIOS + CRIAR)
@@ -65,6 +68,16 @@ public class SecurityConfigurations {
                     .authenticated()
                     .requestMatchers(HttpMethod.DELETE, API_AUTENTICAR + REVOKE_REFRESH_TOKEN)
                     .authenticated()
+                    .requestMatchers(HttpMethod.POST, API_AUTENTICAR + LOGOUT)
+                    .authenticated()
+                    .requestMatchers(HttpMethod.POST, API_AUTENTICAR + INTROSPECCAO)
+                    .hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.POST, API_AUTENTICAR + INTROSPECCAO_LOTE)
+                    .hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.GET, API_AUTENTICAR + SESSOES)
+                    .authenticated()
+                    .requestMatchers(HttpMethod.POST, API_AUTENTICAR + REVOGAR_SESSOES)
+                    .hasRole("ADMIN")
                     .requestMatchers(HttpMethod.GET, API_USUARIOS + BUSCAR_POR_ID)
                     .authenticated()
                     .anyRequest()
@@ -81,7 +94,7 @@ public class SecurityConfigurations {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(FabricaCodificadorSenha fabricaCodificadorSenha) {
+    return fabricaCodificadorSenha.criar();
   }
 }
@@ -3,15 +3,13 @@ package com.autenticacao.api.app.config.security;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.autenticacao.api.app.domain.entity.Usuario;
-import com.autenticacao.api.app.repository.UsuarioRepository;
+import com.autenticacao.api.app.config.security.cache.TokenVerificado;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,9 +22,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityFilter extends OncePerRequestFilter {
 
-  private final TokenService tokenService;
-
-  private final UsuarioRepository usuarioRepository;
+  private final ValidadorTokenAcesso validadorTokenAcesso;
 
   @Override
   protected void doFilterInternal(
@@ -37,16 +33,17 @@ public class SecurityFilter extends OncePerRequestFilter {
     var token = this.recoverToken(request);
 
     if (token != null) {
-      var email = tokenService.validateToken(token);
-      if (email != null && !email.isBlank()) {
-        Optional<Usuario> usuarioOptional = usuarioRepository.findByEmail(email);
-        if (usuarioOptional.isPresent()) {
-          Usuario usuario = usuarioOptional.get();
-          var authentication =
-              new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities());
-          SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
-      }
+      validadorTokenAcesso
+          .validar(token)
+          .map(TokenVerificado::usuario)
+          .filter(UsuarioAutenticado::isAtivo)
+          .ifPresent(
+              usuario -> {
+                var authentication =
+                    new UsernamePasswordAuthenticationToken(
+                        usuario, null, usuario.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+              });
     }
 
     filterChain.doFilter(request, response);
@@ -1,47 +1,42 @@
 package com.autenticacao.api.app.config.security;
 
-import static com.autenticacao.api.app.Constantes.Permissoes.SEGREDO;
 import static com.autenticacao.api.app.Constantes.Util.ZONE_OFFSET_BR;
-import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_ENQUANTO_GERAVA_TOKEN_DE_ACESSO;
-import static org.apache.naming.ResourceRef.AUTH;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
+import com.autenticacao.api.app.config.security.jwt.CodecTokenAcesso;
+import com.autenticacao.api.app.config.security.jwt.TokenDecodificado;
 import com.autenticacao.api.app.domain.entity.Usuario;
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.JWTCreationException;
-import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.autenticacao.api.app.exception.UsuarioNaoAutenticadoException;
+
+import lombok.RequiredArgsConstructor;
 
 @Service
+@RequiredArgsConstructor
 public class TokenService {
 
+  private final CodecTokenAcesso codecTokenAcesso;
+
   public String generateToken(Usuario usuario) throws RuntimeException {
-    try {
-      Algorithm algorithm = Algorithm.HMAC256(SEGREDO);
-
-      return JWT.create()
-          .withIssuer(AUTH)
-          .withSubject(usuario.getUsername())
-          .withExpiresAt(generateExpirationDate())
-          .sign(algorithm);
-
-    } catch (JWTCreationException exception) {
-      throw new RuntimeException(ERRO_ENQUANTO_GERAVA_TOKEN_DE_ACESSO.getChave(), exception);
-    }
+    return codecTokenAcesso.emitir(usuario, generateExpirationDate());
   }
 
   public String validateToken(String token) {
-    try {
-      Algorithm algorithm = Algorithm.HMAC256(SEGREDO);
+    return verificarToken(token).map(TokenDecodificado::subject).orElse(null);
+  }
 
-      return JWT.require(algorithm).withIssuer(AUTH).build().verify(token).getSubject();
-    } catch (JWTVerificationException exception) {
-      return null;
-    }
+  /**
+   * Verifica assinatura, emissor e expiração do ‘token’ e extrai suas claims em uma única passada.
+   *
+   * @param token token de acesso recebido
+   * @return conteúdo verificado, ou vazio quando o token for inválido
+   */
+  public Optional<TokenDecodificado> verificarToken(String token) {
+    return codecTokenAcesso.verificar(token);
   }
 
   // Gera data de expiração para novos tokens
@@ -51,7 +46,8 @@ public class TokenService {
 
   // Extrai a data de expiração de um token já existente
   public Instant getExpirationDate(String token) {
-    Algorithm algorithm = Algorithm.HMAC256(SEGREDO);
-    return JWT.require(algorithm).withIssuer(AUTH).build().verify(token).getExpiresAt().toInstant();
+    return verificarToken(token)
+        .map(TokenDecodificado::expiraEm)
+        .orElseThrow(() -> new UsuarioNaoAutenticadoException("Token inválido ou expirado"));
   }
 }
@@ -0,0 +1,48 @@
+package com.autenticacao.api.app.config.security;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+import lombok.Value;
+
+/**
+ * Principal imutável do usuário autenticado, montado apenas a partir das claims verificadas do
+ * ‘token’ de acesso. Não referencia a entidade {@link Usuario}; quem precisar dela deve carregá-la
+ * explicitamente pelo {@link #getId()}.
+ */
+@Value
+public class UsuarioAutenticado implements Principal {
+
+  UUID id;
+  String email;
+  UserRole role;
+  boolean ativo;
+
+  /**
+   * Cria o principal a partir de uma entidade já carregada (ex.: logo após o ‘login’).
+   *
+   * @param usuario entidade do usuário
+   * @return principal equivalente
+   */
+  public static UsuarioAutenticado de(Usuario usuario) {
+    return new UsuarioAutenticado(
+        usuario.getId(), usuario.getEmail(), usuario.getRole(), usuario.isAtivo());
+  }
+
+  /** Authorities no formato esperado por {@code hasRole(...)}. */
+  public List<GrantedAuthority> getAuthorities() {
+    return role == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+  }
+
+  @Override
+  public String getName() {
+    return email;
+  }
+}
@@ -0,0 +1,37 @@
+package com.autenticacao.api.app.config.security;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.config.security.cache.TokenVerificado;
+import com.autenticacao.api.app.config.security.cache.TokenVerificadoCache;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Ponto único de validação dos ‘tokens’ de acesso: assinatura, emissor e expiração (resultado em
+ * cache) e, a cada chamada, a revogação pelo jti e a versão dos tokens do usuário.
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidadorTokenAcesso {
+
+  private final TokenVerificadoCache tokenVerificadoCache;
+  private final RevogacaoTokenService revogacaoTokenService;
+
+  /**
+   * @param token token de acesso recebido
+   * @return token verificado, ou vazio se for inválido, expirado ou revogado
+   */
+  public Optional<TokenVerificado> validar(String token) {
+    return tokenVerificadoCache
+        .obter(token)
+        .filter(verificado -> !revogacaoTokenService.estaRevogado(verificado.jti()))
+        .filter(
+            verificado ->
+                revogacaoTokenService.versaoVigente(
+                    verificado.usuario().getId(), verificado.versao()));
+  }
+}
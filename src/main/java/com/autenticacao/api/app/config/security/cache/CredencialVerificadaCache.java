@@ -0,0 +1,115 @@
+package com.autenticacao.api.app.config.security.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.config.security.senha.VerificadorSenha;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache opcional, de vida curta, de credenciais já verificadas no ‘login’, para que ‘logins’
+ * repetidos do mesmo cliente não paguem o hash da senha a cada vez.
+ *
+ * <p>Para cada usuário guarda apenas o HMAC-SHA256, com um segredo gerado a cada inicialização,
+ * do hash armazenado seguido da senha aceita; a senha em si nunca fica em memória. Como o hash
+ * armazenado faz parte do HMAC, uma troca de senha feita em outra instância também deixa de
+ * coincidir. Apenas verificações bem-sucedidas são guardadas. Trocas de senha e desativações na
+ * própria instância removem a entrada na hora.
+ *
+ * <p>Desabilitado por padrão ({@code seguranca.login.cache-credenciais.habilitado}); habilitado,
+ * publica acertos e faltas no Micrometer com o nome {@value #NOME_CACHE}.
+ */
+@Component
+public class CredencialVerificadaCache {
+
+  static final String NOME_CACHE = "credenciais_verificadas";
+  private static final String ALGORITMO_HMAC = "HmacSHA256";
+  private static final int TAMANHO_SEGREDO = 32;
+
+  private final VerificadorSenha verificadorSenha;
+  private final Cache<UUID, byte[]> cache;
+  private final SecretKeySpec segredo;
+
+  public CredencialVerificadaCache(
+      VerificadorSenha verificadorSenha,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.login.cache-credenciais.habilitado:false}") boolean habilitado,
+      @Value("${seguranca.login.cache-credenciais.ttl-segundos:60}") long ttlSegundos,
+      @Value("${seguranca.login.cache-credenciais.tamanho-maximo:10000}") long tamanhoMaximo) {
+    this.verificadorSenha = verificadorSenha;
+    byte[] chave = new byte[TAMANHO_SEGREDO];
+    new SecureRandom().nextBytes(chave);
+    this.segredo = new SecretKeySpec(chave, ALGORITMO_HMAC);
+
+    if (habilitado) {
+      this.cache =
+          Caffeine.newBuilder()
+              .maximumSize(tamanhoMaximo)
+              .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+              .recordStats()
+              .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+    } else {
+      this.cache = null;
+    }
+  }
+
+  /**
+   * Confere a senha com o hash armazenado, consultando antes as credenciais verificadas há pouco.
+   *
+   * @param usuarioId usuário dono da senha
+   * @param senha senha em texto informada no ‘login’
+   * @param hash hash armazenado do usuário
+   * @return true se a senha corresponder ao hash
+   */
+  public boolean verificar(UUID usuarioId, String senha, String hash) {
+    if (cache == null) {
+      return verificadorSenha.verificar(senha, hash);
+    }
+
+    byte[] credencial = hmac(hash, senha);
+    byte[] verificada = cache.getIfPresent(usuarioId);
+    if (verificada != null && MessageDigest.isEqual(verificada, credencial)) {
+      return true;
+    }
+
+    boolean corresponde = verificadorSenha.verificar(senha, hash);
+    if (corresponde) {
+      cache.put(usuarioId, credencial);
+    }
+    return corresponde;
+  }
+
+  /** Remove a credencial verificada do usuário, após troca de senha ou desativação. */
+  public void invalidar(UUID usuarioId) {
+    if (cache != null) {
+      cache.invalidate(usuarioId);
+    }
+  }
+
+  private byte[] hmac(String hash, String senha) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+      mac.init(segredo);
+      mac.update(hash.getBytes(StandardCharsets.UTF_8));
+      mac.update((byte) 0);
+      return mac.doFinal(senha.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HmacSHA256 indisponível", e);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.autenticacao.api.app.config.security.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Agrupa renovações repetidas do mesmo refresh token em uma única rotação.
+ *
+ * <p>Clientes com várias abas ou com novas tentativas automáticas enviam o mesmo refresh token
+ * algumas vezes em poucos milissegundos. Sem agrupamento, só a primeira requisição rotaciona o
+ * ‘token’ e as demais recebem 401, obrigando a um novo ‘login’. Aqui a primeira requisição executa
+ * a rotação, e as que chegam enquanto ela roda, ou até o fim da janela de tolerância, recebem o
+ * mesmo par de ‘tokens’, sem nova ida ao banco. As entradas são indexadas pelo SHA-256 do refresh
+ * token apresentado; uma rotação que falha com exceção não fica guardada.
+ *
+ * <p>Habilitado por padrão ({@code seguranca.refresh-token.coalescencia.habilitado}); publica
+ * acertos e faltas no Micrometer com o nome {@value #NOME_CACHE}.
+ */
+@Component
+public class RotacaoRefreshTokenCache {
+
+  static final String NOME_CACHE = "rotacoes_refresh_token";
+
+  private final Cache<String, CompletableFuture<Optional<LoginResponseDTO>>> cache;
+
+  public RotacaoRefreshTokenCache(
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.refresh-token.coalescencia.habilitado:true}") boolean habilitado,
+      @Value("${seguranca.refresh-token.coalescencia.janela-ms:1000}") long janelaMs,
+      @Value("${seguranca.refresh-token.coalescencia.tamanho-maximo:10000}") long tamanhoMaximo) {
+    if (habilitado) {
+      this.cache =
+          Caffeine.newBuilder()
+              .maximumSize(tamanhoMaximo)
+              .expireAfterWrite(Duration.ofMillis(janelaMs))
+              .recordStats()
+              .build();
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+    } else {
+      this.cache = null;
+    }
+  }
+
+  /**
+   * Executa a rotação do refresh token, ou devolve o resultado da rotação do mesmo token que está
+   * em andamento ou terminou dentro da janela de tolerância.
+   *
+   * @param refreshToken refresh token apresentado
+   * @param rotacao rotação do token e emissão do novo par de ‘tokens’
+   * @return novo par de ‘tokens’, ou vazio se o refresh token não puder ser rotacionado
+   */
+  public Optional<LoginResponseDTO> rotacionar(
+      String refreshToken, Function<String, Optional<LoginResponseDTO>> rotacao) {
+    if (cache == null || refreshToken == null) {
+      return rotacao.apply(refreshToken);
+    }
+
+    String chave = digest(refreshToken);
+    CompletableFuture<Optional<LoginResponseDTO>> propria = new CompletableFuture<>();
+    CompletableFuture<Optional<LoginResponseDTO>> registrada = cache.get(chave, k -> propria);
+    if (registrada != propria) {
+      return aguardar(registrada);
+    }
+
+    try {
+      Optional<LoginResponseDTO> resultado = rotacao.apply(refreshToken);
+      propria.complete(resultado);
+      return resultado;
+    } catch (RuntimeException e) {
+      cache.asMap().remove(chave, propria);
+      propria.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private static Optional<LoginResponseDTO> aguardar(
+      CompletableFuture<Optional<LoginResponseDTO>> rotacao) {
+    try {
+      return rotacao.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException causa) {
+        throw causa;
+      }
+      throw e;
+    }
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+}
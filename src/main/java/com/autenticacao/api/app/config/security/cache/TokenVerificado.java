@@ -0,0 +1,16 @@
+package com.autenticacao.api.app.config.security.cache;
+
+import java.time.Instant;
+
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
+
+/**
+ * Resultado de uma verificação de ‘token’ de acesso já concluída.
+ *
+ * @param jti identificador do token (claim jti), consultado na revogação a cada requisição
+ * @param usuario principal montado a partir das claims do token
+ * @param expiraEm instante de expiração (claim exp) do token
+ * @param versao versão dos tokens do usuário na emissão (claim ver), comparada com a versão atual
+ */
+public record TokenVerificado(
+    String jti, UsuarioAutenticado usuario, Instant expiraEm, long versao) {}
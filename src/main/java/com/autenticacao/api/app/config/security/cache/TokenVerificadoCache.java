@@ -0,0 +1,114 @@
+package com.autenticacao.api.app.config.security.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.config.security.TokenService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache limitado de ‘tokens’ de acesso já verificados, indexado pelo SHA-256 do token.
+ *
+ * <p>Cada entrada expira exatamente no exp do próprio token, então nenhum resultado sobrevive ao
+ * token que o originou. Requisições concorrentes com o mesmo token compartilham uma única carga
+ * (verificação da assinatura + leitura das claims). Acertos, faltas e remoções são publicados no
+ * Micrometer com o nome {@value #NOME_CACHE}.
+ */
+@Component
+public class TokenVerificadoCache {
+
+  static final String NOME_CACHE = "tokens_verificados";
+
+  private final Cache<String, TokenVerificado> cache;
+  private final TokenService tokenService;
+
+  public TokenVerificadoCache(
+      TokenService tokenService,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.token-cache.tamanho-maximo:10000}") long tamanhoMaximo) {
+    this.tokenService = tokenService;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .expireAfter(new ExpiracaoPeloToken())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+  }
+
+  /**
+   * Retorna o resultado da verificação do ‘token’, carregando-o apenas na primeira vez.
+   *
+   * @param token token de acesso recebido no cabeçalho Authorization
+   * @return token verificado, ou vazio se o token for inválido ou não trouxer as claims do usuário
+   */
+  public Optional<TokenVerificado> obter(String token) {
+    return Optional.ofNullable(cache.get(digest(token), chave -> carregar(token)));
+  }
+
+  /** Remove do cache o resultado associado ao ‘token’ informado. */
+  public void invalidar(String token) {
+    cache.invalidate(digest(token));
+  }
+
+  /** Remove todas as entradas do cache. */
+  public void invalidarTodos() {
+    cache.invalidateAll();
+  }
+
+  private TokenVerificado carregar(String token) {
+    return tokenService
+        .verificarToken(token)
+        .map(
+            decodificado ->
+                new TokenVerificado(
+                    decodificado.jti(),
+                    decodificado.usuario(),
+                    decodificado.expiraEm(),
+                    decodificado.versao()))
+        .orElse(null);
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+
+  /** Faz cada entrada expirar no exp do ‘token’ correspondente. */
+  private static final class ExpiracaoPeloToken implements Expiry<String, TokenVerificado> {
+
+    @Override
+    public long expireAfterCreate(String chave, TokenVerificado valor, long tempoAtual) {
+      long restante = valor.expiraEm().toEpochMilli() - Instant.now().toEpochMilli();
+      return Math.max(0, restante) * 1_000_000L;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String chave, TokenVerificado valor, long tempoAtual, long duracaoAtual) {
+      return duracaoAtual;
+    }
+
+    @Override
+    public long expireAfterRead(
+        String chave, TokenVerificado valor, long tempoAtual, long duracaoAtual) {
+      return duracaoAtual;
+    }
+  }
+}
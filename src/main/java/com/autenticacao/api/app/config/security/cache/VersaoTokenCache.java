@@ -0,0 +1,63 @@
+package com.autenticacao.api.app.config.security.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.repository.AutenticacaoRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache da versão atual dos ‘tokens’ de cada usuário, comparada com a claim ver a cada requisição.
+ *
+ * <p>A entrada é invalidada quando a versão é incrementada, nesta instância e, por notificação, nas
+ * demais. O tempo de vida limitado só cobre o caso de uma notificação perdida.
+ */
+@Component
+public class VersaoTokenCache {
+
+  static final String NOME_CACHE = "versoes_token";
+
+  /** Versão devolvida para usuários sem autenticação; nenhum token a possui. */
+  static final long SEM_AUTENTICACAO = -1;
+
+  private final LoadingCache<UUID, Long> cache;
+
+  public VersaoTokenCache(
+      AutenticacaoRepository autenticacaoRepository,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.versao-token-cache.tamanho-maximo:10000}") long tamanhoMaximo,
+      @Value("${seguranca.versao-token-cache.validade-segundos:300}") long validadeSegundos) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .expireAfterWrite(Duration.ofSeconds(validadeSegundos))
+            .recordStats()
+            .build(
+                usuarioId ->
+                    autenticacaoRepository.buscarVersaoToken(usuarioId).orElse(SEM_AUTENTICACAO));
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+  }
+
+  /**
+   * @param usuarioId identificador do usuário
+   * @return versão atual dos tokens do usuário
+   */
+  public long versaoAtual(UUID usuarioId) {
+    return cache.get(usuarioId);
+  }
+
+  public void invalidar(UUID usuarioId) {
+    cache.invalidate(usuarioId);
+  }
+
+  public void invalidarTodos() {
+    cache.invalidateAll();
+  }
+}
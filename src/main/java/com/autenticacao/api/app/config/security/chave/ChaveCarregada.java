@@ -0,0 +1,25 @@
+package com.autenticacao.api.app.config.security.chave;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+
+/**
+ * Chave de assinatura já decodificada, com o cabeçalho JWT correspondente codificado uma única vez
+ * ao carregar o chaveiro.
+ *
+ * @param kid identificador publicado no cabeçalho dos ‘tokens’ e no JWKS
+ * @param ativaDesde instante a partir do qual a chave passa a assinar
+ * @param expiraEm instante a partir do qual a chave deixa de ser aceita
+ * @param chavePublica chave pública EC P-256
+ * @param chavePrivada chave privada EC P-256
+ * @param cabecalhoCodificado segmento de cabeçalho ({@code alg}, {@code typ}, {@code kid}) já em
+ *     Base64 URL
+ */
+public record ChaveCarregada(
+    String kid,
+    Instant ativaDesde,
+    Instant expiraEm,
+    ECPublicKey chavePublica,
+    ECPrivateKey chavePrivada,
+    String cabecalhoCodificado) {}
@@ -0,0 +1,101 @@
+package com.autenticacao.api.app.config.security.chave;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.CHAVE_CIFRAGEM_ASSINATURA_INVALIDA;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_CARREGAR_CHAVE_ASSINATURA;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_GERAR_CHAVE_ASSINATURA;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cifra as chaves privadas de assinatura antes de irem para o banco, com AES-256-GCM e uma chave de
+ * cifragem que nunca é persistida junto delas.
+ *
+ * <p>A chave de cifragem vem da configuração ({@code seguranca.chaves.chave-cifragem}, 32 bytes em
+ * Base64), que em produção deve ser preenchida pelo cofre de segredos ou KMS do ambiente. O
+ * {@code kid} entra como dado autenticado, de modo que o conteúdo cifrado de uma linha não é aceito
+ * se copiado para outra.
+ */
+@Component
+public class CifradorChavePrivada {
+
+  private static final String TRANSFORMACAO = "AES/GCM/NoPadding";
+  private static final int TAMANHO_CHAVE = 32;
+  private static final int TAMANHO_IV = 12;
+  private static final int TAMANHO_TAG_BITS = 128;
+
+  private final SecretKey chaveCifragem;
+  private final SecureRandom aleatorio = new SecureRandom();
+
+  public CifradorChavePrivada(@Value("${seguranca.chaves.chave-cifragem}") String chaveBase64) {
+    byte[] chave;
+    try {
+      chave = Base64.getDecoder().decode(chaveBase64.trim());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException(CHAVE_CIFRAGEM_ASSINATURA_INVALIDA.getChave(), e);
+    }
+    if (chave.length != TAMANHO_CHAVE) {
+      throw new IllegalStateException(CHAVE_CIFRAGEM_ASSINATURA_INVALIDA.getChave());
+    }
+    this.chaveCifragem = new SecretKeySpec(chave, "AES");
+    Arrays.fill(chave, (byte) 0);
+  }
+
+  /**
+   * Cifra a chave privada de um {@code kid}.
+   *
+   * @param kid identificador da chave, usado como dado autenticado
+   * @param chavePrivada chave privada no formato PKCS#8
+   * @return IV seguido do conteúdo cifrado e da ‘tag’ de autenticação
+   */
+  public byte[] cifrar(String kid, byte[] chavePrivada) {
+    try {
+      byte[] iv = new byte[TAMANHO_IV];
+      aleatorio.nextBytes(iv);
+      Cipher cifra = Cipher.getInstance(TRANSFORMACAO);
+      cifra.init(Cipher.ENCRYPT_MODE, chaveCifragem, new GCMParameterSpec(TAMANHO_TAG_BITS, iv));
+      cifra.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+      byte[] cifrado = cifra.doFinal(chavePrivada);
+      return ByteBuffer.allocate(iv.length + cifrado.length).put(iv).put(cifrado).array();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(ERRO_GERAR_CHAVE_ASSINATURA.getChave(), e);
+    }
+  }
+
+  /**
+   * Decifra a chave privada de um {@code kid}. Falha se o conteúdo tiver sido alterado, pertencer a
+   * outro {@code kid} ou tiver sido cifrado com outra chave de cifragem.
+   *
+   * @param kid identificador da chave, usado como dado autenticado
+   * @param cifrada conteúdo produzido por {@link #cifrar(String, byte[])}
+   * @return chave privada no formato PKCS#8
+   */
+  public byte[] decifrar(String kid, byte[] cifrada) {
+    if (cifrada == null || cifrada.length <= TAMANHO_IV) {
+      throw new IllegalStateException(ERRO_CARREGAR_CHAVE_ASSINATURA.getChave());
+    }
+    try {
+      Cipher cifra = Cipher.getInstance(TRANSFORMACAO);
+      cifra.init(
+          Cipher.DECRYPT_MODE,
+          chaveCifragem,
+          new GCMParameterSpec(TAMANHO_TAG_BITS, cifrada, 0, TAMANHO_IV));
+      cifra.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+      return cifra.doFinal(cifrada, TAMANHO_IV, cifrada.length - TAMANHO_IV);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(ERRO_CARREGAR_CHAVE_ASSINATURA.getChave(), e);
+    }
+  }
+}
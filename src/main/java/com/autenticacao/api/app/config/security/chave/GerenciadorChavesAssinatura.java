@@ -0,0 +1,302 @@
+package com.autenticacao.api.app.config.security.chave;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_CARREGAR_CHAVE_ASSINATURA;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_GERAR_CHAVE_ASSINATURA;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.autenticacao.api.app.domain.DTO.response.JwkResponse;
+import com.autenticacao.api.app.domain.DTO.response.JwksResponse;
+import com.autenticacao.api.app.domain.entity.ChaveAssinatura;
+import com.autenticacao.api.app.repository.ChaveAssinaturaRepository;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Chaveiro das chaves ES256 usadas para assinar os ‘tokens’ de acesso.
+ *
+ * <p>As chaves ficam no banco para que todas as instâncias assinem e verifiquem com o mesmo
+ * conjunto. Periodicamente cada instância recarrega o chaveiro e, quando a chave mais recente
+ * atinge o período de rotação, cria a próxima. A nova chave é publicada no JWKS {@code
+ * antecedenciaPublicacao} antes de começar a assinar, para que os serviços que mantêm o JWKS em
+ * cache já a conheçam; a chave anterior continua aceita por {@code sobreposicao} depois de deixar
+ * de assinar, cobrindo os ‘tokens’ ainda válidos emitidos com ela.
+ *
+ * <p>A verificação e a criação da próxima chave acontecem sob uma trava consultiva do PostgreSQL,
+ * na mesma transação: instâncias que rotacionam ao mesmo tempo (inclusive na primeira subida, em
+ * que a chave já nasce ativa) esperam a trava e passam a ler a chave criada pela primeira, em vez
+ * de criar cada uma a sua.
+ *
+ * <p>As chaves privadas são gravadas cifradas por {@link CifradorChavePrivada}. As chaves de cada
+ * {@code kid} são decifradas e decodificadas (e o cabeçalho JWT correspondente montado) apenas ao
+ * carregar o chaveiro, nunca por requisição.
+ */
+@Component
+public class GerenciadorChavesAssinatura {
+
+  public static final String ALGORITMO_ES256 = "ES256";
+  private static final String CURVA_P256 = "secp256r1";
+  private static final int TAMANHO_COORDENADA_P256 = 32;
+  private static final Logger logger = LoggerFactory.getLogger(GerenciadorChavesAssinatura.class);
+
+  /** Identificador da trava consultiva que serializa a rotação entre as instâncias. */
+  private static final long TRAVA_ROTACAO = 0x6368617665415353L;
+
+  private final ChaveAssinaturaRepository chaveAssinaturaRepository;
+  private final CifradorChavePrivada cifrador;
+  private final TransactionOperations transacao;
+  private final Duration periodoRotacao;
+  private final Duration antecedenciaPublicacao;
+  private final Duration sobreposicao;
+  private final Clock clock;
+
+  private volatile Chaveiro chaveiro =
+      new Chaveiro(List.of(), Map.of(), new JwksResponse(List.of()));
+
+  @Autowired
+  public GerenciadorChavesAssinatura(
+      ChaveAssinaturaRepository chaveAssinaturaRepository,
+      CifradorChavePrivada cifrador,
+      PlatformTransactionManager gerenciadorTransacao,
+      @Value("${seguranca.chaves.rotacao-horas:168}") long rotacaoHoras,
+      @Value("${seguranca.chaves.antecedencia-publicacao-minutos:10}") long antecedenciaMinutos,
+      @Value("${seguranca.chaves.sobreposicao-horas:24}") long sobreposicaoHoras) {
+    this(
+        chaveAssinaturaRepository,
+        cifrador,
+        new TransactionTemplate(gerenciadorTransacao),
+        Duration.ofHours(rotacaoHoras),
+        Duration.ofMinutes(antecedenciaMinutos),
+        Duration.ofHours(sobreposicaoHoras),
+        Clock.systemUTC());
+  }
+
+  public GerenciadorChavesAssinatura(
+      ChaveAssinaturaRepository chaveAssinaturaRepository,
+      CifradorChavePrivada cifrador,
+      TransactionOperations transacao,
+      Duration periodoRotacao,
+      Duration antecedenciaPublicacao,
+      Duration sobreposicao,
+      Clock clock) {
+    this.chaveAssinaturaRepository = chaveAssinaturaRepository;
+    this.cifrador = cifrador;
+    this.transacao = transacao;
+    this.periodoRotacao = periodoRotacao;
+    this.antecedenciaPublicacao = antecedenciaPublicacao;
+    this.sobreposicao = sobreposicao;
+    this.clock = clock;
+  }
+
+  @PostConstruct
+  public void inicializar() {
+    rotacionar();
+  }
+
+  /**
+   * Recarrega o chaveiro a partir do banco, criando a próxima chave quando a atual atingir o
+   * período de rotação e removendo as chaves já expiradas.
+   */
+  @Scheduled(
+      fixedDelayString = "${seguranca.chaves.intervalo-verificacao-ms:60000}",
+      initialDelayString = "${seguranca.chaves.intervalo-verificacao-ms:60000}")
+  public void rotacionar() {
+    chaveiro = montarChaveiro(transacao.execute(status -> sincronizar(clock.instant())));
+  }
+
+  private List<ChaveAssinatura> sincronizar(Instant agora) {
+    chaveAssinaturaRepository.travarRotacao(TRAVA_ROTACAO);
+    List<ChaveAssinatura> chaves =
+        new ArrayList<>(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora));
+
+    if (precisaNovaChave(chaves, agora)) {
+      Instant ativaDesde = chaves.isEmpty() ? agora : agora.plus(antecedenciaPublicacao);
+      ChaveAssinatura nova = chaveAssinaturaRepository.save(gerarChave(agora, ativaDesde));
+      chaves.add(0, nova);
+      logger.info("Nova chave de assinatura {} ativa a partir de {}", nova.getKid(), ativaDesde);
+    }
+
+    chaveAssinaturaRepository.removerExpiradas(agora);
+    return chaves;
+  }
+
+  /**
+   * Chave que deve assinar os ‘tokens’ emitidos agora: a mais recente já ativa.
+   *
+   * @return chave de assinatura corrente
+   */
+  public ChaveCarregada chaveAssinatura() {
+    Instant agora = clock.instant();
+    for (ChaveCarregada chave : chaveiro.chaves()) {
+      if (!chave.ativaDesde().isAfter(agora)) {
+        return chave;
+      }
+    }
+    throw new IllegalStateException(ERRO_CARREGAR_CHAVE_ASSINATURA.getChave());
+  }
+
+  /**
+   * Chave correspondente ao {@code kid} informado no cabeçalho do ‘token’.
+   *
+   * @param kid identificador da chave
+   * @return chave carregada, ou vazio se o kid for desconhecido ou já tiver expirado
+   */
+  public Optional<ChaveCarregada> chave(String kid) {
+    if (kid == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(chaveiro.porKid().get(kid))
+        .filter(chave -> chave.expiraEm().isAfter(clock.instant()));
+  }
+
+  /**
+   * Chaves carregadas, da mais recente para a mais antiga. Pode incluir chaves ainda não ativas
+   * para assinatura e chaves cuja expiração ocorreu depois da última recarga.
+   */
+  public List<ChaveCarregada> chaves() {
+    return chaveiro.chaves();
+  }
+
+  /** Conjunto de chaves públicas publicado no endpoint JWKS. */
+  public JwksResponse jwks() {
+    return chaveiro.jwks();
+  }
+
+  /**
+   * Tempo máximo que o JWKS pode ficar em cache nos consumidores sem que percam uma chave nova:
+   * igual à antecedência com que a chave é publicada antes de assinar.
+   */
+  public Duration getDuracaoCacheJwks() {
+    return antecedenciaPublicacao;
+  }
+
+  private boolean precisaNovaChave(List<ChaveAssinatura> chaves, Instant agora) {
+    if (chaves.isEmpty()) {
+      return true;
+    }
+    Instant proximaRotacao =
+        chaves.get(0).getAtivaDesde().plus(periodoRotacao).minus(antecedenciaPublicacao);
+    return !proximaRotacao.isAfter(agora);
+  }
+
+  private ChaveAssinatura gerarChave(Instant agora, Instant ativaDesde) {
+    try {
+      KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+      gerador.initialize(new ECGenParameterSpec(CURVA_P256));
+      KeyPair par = gerador.generateKeyPair();
+      String kid = UUID.randomUUID().toString();
+
+      return ChaveAssinatura.builder()
+          .kid(kid)
+          .algoritmo(ALGORITMO_ES256)
+          .chavePublica(par.getPublic().getEncoded())
+          .chavePrivada(cifrador.cifrar(kid, par.getPrivate().getEncoded()))
+          .dataHoraCriacao(agora)
+          .ativaDesde(ativaDesde)
+          .expiraEm(ativaDesde.plus(periodoRotacao).plus(sobreposicao))
+          .build();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(ERRO_GERAR_CHAVE_ASSINATURA.getChave(), e);
+    }
+  }
+
+  private Chaveiro montarChaveiro(List<ChaveAssinatura> chaves) {
+    List<ChaveCarregada> carregadas = chaves.stream().map(this::carregar).toList();
+    Map<String, ChaveCarregada> porKid =
+        carregadas.stream().collect(Collectors.toMap(ChaveCarregada::kid, Function.identity()));
+    JwksResponse jwks =
+        new JwksResponse(carregadas.stream().map(GerenciadorChavesAssinatura::paraJwk).toList());
+    return new Chaveiro(carregadas, porKid, jwks);
+  }
+
+  private ChaveCarregada carregar(ChaveAssinatura chave) {
+    try {
+      KeyFactory fabrica = KeyFactory.getInstance("EC");
+      ECPublicKey publica =
+          (ECPublicKey) fabrica.generatePublic(new X509EncodedKeySpec(chave.getChavePublica()));
+      byte[] pkcs8 = cifrador.decifrar(chave.getKid(), chave.getChavePrivada());
+      ECPrivateKey privada = (ECPrivateKey) fabrica.generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+      Arrays.fill(pkcs8, (byte) 0);
+
+      return new ChaveCarregada(
+          chave.getKid(),
+          chave.getAtivaDesde(),
+          chave.getExpiraEm(),
+          publica,
+          privada,
+          codificarCabecalho(chave.getKid()));
+    } catch (GeneralSecurityException | ClassCastException e) {
+      throw new IllegalStateException(ERRO_CARREGAR_CHAVE_ASSINATURA.getChave(), e);
+    }
+  }
+
+  private static String codificarCabecalho(String kid) {
+    String cabecalho =
+        "{\"alg\":\""
+            + ALGORITMO_ES256
+            + "\",\"typ\":\"JWT\",\"kid\":\""
+            + new String(JsonStringEncoder.getInstance().quoteAsString(kid))
+            + "\"}";
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cabecalho.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static JwkResponse paraJwk(ChaveCarregada chave) {
+    var ponto = chave.chavePublica().getW();
+    return new JwkResponse(
+        "EC",
+        "P-256",
+        chave.kid(),
+        "sig",
+        ALGORITMO_ES256,
+        base64Url(ponto.getAffineX()),
+        base64Url(ponto.getAffineY()));
+  }
+
+  /** Coordenada sem sinal, com tamanho fixo de 32 bytes, em Base64 URL sem padding. */
+  private static String base64Url(BigInteger coordenada) {
+    byte[] bytes = coordenada.toByteArray();
+    byte[] fixo = new byte[TAMANHO_COORDENADA_P256];
+    int copiar = Math.min(bytes.length, TAMANHO_COORDENADA_P256);
+    System.arraycopy(bytes, bytes.length - copiar, fixo, TAMANHO_COORDENADA_P256 - copiar, copiar);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(fixo);
+  }
+
+  /** Estado imutável do chaveiro, trocado por inteiro a cada recarga. */
+  private record Chaveiro(
+      List<ChaveCarregada> chaves, Map<String, ChaveCarregada> porKid, JwksResponse jwks) {}
+}
@@ -0,0 +1,348 @@
+package com.autenticacao.api.app.config.security.jwt;
+
+import static com.autenticacao.api.app.Constantes.ClaimsToken.ATIVO;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.ID_TOKEN;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.ROLE;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.USUARIO_ID;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.VERSAO;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_ENQUANTO_GERAVA_TOKEN_DE_ACESSO;
+import static org.apache.naming.ResourceRef.AUTH;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.config.security.chave.ChaveCarregada;
+import com.autenticacao.api.app.config.security.chave.GerenciadorChavesAssinatura;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Codificador dedicado ao formato fixo dos ‘tokens’ de acesso (ES256, cabeçalho com {@code kid}).
+ *
+ * <p>No caminho de verificação a assinatura é conferida antes de qualquer leitura de JSON: o
+ * cabeçalho é comparado com os cabeçalhos pré-codificados de cada chave (sem decodificar), a
+ * assinatura é decodificada para um buffer reutilizável e só então o payload é lido com o parser
+ * de streaming do Jackson, em uma única passada. Cada thread reutiliza sua instância de {@link
+ * Signature} e seus buffers.
+ *
+ * <p>Tokens emitidos por outras bibliotecas com a mesma chave continuam aceitos: quando o
+ * cabeçalho não coincide com o pré-codificado, o {@code kid} é lido do cabeçalho.
+ */
+@Component
+@RequiredArgsConstructor
+public class CodecTokenAcesso {
+
+  private static final String ALGORITMO_ASSINATURA = "SHA256withECDSAinP1363Format";
+  private static final int TAMANHO_ASSINATURA = 64;
+  private static final int TAMANHO_ASSINATURA_CODIFICADA = 86;
+  private static final String SUBJECT = "sub";
+  private static final String EMISSOR = "iss";
+  private static final String EXPIRACAO = "exp";
+  private static final String KID = "kid";
+
+  private static final JsonFactory JSON = new JsonFactory();
+  private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+  private static final byte[] VALORES_BASE64_URL = new byte[128];
+  private static final ThreadLocal<Contexto> CONTEXTO = ThreadLocal.withInitial(Contexto::new);
+
+  static {
+    Arrays.fill(VALORES_BASE64_URL, (byte) -1);
+    String alfabeto = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alfabeto.length(); i++) {
+      VALORES_BASE64_URL[alfabeto.charAt(i)] = (byte) i;
+    }
+  }
+
+  private final GerenciadorChavesAssinatura gerenciadorChaves;
+
+  /**
+   * Emite um ‘token’ de acesso assinado com a chave corrente.
+   *
+   * @param usuario usuário autenticado
+   * @param expiraEm instante de expiração do token
+   * @return token no formato JWS compacto
+   */
+  public String emitir(Usuario usuario, Instant expiraEm) {
+    ChaveCarregada chave = gerenciadorChaves.chaveAssinatura();
+    Contexto contexto = CONTEXTO.get();
+    try {
+      ByteArrayOutputStream saida = contexto.saida;
+      saida.reset();
+      try (JsonGenerator gerador = JSON.createGenerator(saida)) {
+        gerador.writeStartObject();
+        gerador.writeStringField(SUBJECT, usuario.getUsername());
+        gerador.writeStringField(EMISSOR, AUTH);
+        gerador.writeStringField(ID_TOKEN, UUID.randomUUID().toString());
+        gerador.writeStringField(USUARIO_ID, usuario.getId().toString());
+        gerador.writeStringField(ROLE, usuario.getRole().name());
+        gerador.writeBooleanField(ATIVO, usuario.isAtivo());
+        gerador.writeNumberField(VERSAO, versaoToken(usuario));
+        gerador.writeNumberField(EXPIRACAO, expiraEm.getEpochSecond());
+        gerador.writeEndObject();
+      }
+
+      String conteudo =
+          chave.cabecalhoCodificado() + '.' + BASE64_URL.encodeToString(saida.toByteArray());
+
+      Signature assinatura = contexto.assinatura;
+      assinatura.initSign(chave.chavePrivada());
+      assinatura.update(conteudo.getBytes(StandardCharsets.US_ASCII));
+      return conteudo + '.' + BASE64_URL.encodeToString(assinatura.sign());
+    } catch (IOException | GeneralSecurityException e) {
+      throw new IllegalStateException(ERRO_ENQUANTO_GERAVA_TOKEN_DE_ACESSO.getChave(), e);
+    }
+  }
+
+  /**
+   * Verifica assinatura, emissor e expiração e extrai as claims em uma única passada.
+   *
+   * @param token token de acesso recebido
+   * @return conteúdo verificado, ou vazio quando o token for inválido por qualquer motivo
+   */
+  public Optional<TokenDecodificado> verificar(String token) {
+    if (token == null) {
+      return Optional.empty();
+    }
+    int fimCabecalho = token.indexOf('.');
+    int fimPayload = fimCabecalho < 0 ? -1 : token.indexOf('.', fimCabecalho + 1);
+    if (fimCabecalho <= 0
+        || fimPayload < 0
+        || token.length() - fimPayload - 1 != TAMANHO_ASSINATURA_CODIFICADA) {
+      return Optional.empty();
+    }
+
+    Contexto contexto = CONTEXTO.get();
+    byte[] bytes = contexto.copiarAscii(token);
+    if (bytes == null) {
+      return Optional.empty();
+    }
+
+    ChaveCarregada chave = resolverChave(token, bytes, fimCabecalho, contexto);
+    if (chave == null || !chave.expiraEm().isAfter(Instant.now())) {
+      return Optional.empty();
+    }
+
+    byte[] assinaturaRecebida = contexto.assinaturaRecebida;
+    int tamanhoAssinatura =
+        decodificarBase64Url(bytes, fimPayload + 1, token.length(), assinaturaRecebida);
+    if (tamanhoAssinatura != TAMANHO_ASSINATURA) {
+      return Optional.empty();
+    }
+
+    try {
+      Signature assinatura = contexto.assinatura;
+      assinatura.initVerify(chave.chavePublica());
+      assinatura.update(bytes, 0, fimPayload);
+      if (!assinatura.verify(assinaturaRecebida)) {
+        return Optional.empty();
+      }
+    } catch (GeneralSecurityException e) {
+      return Optional.empty();
+    }
+
+    byte[] payload = contexto.payload(fimPayload - fimCabecalho);
+    int tamanhoPayload = decodificarBase64Url(bytes, fimCabecalho + 1, fimPayload, payload);
+    if (tamanhoPayload < 0) {
+      return Optional.empty();
+    }
+    return lerPayload(chave.kid(), payload, tamanhoPayload);
+  }
+
+  private ChaveCarregada resolverChave(
+      String token, byte[] bytes, int fimCabecalho, Contexto contexto) {
+    for (ChaveCarregada chave : gerenciadorChaves.chaves()) {
+      String cabecalho = chave.cabecalhoCodificado();
+      if (cabecalho.length() == fimCabecalho && token.startsWith(cabecalho)) {
+        return chave;
+      }
+    }
+    // Cabeçalho com outra ordem de campos (ex.: emitido por outra biblioteca): lê apenas o kid
+    byte[] cabecalho = contexto.payload(fimCabecalho);
+    int tamanho = decodificarBase64Url(bytes, 0, fimCabecalho, cabecalho);
+    if (tamanho < 0) {
+      return null;
+    }
+    return lerKid(cabecalho, tamanho).flatMap(gerenciadorChaves::chave).orElse(null);
+  }
+
+  private static Optional<String> lerKid(byte[] cabecalho, int tamanho) {
+    try (JsonParser parser = JSON.createParser(cabecalho, 0, tamanho)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      String kid = null;
+      String algoritmo = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String campo = parser.currentName();
+        parser.nextToken();
+        if (KID.equals(campo)) {
+          kid = parser.getValueAsString();
+        } else if ("alg".equals(campo)) {
+          algoritmo = parser.getValueAsString();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return GerenciadorChavesAssinatura.ALGORITMO_ES256.equals(algoritmo)
+          ? Optional.ofNullable(kid)
+          : Optional.empty();
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<TokenDecodificado> lerPayload(String kid, byte[] payload, int tamanho) {
+    String subject = null;
+    String emissor = null;
+    String jti = null;
+    String usuarioId = null;
+    String role = null;
+    Boolean ativo = null;
+    long versao = -1;
+    long expiracao = -1;
+
+    try (JsonParser parser = JSON.createParser(payload, 0, tamanho)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String campo = parser.currentName();
+        JsonToken valor = parser.nextToken();
+        switch (campo) {
+          case SUBJECT -> subject = parser.getValueAsString();
+          case EMISSOR -> emissor = parser.getValueAsString();
+          case ID_TOKEN -> jti = parser.getValueAsString();
+          case USUARIO_ID -> usuarioId = parser.getValueAsString();
+          case ROLE -> role = parser.getValueAsString();
+          case ATIVO -> ativo = valor.isBoolean() ? parser.getBooleanValue() : null;
+          case VERSAO -> versao = valor == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+          case EXPIRACAO ->
+              expiracao = valor == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+
+    if (!AUTH.equals(emissor)
+        || subject == null
+        || jti == null
+        || usuarioId == null
+        || role == null
+        || ativo == null
+        || versao < 0
+        || expiracao <= Instant.now().getEpochSecond()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          new TokenDecodificado(
+              kid,
+              jti,
+              subject,
+              Instant.ofEpochSecond(expiracao),
+              UUID.fromString(usuarioId),
+              UserRole.valueOf(role),
+              ativo,
+              versao));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static long versaoToken(Usuario usuario) {
+    return usuario.getAutenticacao() != null ? usuario.getAutenticacao().getVersaoToken() : 0;
+  }
+
+  /**
+   * Decodifica Base64 URL sem padding diretamente para {@code destino}, sem alocar. Só aceita a
+   * forma canônica: os bits que sobram no último caractere precisam ser zero, senão textos
+   * diferentes decodificariam para os mesmos bytes.
+   *
+   * @return quantidade de bytes escritos, ou -1 se a entrada for inválida ou não couber
+   */
+  static int decodificarBase64Url(byte[] origem, int inicio, int fim, byte[] destino) {
+    int tamanho = fim - inicio;
+    if (tamanho % 4 == 1 || (tamanho * 3) / 4 > destino.length) {
+      return -1;
+    }
+    int acumulado = 0;
+    int bits = 0;
+    int posicao = 0;
+    for (int i = inicio; i < fim; i++) {
+      int caractere = origem[i];
+      int valor = caractere < 0 ? -1 : VALORES_BASE64_URL[caractere];
+      if (valor < 0) {
+        return -1;
+      }
+      acumulado = (acumulado << 6) | valor;
+      bits += 6;
+      if (bits >= 8) {
+        bits -= 8;
+        destino[posicao++] = (byte) (acumulado >> bits);
+        acumulado &= (1 << bits) - 1;
+      }
+    }
+    return acumulado == 0 ? posicao : -1;
+  }
+
+  /** Estado reutilizado por thread: instância de {@link Signature} e buffers de trabalho. */
+  private static final class Contexto {
+
+    private final Signature assinatura;
+    private final byte[] assinaturaRecebida = new byte[TAMANHO_ASSINATURA];
+    private final ByteArrayOutputStream saida = new ByteArrayOutputStream(256);
+    private byte[] token = new byte[1024];
+    private byte[] payload = new byte[768];
+
+    private Contexto() {
+      try {
+        assinatura = Signature.getInstance(ALGORITMO_ASSINATURA);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    /** Copia o token para o buffer da thread; retorna null se houver caractere não ASCII. */
+    private byte[] copiarAscii(String valor) {
+      int tamanho = valor.length();
+      if (token.length < tamanho) {
+        token = new byte[tamanho];
+      }
+      for (int i = 0; i < tamanho; i++) {
+        char caractere = valor.charAt(i);
+        if (caractere > 127) {
+          return null;
+        }
+        token[i] = (byte) caractere;
+      }
+      return token;
+    }
+
+    private byte[] payload(int tamanhoCodificado) {
+      int necessario = (tamanhoCodificado * 3) / 4 + 1;
+      if (payload.length < necessario) {
+        payload = new byte[necessario];
+      }
+      return payload;
+    }
+  }
+}
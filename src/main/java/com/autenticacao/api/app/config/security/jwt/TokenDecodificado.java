@@ -0,0 +1,35 @@
+package com.autenticacao.api.app.config.security.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+/**
+ * Conteúdo de um ‘token’ de acesso cuja assinatura, emissor e expiração já foram verificados.
+ *
+ * @param kid chave que assinou o token
+ * @param jti identificador único do token (claim jti), usado na revogação
+ * @param subject e-mail do usuário (claim sub)
+ * @param expiraEm instante de expiração (claim exp)
+ * @param usuarioId identificador do usuário (claim uid)
+ * @param role perfil do usuário (claim role)
+ * @param ativo situação do usuário na emissão (claim ativo)
+ * @param versao versão dos tokens do usuário na emissão (claim ver)
+ */
+public record TokenDecodificado(
+    String kid,
+    String jti,
+    String subject,
+    Instant expiraEm,
+    UUID usuarioId,
+    UserRole role,
+    boolean ativo,
+    long versao) {
+
+  /** Principal equivalente, montado apenas a partir das claims. */
+  public UsuarioAutenticado usuario() {
+    return new UsuarioAutenticado(usuarioId, subject, role, ativo);
+  }
+}
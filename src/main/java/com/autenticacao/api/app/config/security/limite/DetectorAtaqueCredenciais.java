@@ -0,0 +1,159 @@
+package com.autenticacao.api.app.config.security.limite;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Detecta ataques de ‘credential stuffing’ distribuídos: muitas contas, cada uma tentada poucas
+ * vezes, a partir de muitos IPs. O controle por conta e os baldes por IP não enxergam esse padrão.
+ *
+ * <p>As falhas de ‘login’ são contadas em um {@link SketchContagemMinima} para cada chave: IP, rede
+ * (/24 no IPv4, /64 no IPv6) e ‘user-agent’, com memória constante qualquer que seja a quantidade
+ * de origens do ataque. A cada intervalo as contagens caem pela metade. Uma origem que passa do
+ * limite da sua chave é restringida progressivamente: a fração de ‘logins’ aceitos cai na proporção
+ * do excesso, e os demais recebem um {@code Retry-After} que cresce com ele.
+ */
+@Component
+public class DetectorAtaqueCredenciais {
+
+  // IPv4 literal ou qualquer texto com ':' (sempre lido como IPv6), para nunca consultar o DNS
+  private static final Pattern ENDERECO_LITERAL =
+      Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}|[0-9a-fA-F.]*:[0-9a-fA-F:.]*");
+
+  private final SketchContagemMinima porIp;
+  private final SketchContagemMinima porRede;
+  private final SketchContagemMinima porUserAgent;
+  private final boolean habilitado;
+  private final int limiteIp;
+  private final int limiteRede;
+  private final int limiteUserAgent;
+  private final long esperaMaximaSegundos;
+  private final Counter restringidas;
+
+  public DetectorAtaqueCredenciais(
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.ataque.habilitado:true}") boolean habilitado,
+      @Value("${seguranca.ataque.sketch.profundidade:4}") int profundidade,
+      @Value("${seguranca.ataque.sketch.largura:8192}") int largura,
+      @Value("${seguranca.ataque.limite.ip:20}") int limiteIp,
+      @Value("${seguranca.ataque.limite.rede:60}") int limiteRede,
+      @Value("${seguranca.ataque.limite.user-agent:300}") int limiteUserAgent,
+      @Value("${seguranca.ataque.espera-maxima-segundos:300}") long esperaMaximaSegundos) {
+    this.porIp = new SketchContagemMinima(profundidade, largura);
+    this.porRede = new SketchContagemMinima(profundidade, largura);
+    this.porUserAgent = new SketchContagemMinima(profundidade, largura);
+    this.habilitado = habilitado;
+    this.limiteIp = limiteIp;
+    this.limiteRede = limiteRede;
+    this.limiteUserAgent = limiteUserAgent;
+    this.esperaMaximaSegundos = esperaMaximaSegundos;
+    this.restringidas =
+        Counter.builder("login.ataque.restringidas")
+            .description("Logins recusados por excesso de falhas da origem")
+            .register(meterRegistry);
+    registrarMetricas(meterRegistry, porIp, "ip");
+    registrarMetricas(meterRegistry, porRede, "rede");
+    registrarMetricas(meterRegistry, porUserAgent, "user_agent");
+  }
+
+  /** Registra a falha de ‘login’ da requisição em andamento, se houver uma. */
+  public void registrarFalha() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos) {
+      HttpServletRequest request = atributos.getRequest();
+      registrarFalha(request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+    }
+  }
+
+  public void registrarFalha(String ip, String userAgent) {
+    if (!habilitado) {
+      return;
+    }
+    porIp.incrementar(String.valueOf(ip));
+    String rede = rede(ip);
+    if (rede != null) {
+      porRede.incrementar(rede);
+    }
+    porUserAgent.incrementar(userAgent == null ? "" : userAgent);
+  }
+
+  /**
+   * Decide se um ‘login’ da origem deve ser recusado.
+   *
+   * @param ip IP do cliente
+   * @param userAgent cabeçalho User-Agent, se houver
+   * @return 0 se o ‘login’ pode seguir; caso contrário, segundos sugeridos para o Retry-After
+   */
+  public long restricao(String ip, String userAgent) {
+    if (!habilitado) {
+      return 0;
+    }
+    double excesso = (double) porIp.estimar(String.valueOf(ip)) / limiteIp;
+    String rede = rede(ip);
+    if (rede != null) {
+      excesso = Math.max(excesso, (double) porRede.estimar(rede) / limiteRede);
+    }
+    String agente = userAgent == null ? "" : userAgent;
+    excesso = Math.max(excesso, (double) porUserAgent.estimar(agente) / limiteUserAgent);
+
+    // No limite passa metade dos logins; com o dobro, um quarto; e assim por diante
+    if (excesso < 1 || ThreadLocalRandom.current().nextDouble() < 1 / (2 * excesso)) {
+      return 0;
+    }
+    restringidas.increment();
+    return Math.min(esperaMaximaSegundos, (long) Math.ceil(excesso));
+  }
+
+  /** Reduz as contagens pela metade, para que falhas antigas deixem de restringir a origem. */
+  @Scheduled(fixedDelayString = "${seguranca.ataque.intervalo-decaimento-ms:60000}")
+  public void decair() {
+    porIp.decair();
+    porRede.decair();
+    porUserAgent.decair();
+  }
+
+  /** Prefixo de rede do IP literal: 3 bytes (/24) no IPv4 e 8 bytes (/64) no IPv6. */
+  static String rede(String ip) {
+    if (ip == null || !ENDERECO_LITERAL.matcher(ip).matches()) {
+      return null;
+    }
+    try {
+      byte[] endereco = InetAddress.getByName(ip).getAddress();
+      int bytesRede = endereco.length == 4 ? 3 : 8;
+      return HexFormat.of().formatHex(endereco, 0, bytesRede);
+    } catch (UnknownHostException e) {
+      return null;
+    }
+  }
+
+  private static void registrarMetricas(
+      MeterRegistry meterRegistry, SketchContagemMinima sketch, String chave) {
+    Gauge.builder("login.ataque.falhas", sketch, SketchContagemMinima::total)
+        .description("Falhas de login contadas no sketch, com decaimento")
+        .tag("chave", chave)
+        .register(meterRegistry);
+    Gauge.builder("login.ataque.maximo", sketch, SketchContagemMinima::maximo)
+        .description("Limite superior de falhas da origem mais frequente")
+        .tag("chave", chave)
+        .register(meterRegistry);
+    Gauge.builder("login.ataque.memoria", sketch, SketchContagemMinima::tamanhoBytes)
+        .description("Memória ocupada pelos contadores do sketch")
+        .baseUnit("bytes")
+        .tag("chave", chave)
+        .register(meterRegistry);
+  }
+}
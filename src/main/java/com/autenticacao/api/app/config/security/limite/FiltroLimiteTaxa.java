@@ -0,0 +1,334 @@
+package com.autenticacao.api.app.config.security.limite;
+
+import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.autenticacao.api.app.exception.erro.ErroDTO;
+import com.autenticacao.api.app.exception.erro.ErrosDTO;
+import com.autenticacao.api.app.util.MensagemUtil;
+import com.autenticacao.api.app.util.enums.MensagemSistema;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+
+/**
+ * Limita a taxa de requisições de ‘login’ e de renovação de ‘token’ antes que elas cheguem ao
+ * Spring Security, à conversão do corpo em DTO ou a qualquer repositório.
+ *
+ * <p>Cada requisição consome um balde por IP do cliente e um balde pelo e-mail informado (‘login’)
+ * ou pelo SHA-256 do refresh token (renovação), para que nem um IP percorrendo vários e-mails nem
+ * um refresh token repetido à exaustão consumam banco e hash de senha. O IP é verificado antes de
+ * ler o corpo; o e-mail e o refresh token são extraídos com o leitor de ‘streaming’ do Jackson, e
+ * o corpo lido é repassado intacto ao ‘controller’. Recusas respondem 429 com {@code Retry-After}.
+ *
+ * <p>Nenhuma requisição passa só com o balde por IP: corpo acima de {@code
+ * seguranca.limite.tamanho-maximo-corpo}, com ou sem {@code Content-Length}, recebe 413; corpo que
+ * não é JSON nem CBOR recebe 415; e corpo inválido, sem o campo, ou com o campo repetido recebe
+ * 400. Campos repetidos são recusados porque o filtro e a conversão em DTO poderiam usar valores
+ * diferentes.
+ *
+ * <p>Antes de ler o corpo, o ‘login’ também passa pelo {@link DetectorAtaqueCredenciais}, que
+ * restringe origens com falhas demais mesmo quando cada conta e cada IP ficam abaixo dos limites.
+ *
+ * <p>O IP é o de {@link HttpServletRequest#getRemoteAddr()}; atrás de proxy, habilite {@code
+ * server.forward-headers-strategy} para que ele reflita o cliente.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+public class FiltroLimiteTaxa extends OncePerRequestFilter {
+
+  private static final String CAMPO_EMAIL = "email";
+  private static final String CAMPO_REFRESH_TOKEN = "refreshToken";
+
+  private final LimitadorTaxa porIp;
+  private final LimitadorTaxa porEmail;
+  private final LimitadorTaxa porRefreshToken;
+  private final DetectorAtaqueCredenciais detectorAtaqueCredenciais;
+  private final ObjectMapper objectMapper;
+  private final CBORFactory cborFactory = new CBORFactory();
+  private final MensagemUtil mensagemUtil;
+  private final boolean habilitado;
+  private final int tamanhoMaximoCorpo;
+  private final Counter recusadasIp;
+  private final Counter recusadasEmail;
+  private final Counter recusadasRefreshToken;
+
+  public FiltroLimiteTaxa(
+      DetectorAtaqueCredenciais detectorAtaqueCredenciais,
+      ObjectMapper objectMapper,
+      MensagemUtil mensagemUtil,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.limite.habilitado:true}") boolean habilitado,
+      @Value("${seguranca.limite.maximo-chaves:100000}") long maximoChaves,
+      @Value("${seguranca.limite.tamanho-maximo-corpo:4096}") int tamanhoMaximoCorpo,
+      @Value("${seguranca.limite.ip.capacidade:30}") int capacidadeIp,
+      @Value("${seguranca.limite.ip.recarga-ms:1000}") long recargaIpMs,
+      @Value("${seguranca.limite.email.capacidade:5}") int capacidadeEmail,
+      @Value("${seguranca.limite.email.recarga-ms:12000}") long recargaEmailMs,
+      @Value("${seguranca.limite.refresh-token.capacidade:5}") int capacidadeRefreshToken,
+      @Value("${seguranca.limite.refresh-token.recarga-ms:12000}") long recargaRefreshTokenMs) {
+    this.detectorAtaqueCredenciais = detectorAtaqueCredenciais;
+    this.objectMapper = objectMapper;
+    this.mensagemUtil = mensagemUtil;
+    this.habilitado = habilitado;
+    this.tamanhoMaximoCorpo = tamanhoMaximoCorpo;
+    this.porIp = new LimitadorTaxa(capacidadeIp, Duration.ofMillis(recargaIpMs), maximoChaves);
+    this.porEmail =
+        new LimitadorTaxa(capacidadeEmail, Duration.ofMillis(recargaEmailMs), maximoChaves);
+    this.porRefreshToken =
+        new LimitadorTaxa(
+            capacidadeRefreshToken, Duration.ofMillis(recargaRefreshTokenMs), maximoChaves);
+    this.recusadasIp = contadorRecusadas(meterRegistry, "ip");
+    this.recusadasEmail = contadorRecusadas(meterRegistry, "email");
+    this.recusadasRefreshToken = contadorRecusadas(meterRegistry, "refresh_token");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    if (!habilitado || !HttpMethod.POST.matches(request.getMethod())) {
+      return true;
+    }
+    String caminho = caminho(request);
+    return !caminho.equals(API_AUTENTICAR + LOGIN)
+        && !caminho.equals(API_AUTENTICAR + REFRESH_TOKEN);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    long espera = porIp.consumir(request.getRemoteAddr());
+    if (espera > 0) {
+      recusadasIp.increment();
+      recusar(response, espera);
+      return;
+    }
+
+    boolean login = caminho(request).equals(API_AUTENTICAR + LOGIN);
+    if (login) {
+      long segundos =
+          detectorAtaqueCredenciais.restricao(
+              request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+      if (segundos > 0) {
+        recusar(response, TimeUnit.SECONDS.toNanos(segundos));
+        return;
+      }
+    }
+
+    JsonFactory fabrica = fabrica(request.getContentType());
+    if (fabrica == null) {
+      responderErro(response, HttpStatus.UNSUPPORTED_MEDIA_TYPE, CORPO_REQUISICAO_INVALIDO);
+      return;
+    }
+    byte[] corpo = lerCorpo(request);
+    if (corpo == null) {
+      responderErro(response, HttpStatus.PAYLOAD_TOO_LARGE, CORPO_REQUISICAO_MUITO_GRANDE);
+      return;
+    }
+    String valor = extrairCampo(fabrica, corpo, login ? CAMPO_EMAIL : CAMPO_REFRESH_TOKEN);
+    if (valor == null) {
+      responderErro(response, HttpStatus.BAD_REQUEST, CORPO_REQUISICAO_INVALIDO);
+      return;
+    }
+
+    espera =
+        login
+            ? porEmail.consumir(valor.trim().toLowerCase(Locale.ROOT))
+            : porRefreshToken.consumir(digest(valor));
+    if (espera > 0) {
+      (login ? recusadasEmail : recusadasRefreshToken).increment();
+      recusar(response, espera);
+      return;
+    }
+
+    filterChain.doFilter(new RequisicaoComCorpo(request, corpo), response);
+  }
+
+  private static String caminho(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  /**
+   * Lê o corpo até {@code tamanhoMaximoCorpo} bytes, tenha ele {@code Content-Length} ou seja
+   * enviado em ‘chunks’; nulo se passar do limite.
+   */
+  private byte[] lerCorpo(HttpServletRequest request) throws IOException {
+    if (request.getContentLengthLong() > tamanhoMaximoCorpo) {
+      return null;
+    }
+    byte[] corpo = request.getInputStream().readNBytes(tamanhoMaximoCorpo + 1);
+    return corpo.length > tamanhoMaximoCorpo ? null : corpo;
+  }
+
+  /** Leitor do corpo no formato que o ‘controller’ aceita; nulo se não for JSON nem CBOR. */
+  private JsonFactory fabrica(String tipo) {
+    try {
+      MediaType mediaType = tipo == null ? null : MediaType.parseMediaType(tipo);
+      if (mediaType != null && MediaType.APPLICATION_JSON.includes(mediaType)) {
+        return objectMapper.getFactory();
+      }
+      if (mediaType != null && MediaType.APPLICATION_CBOR.includes(mediaType)) {
+        return cborFactory;
+      }
+      return null;
+    } catch (InvalidMediaTypeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Valor textual de um campo do objeto raiz, sem converter o corpo em objeto. O documento é lido
+   * até o fim com detecção de nomes repetidos, para que o valor usado aqui seja sempre o mesmo que
+   * a conversão em DTO recebe.
+   *
+   * @return valor do campo, ou nulo se o corpo for inválido, repetir um nome ou não tiver o campo
+   *     como texto
+   */
+  private static String extrairCampo(JsonFactory fabrica, byte[] corpo, String campo) {
+    try (JsonParser parser = fabrica.createParser(corpo)) {
+      parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      String encontrado = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String nome = parser.currentName();
+        JsonToken valor = parser.nextToken();
+        if (campo.equals(nome) && valor == JsonToken.VALUE_STRING) {
+          encontrado = parser.getText();
+        }
+        parser.skipChildren();
+      }
+      return encontrado;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void recusar(HttpServletResponse response, long esperaNanos) throws IOException {
+    long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + 999_999_999L));
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+    responderErro(response, HttpStatus.TOO_MANY_REQUESTS, MUITAS_REQUISICOES);
+  }
+
+  private void responderErro(
+      HttpServletResponse response, HttpStatus status, MensagemSistema mensagem)
+      throws IOException {
+    ErroDTO erro =
+        ErroDTO.builder()
+            .codigo(mensagem.getCodigo())
+            .mensagem(mensagemUtil.getMensagem(mensagem.getChave()))
+            .build();
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    objectMapper.writeValue(
+        response.getOutputStream(), ErrosDTO.builder().erros(List.of(erro)).build());
+  }
+
+  private static String digest(String valor) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(valor.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+
+  private static Counter contadorRecusadas(MeterRegistry meterRegistry, String chave) {
+    return Counter.builder("limite.taxa.recusadas")
+        .description("Requisições de login e refresh recusadas pelo limite de taxa")
+        .tag("chave", chave)
+        .register(meterRegistry);
+  }
+
+  /** Requisição cujo corpo já foi lido pelo filtro e é entregue novamente a partir da memória. */
+  private static final class RequisicaoComCorpo extends HttpServletRequestWrapper {
+
+    private final byte[] corpo;
+
+    RequisicaoComCorpo(HttpServletRequest request, byte[] corpo) {
+      super(request);
+      this.corpo = corpo;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return entrada.read();
+        }
+
+        @Override
+        public int read(byte[] destino, int inicio, int tamanho) {
+          return entrada.read(destino, inicio, tamanho);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return entrada.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        /** O corpo já está em memória: os dados estão sempre disponíveis. */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+              readListener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.autenticacao.api.app.config.security.limite;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Conjunto de baldes de ‘tokens’ indexados por chave (IP, e-mail, digest de refresh token).
+ *
+ * <p>Cada balde comporta {@code capacidade} requisições seguidas e recupera uma a cada {@code
+ * intervaloRecarga}. Em vez de contador e data da última recarga, o balde guarda um único instante
+ * (o "horário teórico de chegada" do algoritmo GCRA), equivalente ao balde de ‘tokens’: consumir é
+ * um compare-and-set nesse valor, sem bloqueio e sem thread de recarga.
+ *
+ * <p>Um balde sem uso por {@code capacidade × intervaloRecarga} já estaria cheio de novo, então é
+ * descartado sem perda; o total de chaves também é limitado, mantendo a memória sob controle mesmo
+ * com chaves forjadas pelo cliente.
+ */
+public final class LimitadorTaxa {
+
+  private final long intervaloNanos;
+  private final long toleranciaNanos;
+  private final LongSupplier relogioNanos;
+  private final Cache<String, AtomicLong> baldes;
+
+  public LimitadorTaxa(int capacidade, Duration intervaloRecarga, long maximoChaves) {
+    this(capacidade, intervaloRecarga, maximoChaves, System::nanoTime);
+  }
+
+  /**
+   * @param capacidade requisições aceitas em sequência com o balde cheio
+   * @param intervaloRecarga tempo para recuperar uma requisição
+   * @param maximoChaves quantidade máxima de baldes mantidos
+   * @param relogioNanos fonte de tempo monotônica, em nanossegundos
+   */
+  public LimitadorTaxa(
+      int capacidade, Duration intervaloRecarga, long maximoChaves, LongSupplier relogioNanos) {
+    this.intervaloNanos = intervaloRecarga.toNanos();
+    this.toleranciaNanos = intervaloNanos * capacidade;
+    this.relogioNanos = relogioNanos;
+    this.baldes =
+        Caffeine.newBuilder()
+            .maximumSize(maximoChaves)
+            .expireAfterAccess(Duration.ofNanos(toleranciaNanos))
+            .build();
+  }
+
+  /**
+   * Consome uma requisição do balde da chave.
+   *
+   * @param chave chave do balde
+   * @return 0 se a requisição foi aceita; caso contrário, nanossegundos até haver saldo
+   */
+  public long consumir(String chave) {
+    AtomicLong chegadaTeorica = baldes.get(chave, k -> new AtomicLong(relogioNanos.getAsLong()));
+    while (true) {
+      long agora = relogioNanos.getAsLong();
+      long atual = chegadaTeorica.get();
+      long proxima = Math.max(atual, agora) + intervaloNanos;
+      long espera = proxima - agora - toleranciaNanos;
+      if (espera > 0) {
+        return espera;
+      }
+      if (chegadaTeorica.compareAndSet(atual, proxima)) {
+        return 0;
+      }
+    }
+  }
+
+  public long quantidadeChaves() {
+    return baldes.estimatedSize();
+  }
+}
@@ -0,0 +1,106 @@
+package com.autenticacao.api.app.config.security.limite;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Count-Min Sketch concorrente e de tamanho fixo, com decaimento.
+ *
+ * <p>Estima quantas vezes cada chave foi contada usando {@code profundidade × largura} contadores,
+ * independente de quantas chaves distintas existam: a estimativa nunca fica abaixo da contagem
+ * real e só a excede por colisões. Incrementos e consultas usam apenas operações atômicas. Os
+ * hashes usam uma semente sorteada por instância, para que ninguém escolha chaves que colidam de
+ * propósito. {@link #decair()} divide todos os contadores por dois, fazendo com que contagens
+ * antigas percam peso.
+ */
+public final class SketchContagemMinima {
+
+  private final AtomicIntegerArray contadores;
+  private final AtomicLong total = new AtomicLong();
+  private final int profundidade;
+  private final int mascara;
+  private final long semente;
+
+  /**
+   * @param profundidade quantidade de funções de hash (linhas)
+   * @param largura contadores por linha, arredondada para a próxima potência de dois
+   */
+  public SketchContagemMinima(int profundidade, int largura) {
+    int larguraReal = Integer.highestOneBit(Math.max(2, largura - 1)) << 1;
+    this.profundidade = Math.max(1, profundidade);
+    this.mascara = larguraReal - 1;
+    this.contadores = new AtomicIntegerArray(this.profundidade * larguraReal);
+    this.semente = new SecureRandom().nextLong();
+  }
+
+  /**
+   * Conta uma ocorrência da chave.
+   *
+   * @return estimativa da contagem da chave após o incremento
+   */
+  public int incrementar(String chave) {
+    long hash = hash64(chave);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    int estimativa = Integer.MAX_VALUE;
+    for (int linha = 0; linha < profundidade; linha++) {
+      estimativa = Math.min(estimativa, contadores.incrementAndGet(indice(linha, h1 + linha * h2)));
+    }
+    total.incrementAndGet();
+    return estimativa;
+  }
+
+  public int estimar(String chave) {
+    long hash = hash64(chave);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32) | 1;
+    int estimativa = Integer.MAX_VALUE;
+    for (int linha = 0; linha < profundidade; linha++) {
+      estimativa = Math.min(estimativa, contadores.get(indice(linha, h1 + linha * h2)));
+    }
+    return estimativa;
+  }
+
+  /** Divide todos os contadores por dois. */
+  public void decair() {
+    for (int i = 0; i < contadores.length(); i++) {
+      contadores.getAndUpdate(i, valor -> valor >>> 1);
+    }
+    total.getAndUpdate(valor -> valor >>> 1);
+  }
+
+  /** Total de ocorrências contadas, com o mesmo decaimento dos contadores. */
+  public long total() {
+    return total.get();
+  }
+
+  /** Maior contador da primeira linha: limite superior da chave mais frequente. */
+  public int maximo() {
+    int maximo = 0;
+    for (int i = 0; i <= mascara; i++) {
+      maximo = Math.max(maximo, contadores.get(i));
+    }
+    return maximo;
+  }
+
+  public long tamanhoBytes() {
+    return (long) contadores.length() * Integer.BYTES;
+  }
+
+  private int indice(int linha, int combinado) {
+    return linha * (mascara + 1) + (combinado & mascara);
+  }
+
+  /** FNV-1a de 64 bits com semente, seguido da finalização do SplitMix64. */
+  private long hash64(String valor) {
+    long hash = 0xcbf29ce484222325L ^ semente;
+    for (int i = 0; i < valor.length(); i++) {
+      hash ^= valor.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+}
@@ -7,32 +7,33 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
 
 @Component
 public class UsuarioAutenticadoProvider {
 
-  public Optional<Usuario> getUsuarioLogado() {
+  public Optional<UsuarioAutenticado> getUsuarioLogado() {
     return obterUsuarioLogadoOptional();
   }
 
   public Optional<UUID> getIdUsuarioLogado() {
-    return getUsuarioLogado().map(Usuario::getId);
+    return getUsuarioLogado().map(UsuarioAutenticado::getId);
   }
 
-  public static Usuario obterUsuarioLogado() {
+  public static UsuarioAutenticado obterUsuarioLogado() {
     return obterUsuarioLogadoOptional().orElse(null);
   }
 
-  public static Optional<Usuario> obterUsuarioLogadoOptional() {
+  public static Optional<UsuarioAutenticado> obterUsuarioLogadoOptional() {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-    if (authentication != null && authentication.getPrincipal() instanceof Usuario usuario) {
+    if (authentication != null
+        && authentication.getPrincipal() instanceof UsuarioAutenticado usuario) {
       return Optional.of(usuario);
     }
     return Optional.empty();
   }
 
   public static UUID obterIdUsuarioLogado() {
-    return obterUsuarioLogadoOptional().map(Usuario::getId).orElse(null);
+    return obterUsuarioLogadoOptional().map(UsuarioAutenticado::getId).orElse(null);
   }
 }
@@ -0,0 +1,69 @@
+package com.autenticacao.api.app.config.security.revogacao;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concorrente para {@link String}s, sem bloqueio na consulta nem na inserção.
+ *
+ * <p>Responde "certamente ausente" ou "talvez presente"; não admite remoção, então quem o usa
+ * deve reconstruí-lo quando os elementos expiram.
+ */
+public final class FiltroBloom {
+
+  private final AtomicLongArray bits;
+  private final int totalBits;
+  private final int funcoesHash;
+
+  /**
+   * @param capacidade quantidade de elementos esperada
+   * @param taxaFalsoPositivo taxa de falso positivo desejada ao atingir a capacidade
+   */
+  public FiltroBloom(int capacidade, double taxaFalsoPositivo) {
+    int elementos = Math.max(1, capacidade);
+    long bitsNecessarios =
+        (long) Math.ceil(-elementos * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+    this.totalBits = (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, bitsNecessarios));
+    this.funcoesHash = Math.max(1, (int) Math.round((double) totalBits / elementos * Math.log(2)));
+    this.bits = new AtomicLongArray((totalBits + 63) >>> 6);
+  }
+
+  public void adicionar(String valor) {
+    long hash = hash64(valor);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < funcoesHash; i++) {
+      int posicao = indice(h1 + i * h2);
+      long mascara = 1L << posicao;
+      bits.getAndAccumulate(posicao >>> 6, mascara, (atual, bit) -> atual | bit);
+    }
+  }
+
+  public boolean podeConter(String valor) {
+    long hash = hash64(valor);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 0; i < funcoesHash; i++) {
+      int posicao = indice(h1 + i * h2);
+      if ((bits.get(posicao >>> 6) & (1L << posicao)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int indice(int combinado) {
+    return (combinado & Integer.MAX_VALUE) % totalBits;
+  }
+
+  /** FNV-1a de 64 bits seguido da finalização do SplitMix64, para espalhar os bits. */
+  private static long hash64(String valor) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < valor.length(); i++) {
+      hash ^= valor.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+}
@@ -0,0 +1,80 @@
+package com.autenticacao.api.app.config.security.revogacao;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Conjunto em memória dos ‘tokens’ de acesso revogados, indexado pelo jti.
+ *
+ * <p>A consulta passa primeiro por um {@link FiltroBloom}: no caso comum (token não revogado) a
+ * resposta sai do filtro, sem tocar no mapa. Cada jti fica no conjunto apenas até o exp do
+ * próprio token; depois disso o token já seria recusado pela verificação e a entrada é descartada
+ * na limpeza periódica, que também reconstrói o filtro.
+ */
+@Component
+public class RegistroRevogacoes {
+
+  private static final double TAXA_FALSO_POSITIVO = 0.01;
+
+  private final Map<String, Instant> revogados = new ConcurrentHashMap<>();
+  private final int capacidadeFiltro;
+  private volatile FiltroBloom filtro;
+
+  public RegistroRevogacoes(
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.revogacao.capacidade-filtro:100000}") int capacidadeFiltro) {
+    this.capacidadeFiltro = capacidadeFiltro;
+    this.filtro = new FiltroBloom(capacidadeFiltro, TAXA_FALSO_POSITIVO);
+    Gauge.builder("tokens_revogados", revogados, Map::size)
+        .description("Tokens de acesso revogados ainda não expirados mantidos em memória")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Registra o jti como revogado até {@code expiraEm}. Chamadas repetidas são inofensivas.
+   *
+   * @param jti identificador do token
+   * @param expiraEm exp do token; a revogação deixa de ser necessária a partir desse instante
+   */
+  public void revogar(String jti, Instant expiraEm) {
+    if (jti == null || !expiraEm.isAfter(Instant.now())) {
+      return;
+    }
+    revogados.merge(jti, expiraEm, (atual, novo) -> atual.isAfter(novo) ? atual : novo);
+    filtro.adicionar(jti);
+  }
+
+  public boolean estaRevogado(String jti) {
+    return jti != null && filtro.podeConter(jti) && revogados.containsKey(jti);
+  }
+
+  public int quantidade() {
+    return revogados.size();
+  }
+
+  /** Descarta as revogações de ‘tokens’ já expirados e reconstrói o filtro sem elas. */
+  @Scheduled(fixedDelayString = "${seguranca.revogacao.intervalo-limpeza-ms:60000}")
+  public void limparExpirados() {
+    Instant agora = Instant.now();
+    if (revogados.values().removeIf(expiraEm -> !expiraEm.isAfter(agora))) {
+      reconstruirFiltro();
+    }
+  }
+
+  private void reconstruirFiltro() {
+    FiltroBloom novo =
+        new FiltroBloom(Math.max(capacidadeFiltro, revogados.size() * 2), TAXA_FALSO_POSITIVO);
+    revogados.keySet().forEach(novo::adicionar);
+    filtro = novo;
+    // Revogações concorrentes podem ter sido gravadas no filtro anterior durante a troca
+    revogados.keySet().forEach(novo::adicionar);
+  }
+}
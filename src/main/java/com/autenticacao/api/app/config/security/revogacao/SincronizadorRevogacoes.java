@@ -0,0 +1,258 @@
+package com.autenticacao.api.app.config.security.revogacao;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.config.security.cache.VersaoTokenCache;
+import com.autenticacao.api.app.repository.TokenBlacklistRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Mantém o {@link RegistroRevogacoes} de cada instância igual ao das demais.
+ *
+ * <p>Toda revogação gravada em {@code token_black_list} é anunciada com {@code pg_notify} no canal
+ * {@value #CANAL}, dentro da mesma transação; o Postgres só entrega a notificação após o commit.
+ * Da mesma forma, o incremento da versão dos ‘tokens’ de um usuário é anunciado no canal {@value
+ * #CANAL_VERSAO}, invalidando a versão em cache. Cada instância mantém uma conexão dedicada em
+ * {@code LISTEN} e aplica as notificações recebidas localmente, em milissegundos. Ao iniciar, e a
+ * cada reconexão, o registro é recarregado a partir das linhas ainda não expiradas da tabela e o
+ * cache de versões é esvaziado, cobrindo o que mudou enquanto a instância não escutava.
+ *
+ * <p>A conexão de escuta é aberta direto pelo driver, com a mesma URL e credenciais do {@code
+ * spring.datasource}, e não vem do ‘pool’: ela fica presa pelo tempo de vida do processo e, tirada
+ * do Hikari, deixaria uma conexão a menos para as requisições.
+ */
+@Component
+public class SincronizadorRevogacoes {
+
+  static final String CANAL = "revogacao_token";
+  static final String CANAL_VERSAO = "versao_token";
+  static final String NOME_CONEXAO = "revogacao-token-ouvinte";
+  private static final char SEPARADOR = ':';
+  private static final Logger logger = LoggerFactory.getLogger(SincronizadorRevogacoes.class);
+
+  private final RegistroRevogacoes registroRevogacoes;
+  private final VersaoTokenCache versaoTokenCache;
+  private final TokenBlacklistRepository tokenBlacklistRepository;
+  private final DataSourceProperties dataSourceProperties;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean notificacaoHabilitada;
+  private final int esperaNotificacaoMs;
+  private final long intervaloReconexaoMs;
+
+  private volatile boolean executando;
+  private Thread ouvinte;
+
+  public SincronizadorRevogacoes(
+      RegistroRevogacoes registroRevogacoes,
+      VersaoTokenCache versaoTokenCache,
+      TokenBlacklistRepository tokenBlacklistRepository,
+      DataSourceProperties dataSourceProperties,
+      JdbcTemplate jdbcTemplate,
+      @Value("${seguranca.revogacao.notificacao.habilitada:true}") boolean notificacaoHabilitada,
+      @Value("${seguranca.revogacao.notificacao.espera-ms:10000}") int esperaNotificacaoMs,
+      @Value("${seguranca.revogacao.notificacao.intervalo-reconexao-ms:5000}")
+          long intervaloReconexaoMs) {
+    this.registroRevogacoes = registroRevogacoes;
+    this.versaoTokenCache = versaoTokenCache;
+    this.tokenBlacklistRepository = tokenBlacklistRepository;
+    this.dataSourceProperties = dataSourceProperties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.notificacaoHabilitada = notificacaoHabilitada;
+    this.esperaNotificacaoMs = esperaNotificacaoMs;
+    this.intervaloReconexaoMs = intervaloReconexaoMs;
+  }
+
+  /**
+   * Passa a escutar o canal e só então carrega as revogações existentes, para que nenhuma
+   * revogação feita entre as duas etapas se perca.
+   */
+  @PostConstruct
+  public void iniciar() {
+    if (!notificacaoHabilitada) {
+      recarregar();
+      return;
+    }
+
+    Connection conexao = null;
+    try {
+      conexao = conectar();
+    } catch (SQLException e) {
+      logger.warn("Não foi possível escutar o canal {}; nova tentativa em segundo plano", CANAL, e);
+    }
+    recarregar();
+
+    if (conexao != null && !suportaNotificacao(conexao)) {
+      logger.warn("Banco sem suporte a LISTEN/NOTIFY; revogações não serão sincronizadas");
+      fechar(conexao);
+      return;
+    }
+
+    executando = true;
+    Connection inicial = conexao;
+    ouvinte = new Thread(() -> escutar(inicial), NOME_CONEXAO);
+    ouvinte.setDaemon(true);
+    ouvinte.start();
+  }
+
+  @PreDestroy
+  public void parar() {
+    executando = false;
+    if (ouvinte != null) {
+      ouvinte.interrupt();
+    }
+  }
+
+  /**
+   * Anuncia a revogação às demais instâncias. Deve ser chamado na transação que grava a revogação:
+   * a notificação só é entregue se ela for confirmada.
+   */
+  public void publicarRevogacao(String jti, Instant expiraEm) {
+    notificar(CANAL, expiraEm.getEpochSecond() + String.valueOf(SEPARADOR) + jti);
+  }
+
+  /**
+   * Anuncia que a versão dos ‘tokens’ do usuário mudou. Deve ser chamado na transação que a
+   * incrementa.
+   */
+  public void publicarVersao(UUID usuarioId) {
+    notificar(CANAL_VERSAO, usuarioId.toString());
+  }
+
+  private void notificar(String canal, String payload) {
+    if (!notificacaoHabilitada) {
+      return;
+    }
+    jdbcTemplate.query(
+        "SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) resultado -> null, canal, payload);
+  }
+
+  private void escutar(Connection inicial) {
+    Connection conexao = inicial;
+    while (executando) {
+      try {
+        if (conexao == null) {
+          conexao = conectar();
+          recarregar();
+        }
+        PGConnection pg = conexao.unwrap(PGConnection.class);
+        PGNotification[] notificacoes = pg.getNotifications(esperaNotificacaoMs);
+        if (notificacoes != null) {
+          for (PGNotification notificacao : notificacoes) {
+            if (CANAL_VERSAO.equals(notificacao.getName())) {
+              aplicarVersao(notificacao.getParameter());
+            } else {
+              aplicar(notificacao.getParameter());
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (!executando) {
+          break;
+        }
+        logger.warn("Falha ao escutar o canal {}; reconectando", CANAL, e);
+        fechar(conexao);
+        conexao = null;
+        aguardarReconexao();
+      }
+    }
+    fechar(conexao);
+  }
+
+  private Connection conectar() throws SQLException {
+    Properties propriedades = new Properties();
+    propriedades.setProperty("ApplicationName", NOME_CONEXAO);
+    if (dataSourceProperties.determineUsername() != null) {
+      propriedades.setProperty("user", dataSourceProperties.determineUsername());
+    }
+    if (dataSourceProperties.determinePassword() != null) {
+      propriedades.setProperty("password", dataSourceProperties.determinePassword());
+    }
+    Connection conexao =
+        DriverManager.getConnection(dataSourceProperties.determineUrl(), propriedades);
+    try (Statement comando = conexao.createStatement()) {
+      comando.execute("LISTEN " + CANAL);
+      comando.execute("LISTEN " + CANAL_VERSAO);
+      return conexao;
+    } catch (SQLException e) {
+      fechar(conexao);
+      throw e;
+    }
+  }
+
+  private void recarregar() {
+    versaoTokenCache.invalidarTodos();
+    tokenBlacklistRepository
+        .findByExpiryDateAfter(Instant.now())
+        .forEach(
+            revogado -> registroRevogacoes.revogar(revogado.getToken(), revogado.getExpiryDate()));
+    logger.info("Revogações de tokens carregadas: {}", registroRevogacoes.quantidade());
+  }
+
+  private void aplicar(String payload) {
+    int separador = payload == null ? -1 : payload.indexOf(SEPARADOR);
+    if (separador <= 0) {
+      logger.warn("Notificação de revogação inválida: {}", payload);
+      return;
+    }
+    try {
+      Instant expiraEm = Instant.ofEpochSecond(Long.parseLong(payload.substring(0, separador)));
+      registroRevogacoes.revogar(payload.substring(separador + 1), expiraEm);
+    } catch (NumberFormatException e) {
+      logger.warn("Notificação de revogação inválida: {}", payload);
+    }
+  }
+
+  private void aplicarVersao(String payload) {
+    try {
+      versaoTokenCache.invalidar(UUID.fromString(payload));
+    } catch (IllegalArgumentException | NullPointerException e) {
+      logger.warn("Notificação de versão de token inválida: {}", payload);
+    }
+  }
+
+  private static boolean suportaNotificacao(Connection conexao) {
+    try {
+      return conexao.isWrapperFor(PGConnection.class);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  private void aguardarReconexao() {
+    try {
+      Thread.sleep(intervaloReconexaoMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executando = false;
+    }
+  }
+
+  private static void fechar(Connection conexao) {
+    if (conexao == null) {
+      return;
+    }
+    try {
+      conexao.close();
+    } catch (SQLException e) {
+      logger.debug("Falha ao fechar conexão de escuta", e);
+    }
+  }
+}
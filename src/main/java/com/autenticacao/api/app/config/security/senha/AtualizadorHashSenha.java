@@ -0,0 +1,99 @@
+package com.autenticacao.api.app.config.security.senha;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.repository.AutenticacaoRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Refaz, fora do caminho da requisição, o hash de senhas gravadas com outro algoritmo ou com custo
+ * abaixo do atual, aproveitando a senha em texto de um ‘login’ bem-sucedido.
+ *
+ * <p>Os hashes são calculados por uma única thread com fila limitada; se a fila estiver cheia a
+ * atualização é descartada e acontece em um próximo ‘login’. A gravação só ocorre se o hash no
+ * banco ainda for o verificado, preservando uma troca de senha concorrente.
+ */
+@Component
+public class AtualizadorHashSenha {
+
+  private static final Logger logger = LoggerFactory.getLogger(AtualizadorHashSenha.class);
+
+  private final PasswordEncoder passwordEncoder;
+  private final AutenticacaoRepository autenticacaoRepository;
+  private final ThreadPoolExecutor executor;
+  private final Counter atualizados;
+
+  public AtualizadorHashSenha(
+      PasswordEncoder passwordEncoder,
+      AutenticacaoRepository autenticacaoRepository,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.senha.rehash.fila:256}") int fila) {
+    this.passwordEncoder = passwordEncoder;
+    this.autenticacaoRepository = autenticacaoRepository;
+    this.executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fila),
+            tarefa -> {
+              Thread thread = new Thread(tarefa, "atualizacao-hash-senha");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.atualizados =
+        Counter.builder("login.senha.rehash")
+            .description("Hashes de senha refeitos com o algoritmo e custo atuais")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Agenda a troca do hash se ele usar outro algoritmo ou custo menor que o atual. Deve ser chamado
+   * apenas depois que {@code senha} foi verificada contra {@code hashAtual}.
+   *
+   * @param usuarioId usuário dono da senha
+   * @param senha senha em texto, já verificada
+   * @param hashAtual hash armazenado que foi verificado
+   */
+  public void atualizarSeNecessario(UUID usuarioId, String senha, String hashAtual) {
+    if (!passwordEncoder.upgradeEncoding(hashAtual)) {
+      return;
+    }
+    try {
+      executor.execute(() -> atualizar(usuarioId, senha, hashAtual));
+    } catch (RejectedExecutionException e) {
+      logger.debug("Fila de atualização de hash cheia; usuário {} fica para depois", usuarioId);
+    }
+  }
+
+  @PreDestroy
+  public void parar() {
+    executor.shutdown();
+  }
+
+  private void atualizar(UUID usuarioId, String senha, String hashAtual) {
+    try {
+      String novoHash = passwordEncoder.encode(senha);
+      if (autenticacaoRepository.atualizarHashSenha(usuarioId, hashAtual, novoHash) > 0) {
+        atualizados.increment();
+        logger.info("Hash da senha do usuário {} atualizado", usuarioId);
+      }
+    } catch (RuntimeException e) {
+      logger.warn("Falha ao atualizar o hash da senha do usuário {}", usuarioId, e);
+    }
+  }
+}
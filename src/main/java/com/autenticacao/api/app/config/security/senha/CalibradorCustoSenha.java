@@ -0,0 +1,108 @@
+package com.autenticacao.api.app.config.security.senha;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Escolhe, no hardware em que a aplicação está rodando, o custo do hash de senha que mais se
+ * aproxima de um tempo alvo de verificação sem ultrapassá-lo.
+ *
+ * <p>O custo nunca fica abaixo do mínimo configurado: se nem ele cabe no alvo, o mínimo é usado. As
+ * medições são feitas uma única vez, na inicialização; cada uma é a mediana de várias
+ * verificações, para que uma pausa do GC ou um vizinho barulhento não mudem o custo escolhido.
+ */
+public final class CalibradorCustoSenha {
+
+  private static final String SENHA_CALIBRACAO = "calibracao-custo-senha";
+  private static final int AQUECIMENTOS = 1;
+  private static final int AMOSTRAS = 5;
+
+  private CalibradorCustoSenha() {}
+
+  /**
+   * Custo (log2 das rodadas) do BCrypt para o tempo alvo.
+   *
+   * @param alvo tempo máximo desejado para verificar uma senha
+   * @param minimo menor custo aceito
+   * @param maximo maior custo aceito
+   * @return custo calibrado, entre {@code minimo} e {@code maximo}
+   */
+  public static int custoBcrypt(Duration alvo, int minimo, int maximo) {
+    return custoBcrypt(
+        alvo, minimo, maximo, custo -> medirVerificacao(new BCryptPasswordEncoder(custo)));
+  }
+
+  /**
+   * Como {@link #custoBcrypt(Duration, int, int)}, com a medição informada. Cada custo a mais dobra
+   * o tempo, então o próximo só é medido quando o dobro do atual ainda cabe no alvo.
+   *
+   * @param medirNanos tempo, em nanossegundos, para verificar uma senha com o custo informado
+   */
+  public static int custoBcrypt(
+      Duration alvo, int minimo, int maximo, IntToLongFunction medirNanos) {
+    long alvoNanos = alvo.toNanos();
+    int custo = minimo;
+    long tempo = medirNanos.applyAsLong(custo);
+    while (custo < maximo && tempo * 2 <= alvoNanos) {
+      long proximo = medirNanos.applyAsLong(custo + 1);
+      if (proximo > alvoNanos) {
+        break;
+      }
+      custo++;
+      tempo = proximo;
+    }
+    return custo;
+  }
+
+  /**
+   * Número de iterações do Argon2id para o tempo alvo, com a memória e o paralelismo informados.
+   *
+   * @param alvo tempo máximo desejado para verificar uma senha
+   * @param memoriaKb memória usada por hash, em KiB
+   * @param paralelismo número de faixas de processamento
+   * @param minimo menor número de iterações aceito
+   * @param maximo maior número de iterações aceito
+   * @return iterações calibradas, entre {@code minimo} e {@code maximo}
+   */
+  public static int iteracoesArgon2(
+      Duration alvo, int memoriaKb, int paralelismo, int minimo, int maximo) {
+    return iteracoesArgon2(
+        alvo,
+        minimo,
+        maximo,
+        iteracoes ->
+            medirVerificacao(FabricaCodificadorSenha.argon2(memoriaKb, paralelismo, iteracoes)));
+  }
+
+  /**
+   * Como {@link #iteracoesArgon2(Duration, int, int, int, int)}, com a medição informada. O tempo
+   * do Argon2 cresce linearmente com as iterações, então basta medir o mínimo.
+   *
+   * @param medirNanos tempo, em nanossegundos, para verificar uma senha com as iterações informadas
+   */
+  public static int iteracoesArgon2(
+      Duration alvo, int minimo, int maximo, IntToLongFunction medirNanos) {
+    long tempoMinimo = Math.max(1, medirNanos.applyAsLong(minimo));
+    long iteracoes = alvo.toNanos() * minimo / tempoMinimo;
+    return (int) Math.max(minimo, Math.min(maximo, iteracoes));
+  }
+
+  private static long medirVerificacao(PasswordEncoder codificador) {
+    String hash = codificador.encode(SENHA_CALIBRACAO);
+    for (int i = 0; i < AQUECIMENTOS; i++) {
+      codificador.matches(SENHA_CALIBRACAO, hash);
+    }
+    long[] tempos = new long[AMOSTRAS];
+    for (int i = 0; i < AMOSTRAS; i++) {
+      long inicio = System.nanoTime();
+      codificador.matches(SENHA_CALIBRACAO, hash);
+      tempos[i] = System.nanoTime() - inicio;
+    }
+    Arrays.sort(tempos);
+    return tempos[AMOSTRAS / 2];
+  }
+}
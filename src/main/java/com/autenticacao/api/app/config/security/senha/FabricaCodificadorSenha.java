@@ -0,0 +1,128 @@
+package com.autenticacao.api.app.config.security.senha;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ALGORITMO_SENHA_DESCONHECIDO;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Monta o codificador de senhas da aplicação: um {@link DelegatingPasswordEncoder} que grava cada
+ * hash com o prefixo do algoritmo ({@code {bcrypt}} ou {@code {argon2}}) e verifica qualquer um
+ * deles, inclusive os hashes BCrypt antigos, sem prefixo.
+ *
+ * <p>Novos hashes usam {@code seguranca.senha.algoritmo}. O custo do algoritmo escolhido pode ser
+ * fixado por configuração ou, quando zero, é calibrado na inicialização para o tempo alvo de
+ * verificação neste hardware. Hashes com outro algoritmo, sem prefixo ou com custo abaixo do atual
+ * são refeitos após um ‘login’ bem-sucedido pelo {@link AtualizadorHashSenha}. Um custo acima do
+ * atual é mantido: como cada nó calibra o seu, trocar o hash sempre que o custo fosse diferente
+ * faria o mesmo usuário ser refeito de um lado para o outro.
+ */
+@Component
+public class FabricaCodificadorSenha {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String ARGON2 = "argon2";
+  private static final int CUSTO_MAXIMO_BCRYPT = 16;
+  private static final int ITERACOES_MINIMAS_ARGON2 = 2;
+  private static final int ITERACOES_MAXIMAS_ARGON2 = 20;
+  private static final int TAMANHO_SALT_ARGON2 = 16;
+  private static final int TAMANHO_HASH_ARGON2 = 32;
+  private static final Logger logger = LoggerFactory.getLogger(FabricaCodificadorSenha.class);
+
+  private final String algoritmo;
+  private final Duration tempoAlvo;
+  private final int custoBcrypt;
+  private final int custoMinimoBcrypt;
+  private final int iteracoesArgon2;
+  private final int memoriaArgon2Kb;
+  private final int paralelismoArgon2;
+
+  public FabricaCodificadorSenha(
+      @Value("${seguranca.senha.algoritmo:bcrypt}") String algoritmo,
+      @Value("${seguranca.senha.tempo-alvo-ms:100}") long tempoAlvoMs,
+      @Value("${seguranca.senha.bcrypt.custo:0}") int custoBcrypt,
+      @Value("${seguranca.senha.bcrypt.custo-minimo:10}") int custoMinimoBcrypt,
+      @Value("${seguranca.senha.argon2.iteracoes:0}") int iteracoesArgon2,
+      @Value("${seguranca.senha.argon2.memoria-kb:16384}") int memoriaArgon2Kb,
+      @Value("${seguranca.senha.argon2.paralelismo:1}") int paralelismoArgon2) {
+    this.algoritmo = algoritmo;
+    this.tempoAlvo = Duration.ofMillis(tempoAlvoMs);
+    this.custoBcrypt = custoBcrypt;
+    this.custoMinimoBcrypt = custoMinimoBcrypt;
+    this.iteracoesArgon2 = iteracoesArgon2;
+    this.memoriaArgon2Kb = memoriaArgon2Kb;
+    this.paralelismoArgon2 = paralelismoArgon2;
+  }
+
+  /**
+   * Cria o codificador, calibrando o custo do algoritmo de gravação quando ele não foi fixado.
+   *
+   * @return codificador delegante com BCrypt e Argon2id
+   * @throws IllegalStateException se o algoritmo configurado não for suportado
+   */
+  public PasswordEncoder criar() {
+    if (!BCRYPT.equals(algoritmo) && !ARGON2.equals(algoritmo)) {
+      throw new IllegalStateException(ALGORITMO_SENHA_DESCONHECIDO.getChave() + ": " + algoritmo);
+    }
+
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(resolverCustoBcrypt());
+    Map<String, PasswordEncoder> codificadores = new HashMap<>();
+    codificadores.put(BCRYPT, bcrypt);
+    codificadores.put(
+        ARGON2, argon2(memoriaArgon2Kb, paralelismoArgon2, resolverIteracoesArgon2()));
+
+    DelegatingPasswordEncoder codificador = new DelegatingPasswordEncoder(algoritmo, codificadores);
+    codificador.setDefaultPasswordEncoderForMatches(bcrypt);
+    return codificador;
+  }
+
+  static Argon2PasswordEncoder argon2(int memoriaKb, int paralelismo, int iteracoes) {
+    return new Argon2PasswordEncoder(
+        TAMANHO_SALT_ARGON2, TAMANHO_HASH_ARGON2, paralelismo, memoriaKb, iteracoes);
+  }
+
+  private int resolverCustoBcrypt() {
+    if (custoBcrypt > 0) {
+      return custoBcrypt;
+    }
+    if (!BCRYPT.equals(algoritmo)) {
+      return custoMinimoBcrypt;
+    }
+    int custo = CalibradorCustoSenha.custoBcrypt(tempoAlvo, custoMinimoBcrypt, CUSTO_MAXIMO_BCRYPT);
+    logger.info(
+        "Custo do BCrypt calibrado em {} para o alvo de {} ms", custo, tempoAlvo.toMillis());
+    return custo;
+  }
+
+  private int resolverIteracoesArgon2() {
+    if (iteracoesArgon2 > 0) {
+      return iteracoesArgon2;
+    }
+    if (!ARGON2.equals(algoritmo)) {
+      return ITERACOES_MINIMAS_ARGON2;
+    }
+    int iteracoes =
+        CalibradorCustoSenha.iteracoesArgon2(
+            tempoAlvo,
+            memoriaArgon2Kb,
+            paralelismoArgon2,
+            ITERACOES_MINIMAS_ARGON2,
+            ITERACOES_MAXIMAS_ARGON2);
+    logger.info(
+        "Iterações do Argon2id calibradas em {} ({} KiB) para o alvo de {} ms",
+        iteracoes,
+        memoriaArgon2Kb,
+        tempoAlvo.toMillis());
+    return iteracoes;
+  }
+}
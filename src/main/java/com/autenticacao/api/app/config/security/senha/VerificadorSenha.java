@@ -0,0 +1,152 @@
+package com.autenticacao.api.app.config.security.senha;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_VERIFICAR_SENHA;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.SERVICO_SOBRECARREGADO;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.exception.ServicoSobrecarregadoException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Verifica senhas do ‘login’ em um pool próprio, do tamanho do número de CPUs, com fila limitada.
+ *
+ * <p>O BCrypt é deliberadamente caro; executado nas threads do Tomcat, uma rajada de ‘logins’
+ * ocupava todo o pool de requisições e deixava os demais endpoints sem resposta. Aqui, no máximo
+ * {@code threads} hashes são calculados ao mesmo tempo e até {@code fila} aguardam a vez. Com a
+ * fila cheia, ou se a espera passar de {@code esperaMaximaMs}, a verificação é recusada de imediato
+ * com {@link ServicoSobrecarregadoException}, respondida como 503 com {@code Retry-After}.
+ */
+@Component
+public class VerificadorSenha {
+
+  private static final Logger logger = LoggerFactory.getLogger(VerificadorSenha.class);
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final long esperaMaximaMs;
+  private final long retryAfterSegundos;
+  private final Timer tempoEspera;
+  private final Timer tempoHash;
+  private final Counter recusadas;
+
+  public VerificadorSenha(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.login.verificacao.threads:0}") int threads,
+      @Value("${seguranca.login.verificacao.fila:64}") int fila,
+      @Value("${seguranca.login.verificacao.espera-maxima-ms:5000}") long esperaMaximaMs,
+      @Value("${seguranca.login.verificacao.retry-after-segundos:1}") long retryAfterSegundos) {
+    this.passwordEncoder = passwordEncoder;
+    this.esperaMaximaMs = esperaMaximaMs;
+    this.retryAfterSegundos = retryAfterSegundos;
+
+    int tamanhoPool = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor =
+        new ThreadPoolExecutor(
+            tamanhoPool,
+            tamanhoPool,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fila),
+            fabricaThreads());
+
+    Gauge.builder("login.senha.fila", executor.getQueue(), BlockingQueue::size)
+        .description("Verificações de senha aguardando uma thread livre")
+        .register(meterRegistry);
+    this.tempoEspera =
+        Timer.builder("login.senha.espera")
+            .description("Tempo entre o pedido de verificação e o início do hash")
+            .register(meterRegistry);
+    this.tempoHash =
+        Timer.builder("login.senha.hash")
+            .description("Tempo de cálculo do hash da senha")
+            .register(meterRegistry);
+    this.recusadas =
+        Counter.builder("login.senha.recusadas")
+            .description("Verificações recusadas por fila cheia ou espera excedida")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Confere a senha informada com o hash armazenado, aguardando a vez no pool de verificação.
+   *
+   * @param senha senha em texto informada no ‘login’
+   * @param hash hash armazenado do usuário
+   * @return true se a senha corresponder ao hash
+   * @throws ServicoSobrecarregadoException se a fila estiver cheia ou a espera for excedida
+   */
+  public boolean verificar(String senha, String hash) {
+    long solicitadoEm = System.nanoTime();
+    Future<Boolean> verificacao;
+    try {
+      verificacao =
+          executor.submit(
+              () -> {
+                long iniciadoEm = System.nanoTime();
+                tempoEspera.record(iniciadoEm - solicitadoEm, TimeUnit.NANOSECONDS);
+                boolean corresponde = passwordEncoder.matches(senha, hash);
+                tempoHash.record(System.nanoTime() - iniciadoEm, TimeUnit.NANOSECONDS);
+                return corresponde;
+              });
+    } catch (RejectedExecutionException e) {
+      throw recusar("fila cheia");
+    }
+
+    try {
+      return verificacao.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      verificacao.cancel(true);
+      throw recusar("espera excedida");
+    } catch (InterruptedException e) {
+      verificacao.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ERRO_VERIFICAR_SENHA.getChave(), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException causa) {
+        throw causa;
+      }
+      throw new IllegalStateException(ERRO_VERIFICAR_SENHA.getChave(), e.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void parar() {
+    executor.shutdownNow();
+  }
+
+  private ServicoSobrecarregadoException recusar(String motivo) {
+    recusadas.increment();
+    logger.warn("Verificação de senha recusada: {}", motivo);
+    return new ServicoSobrecarregadoException(SERVICO_SOBRECARREGADO, retryAfterSegundos);
+  }
+
+  private static ThreadFactory fabricaThreads() {
+    AtomicInteger contador = new AtomicInteger();
+    return tarefa -> {
+      Thread thread = new Thread(tarefa, "verificacao-senha-" + contador.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -0,0 +1,211 @@
+package com.autenticacao.api.app.config.security.socket;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+import com.autenticacao.api.app.service.IntrospeccaoService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Introspecção de ‘tokens’ por socket Unix, para serviços executados no mesmo host.
+ *
+ * <p>Evita, para esses consumidores, o custo de HTTP, da cadeia de filtros do Spring Security e do
+ * JSON: cada requisição é um token no {@link ProtocoloIntrospeccaoSocket} e a resposta vem do mesmo
+ * {@link IntrospeccaoService} usado pelo endpoint HTTP. O acesso é controlado pelas permissões do
+ * arquivo do socket, por isso ele não exige ‘token’ do chamador; se elas não puderem ser
+ * aplicadas, a inicialização falha em vez de deixar o socket aberto.
+ *
+ * <p>As conexões são atendidas por um pool próprio e pequeno; cada conexão ocupa uma thread
+ * enquanto estiver aberta, portanto os consumidores devem manter poucas conexões persistentes e
+ * enviar as requisições em sequência por elas. Conexões além do pool e da fila são recusadas.
+ */
+@Component
+@ConditionalOnProperty(name = "seguranca.introspeccao.socket.habilitado", havingValue = "true")
+public class OuvinteIntrospeccaoSocket {
+
+  private static final int TAMANHO_BUFFER_RESPOSTA = 256;
+  private static final Logger logger = LoggerFactory.getLogger(OuvinteIntrospeccaoSocket.class);
+
+  private final IntrospeccaoService introspeccaoService;
+  private final Path caminho;
+  private final String permissoes;
+  private final int threads;
+  private final int fila;
+  private final int tamanhoMaximoToken;
+  private final Set<SocketChannel> conexoes = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean executando;
+  private ServerSocketChannel servidor;
+  private ThreadPoolExecutor executor;
+  private Thread aceitador;
+
+  public OuvinteIntrospeccaoSocket(
+      IntrospeccaoService introspeccaoService,
+      @Value("${seguranca.introspeccao.socket.caminho:/tmp/autenticacao-introspeccao.sock}")
+          String caminho,
+      @Value("${seguranca.introspeccao.socket.permissoes:rw-rw----}") String permissoes,
+      @Value("${seguranca.introspeccao.socket.threads:4}") int threads,
+      @Value("${seguranca.introspeccao.socket.fila:16}") int fila,
+      @Value("${seguranca.introspeccao.socket.tamanho-maximo-token:8192}")
+          int tamanhoMaximoToken) {
+    this.introspeccaoService = introspeccaoService;
+    this.caminho = Path.of(caminho);
+    this.permissoes = permissoes;
+    this.threads = threads;
+    this.fila = fila;
+    this.tamanhoMaximoToken = tamanhoMaximoToken;
+  }
+
+  @PostConstruct
+  public void iniciar() throws IOException {
+    Files.deleteIfExists(caminho);
+    servidor = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    servidor.bind(UnixDomainSocketAddress.of(caminho));
+    try {
+      restringirPermissoes();
+    } catch (IOException e) {
+      parar();
+      throw e;
+    }
+
+    executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fila),
+            fabricaThreads());
+    executando = true;
+    aceitador = new Thread(this::aceitar, "introspeccao-socket-aceitador");
+    aceitador.setDaemon(true);
+    aceitador.start();
+    logger.info("Introspecção por socket Unix escutando em {}", caminho);
+  }
+
+  @PreDestroy
+  public void parar() {
+    executando = false;
+    fechar(servidor);
+    conexoes.forEach(OuvinteIntrospeccaoSocket::fechar);
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    try {
+      Files.deleteIfExists(caminho);
+    } catch (IOException e) {
+      logger.debug("Falha ao remover o socket {}", caminho, e);
+    }
+  }
+
+  private void aceitar() {
+    while (executando) {
+      try {
+        SocketChannel conexao = servidor.accept();
+        conexoes.add(conexao);
+        try {
+          executor.execute(() -> atender(conexao));
+        } catch (RejectedExecutionException e) {
+          logger.warn("Conexão de introspecção recusada: pool e fila ocupados");
+          conexoes.remove(conexao);
+          fechar(conexao);
+        }
+      } catch (ClosedChannelException e) {
+        break;
+      } catch (IOException e) {
+        if (executando) {
+          logger.warn("Falha ao aceitar conexão de introspecção", e);
+        }
+      }
+    }
+  }
+
+  private void atender(SocketChannel conexao) {
+    ByteBuffer prefixo = ByteBuffer.allocate(ProtocoloIntrospeccaoSocket.TAMANHO_PREFIXO);
+    ByteBuffer token = ByteBuffer.allocate(tamanhoMaximoToken);
+    ByteBuffer resposta = ByteBuffer.allocate(TAMANHO_BUFFER_RESPOSTA);
+
+    try (conexao) {
+      while (executando) {
+        prefixo.clear();
+        if (!ProtocoloIntrospeccaoSocket.lerCompleto(conexao, prefixo)) {
+          return;
+        }
+        int tamanho = prefixo.getInt(0);
+        if (tamanho <= 0 || tamanho > tamanhoMaximoToken) {
+          logger.warn("Requisição de introspecção com tamanho inválido: {}", tamanho);
+          return;
+        }
+
+        token.clear().limit(tamanho);
+        if (!ProtocoloIntrospeccaoSocket.lerCompleto(conexao, token)) {
+          return;
+        }
+        IntrospeccaoResponse resultado =
+            introspeccaoService.introspectar(
+                new String(token.array(), 0, tamanho, StandardCharsets.US_ASCII));
+        ProtocoloIntrospeccaoSocket.escreverCompleto(
+            conexao, ProtocoloIntrospeccaoSocket.codificarResposta(resultado, resposta));
+      }
+    } catch (IOException e) {
+      logger.debug("Conexão de introspecção encerrada", e);
+    } finally {
+      conexoes.remove(conexao);
+    }
+  }
+
+  private void restringirPermissoes() throws IOException {
+    try {
+      Files.setPosixFilePermissions(caminho, PosixFilePermissions.fromString(permissoes));
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      throw new IOException("Não foi possível restringir as permissões do socket " + caminho, e);
+    }
+  }
+
+  private static ThreadFactory fabricaThreads() {
+    AtomicInteger contador = new AtomicInteger();
+    return tarefa -> {
+      Thread thread = new Thread(tarefa, "introspeccao-socket-" + contador.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static void fechar(Closeable canal) {
+    if (canal == null) {
+      return;
+    }
+    try {
+      canal.close();
+    } catch (IOException e) {
+      logger.debug("Falha ao fechar canal de introspecção", e);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.autenticacao.api.app.config.security.socket;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+
+/**
+ * Protocolo binário da introspecção por socket Unix. Todos os inteiros são big-endian e cada
+ * mensagem é precedida do seu tamanho em bytes ({@code int32}, sem contar o próprio prefixo).
+ *
+ * <pre>
+ * requisição: [int32 tamanho][token em US-ASCII]
+ * resposta:   [int32 tamanho][uint8 ativo]
+ *             se ativo: [int64 exp][int64 uid, bits mais significativos][int64 uid, bits menos
+ *                       significativos][uint16 tamanho][sub em UTF-8][uint8 tamanho][role em
+ *                       US-ASCII]
+ * </pre>
+ *
+ * <p>Uma conexão pode enviar várias requisições em sequência; cada uma recebe exatamente uma
+ * resposta, na mesma ordem. O {@code sub} é o e-mail do usuário (até 50 caracteres) e a {@code
+ * role}, o nome do {@code UserRole}, portanto ambos cabem nos respectivos prefixos.
+ */
+public final class ProtocoloIntrospeccaoSocket {
+
+  public static final int TAMANHO_PREFIXO = Integer.BYTES;
+  private static final int TAMANHO_FIXO_ATIVO = 1 + 3 * Long.BYTES + Short.BYTES + 1;
+  private static final int TAMANHO_MAXIMO_RESPOSTA = TAMANHO_FIXO_ATIVO + 0xFFFF + 0xFF;
+
+  private ProtocoloIntrospeccaoSocket() {}
+
+  /**
+   * Codifica a resposta, com o prefixo de tamanho, pronta para escrita.
+   *
+   * @param resposta resultado da introspecção
+   * @param reutilizavel buffer da conexão, usado se comportar a resposta
+   * @return buffer em modo de leitura contendo a mensagem
+   */
+  public static ByteBuffer codificarResposta(
+      IntrospeccaoResponse resposta, ByteBuffer reutilizavel) {
+    if (!resposta.active()) {
+      ByteBuffer buffer = reutilizavel.clear();
+      return buffer.putInt(1).put((byte) 0).flip();
+    }
+
+    byte[] sub = resposta.sub().getBytes(StandardCharsets.UTF_8);
+    byte[] role = resposta.role().getBytes(StandardCharsets.US_ASCII);
+    int tamanho = TAMANHO_FIXO_ATIVO + sub.length + role.length;
+    ByteBuffer buffer =
+        reutilizavel.capacity() >= TAMANHO_PREFIXO + tamanho
+            ? reutilizavel.clear()
+            : ByteBuffer.allocate(TAMANHO_PREFIXO + tamanho);
+
+    return buffer
+        .putInt(tamanho)
+        .put((byte) 1)
+        .putLong(resposta.exp())
+        .putLong(resposta.uid().getMostSignificantBits())
+        .putLong(resposta.uid().getLeastSignificantBits())
+        .putShort((short) sub.length)
+        .put(sub)
+        .put((byte) role.length)
+        .put(role)
+        .flip();
+  }
+
+  /**
+   * Lê uma resposta completa do canal. Usado pelos clientes do protocolo.
+   *
+   * @throws EOFException se o servidor fechar a conexão antes do fim da mensagem
+   * @throws IOException se o tamanho anunciado estiver fora do possível para uma resposta ou não
+   *     corresponder ao conteúdo
+   */
+  public static IntrospeccaoResponse lerResposta(ReadableByteChannel canal) throws IOException {
+    ByteBuffer prefixo = ByteBuffer.allocate(TAMANHO_PREFIXO);
+    if (!lerCompleto(canal, prefixo)) {
+      throw new EOFException();
+    }
+    int tamanho = prefixo.getInt(0);
+    if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_RESPOSTA) {
+      throw new IOException("Tamanho de resposta de introspecção inválido: " + tamanho);
+    }
+    ByteBuffer corpo = ByteBuffer.allocate(tamanho);
+    if (!lerCompleto(canal, corpo)) {
+      throw new EOFException();
+    }
+    corpo.flip();
+
+    try {
+      return lerCorpo(corpo);
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Resposta de introspecção menor que o seu conteúdo", e);
+    }
+  }
+
+  private static IntrospeccaoResponse lerCorpo(ByteBuffer corpo) {
+    if (corpo.get() == 0) {
+      return IntrospeccaoResponse.inativo();
+    }
+    long exp = corpo.getLong();
+    UUID uid = new UUID(corpo.getLong(), corpo.getLong());
+    byte[] sub = new byte[Short.toUnsignedInt(corpo.getShort())];
+    corpo.get(sub);
+    byte[] role = new byte[Byte.toUnsignedInt(corpo.get())];
+    corpo.get(role);
+
+    return new IntrospeccaoResponse(
+        true,
+        new String(sub, StandardCharsets.UTF_8),
+        uid,
+        new String(role, StandardCharsets.US_ASCII),
+        exp);
+  }
+
+  /** Escreve uma requisição completa no canal. Usado pelos clientes do protocolo. */
+  public static void escreverRequisicao(WritableByteChannel canal, String token)
+      throws IOException {
+    byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_PREFIXO + bytes.length);
+    buffer.putInt(bytes.length).put(bytes).flip();
+    escreverCompleto(canal, buffer);
+  }
+
+  /**
+   * Preenche o buffer até o limite.
+   *
+   * @return {@code false} se o canal terminou antes do primeiro byte (fim normal da conexão)
+   * @throws EOFException se o canal terminou no meio da mensagem
+   */
+  static boolean lerCompleto(ReadableByteChannel canal, ByteBuffer buffer) throws IOException {
+    boolean inicio = buffer.position() == 0;
+    while (buffer.hasRemaining()) {
+      if (canal.read(buffer) < 0) {
+        if (inicio && buffer.position() == 0) {
+          return false;
+        }
+        throw new EOFException();
+      }
+    }
+    return true;
+  }
+
+  static void escreverCompleto(WritableByteChannel canal, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      canal.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.autenticacao.api.app.domain.DTO;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.autenticacao.api.app.domain.entity.Autenticacao;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+/**
+ * Tudo o que o ‘login’ precisa, lido em uma única consulta: credencial, situação do usuário,
+ * controle de tentativas e data da última alteração de senha.
+ *
+ * @param usuarioId identificador do usuário
+ * @param email e-mail do usuário
+ * @param senha hash da senha
+ * @param ativo se o usuário está ativo
+ * @param role papel do usuário
+ * @param versaoToken versão corrente dos ‘tokens’ do usuário
+ * @param tentativasFalhas tentativas falhas registradas, ou null se o usuário não tiver controle
+ * @param bloqueadoAte fim do bloqueio temporário, ou null se não houver
+ * @param dataUltimaAlteracaoSenha data da última troca de senha, ou null se desconhecida
+ */
+public record DadosLogin(
+    UUID usuarioId,
+    String email,
+    String senha,
+    boolean ativo,
+    UserRole role,
+    long versaoToken,
+    Integer tentativasFalhas,
+    LocalDateTime bloqueadoAte,
+    LocalDateTime dataUltimaAlteracaoSenha) {
+
+  public boolean bloqueado(LocalDateTime agora) {
+    return bloqueadoAte != null && bloqueadoAte.isAfter(agora);
+  }
+
+  /** Indica se há tentativas falhas ou bloqueio a limpar após um ‘login’ bem-sucedido. */
+  public boolean possuiTentativasFalhas() {
+    return (tentativasFalhas != null && tentativasFalhas > 0) || bloqueadoAte != null;
+  }
+
+  /**
+   * Usuário não gerenciado, apenas com os campos usados para emitir os ‘tokens’ e para referenciar
+   * o usuário em outras entidades. Evita recarregar a entidade (e suas associações) no ‘login’.
+   */
+  public Usuario usuario() {
+    return Usuario.builder()
+        .id(usuarioId)
+        .email(email)
+        .role(role)
+        .ativo(ativo)
+        .autenticacao(Autenticacao.builder().versaoToken(versaoToken).build())
+        .build();
+  }
+}
@@ -0,0 +1,11 @@
+package com.autenticacao.api.app.domain.DTO;
+
+import com.autenticacao.api.app.domain.entity.Usuario;
+
+/**
+ * Resultado de uma rotação de refresh token bem-sucedida.
+ *
+ * @param refreshToken novo refresh token, que substitui o apresentado
+ * @param usuario dono do token, não gerenciado, pronto para emitir o ‘token’ de acesso
+ */
+public record RefreshTokenRotacionado(String refreshToken, Usuario usuario) {}
@@ -0,0 +1,35 @@
+package com.autenticacao.api.app.domain.DTO;
+
+import java.util.UUID;
+
+import com.autenticacao.api.app.domain.entity.Autenticacao;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+/**
+ * Dados do dono de um refresh token, devolvidos pela própria rotação ({@code RETURNING}): o
+ * suficiente para emitir o novo ‘token’ de acesso sem carregar a entidade {@link Usuario}.
+ */
+public interface SessaoRefreshToken {
+
+  UUID getUsuarioId();
+
+  String getEmail();
+
+  String getRole();
+
+  Boolean getAtivo();
+
+  Long getVersaoToken();
+
+  /** Usuário não gerenciado, apenas com os campos usados para emitir o ‘token’ de acesso. */
+  default Usuario usuario() {
+    return Usuario.builder()
+        .id(getUsuarioId())
+        .email(getEmail())
+        .role(UserRole.valueOf(getRole()))
+        .ativo(Boolean.TRUE.equals(getAtivo()))
+        .autenticacao(Autenticacao.builder().versaoToken(getVersaoToken()).build())
+        .build();
+  }
+}
@@ -0,0 +1,8 @@
+package com.autenticacao.api.app.domain.DTO.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+public record IntrospeccaoLoteRequest(@NotEmpty List<@NotBlank String> tokens) {}
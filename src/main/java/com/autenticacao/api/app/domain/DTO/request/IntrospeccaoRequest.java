@@ -0,0 +1,5 @@
+package com.autenticacao.api.app.domain.DTO.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record IntrospeccaoRequest(@NotBlank String token) {}
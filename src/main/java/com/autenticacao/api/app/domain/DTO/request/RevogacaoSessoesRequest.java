@@ -0,0 +1,9 @@
+package com.autenticacao.api.app.domain.DTO.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record RevogacaoSessoesRequest(@NotEmpty List<@NotNull UUID> usuarioIds) {}
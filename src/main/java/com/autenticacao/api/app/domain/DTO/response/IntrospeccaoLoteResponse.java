@@ -0,0 +1,6 @@
+package com.autenticacao.api.app.domain.DTO.response;
+
+import java.util.List;
+
+/** Resultados da introspecção em lote, na mesma ordem dos ‘tokens’ enviados. */
+public record IntrospeccaoLoteResponse(List<IntrospeccaoResponse> resultados) {}
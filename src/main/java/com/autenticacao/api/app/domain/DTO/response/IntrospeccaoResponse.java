@@ -0,0 +1,17 @@
+package com.autenticacao.api.app.domain.DTO.response;
+
+import java.util.UUID;
+
+/**
+ * Resultado da introspecção de um ‘token’ de acesso, nos moldes da RFC 7662. Para tokens inativos
+ * apenas {@code active} é preenchido.
+ */
+public record IntrospeccaoResponse(boolean active, String sub, UUID uid, String role, Long exp) {
+
+  private static final IntrospeccaoResponse INATIVO =
+      new IntrospeccaoResponse(false, null, null, null, null);
+
+  public static IntrospeccaoResponse inativo() {
+    return INATIVO;
+  }
+}
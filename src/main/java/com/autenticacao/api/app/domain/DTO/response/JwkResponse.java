@@ -0,0 +1,5 @@
+package com.autenticacao.api.app.domain.DTO.response;
+
+/** Chave pública EC no formato JWK (RFC 7517 / RFC 7518). */
+public record JwkResponse(
+    String kty, String crv, String kid, String use, String alg, String x, String y) {}
@@ -0,0 +1,5 @@
+package com.autenticacao.api.app.domain.DTO.response;
+
+import java.util.List;
+
+public record JwksResponse(List<JwkResponse> keys) {}
@@ -0,0 +1,8 @@
+package com.autenticacao.api.app.domain.DTO.response;
+
+/**
+ * Resultado da revogação em lote das sessões.
+ *
+ * @param sessoesRevogadas quantidade de refresh tokens removidos
+ */
+public record RevogacaoSessoesResponse(int sessoesRevogadas) {}
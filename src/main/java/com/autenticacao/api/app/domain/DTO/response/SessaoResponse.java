@@ -0,0 +1,12 @@
+package com.autenticacao.api.app.domain.DTO.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sessão ativa do usuário, representada pelo seu refresh token.
+ *
+ * @param id identificador da sessão
+ * @param expiraEm fim da validade do refresh token
+ * @param renovacoes quantas vezes o refresh token já foi rotacionado
+ */
+public record SessaoResponse(Long id, LocalDateTime expiraEm, int renovacoes) {}
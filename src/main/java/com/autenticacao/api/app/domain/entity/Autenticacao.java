@@ -4,6 +4,7 @@ import static com.autenticacao.api.app.Constantes.ColunasAutenticacao.*;
 import static com.autenticacao.api.app.Constantes.Schema.AUTENTICACAO;
 import static com.autenticacao.api.app.Constantes.Tabelas.AUTENTICACOES;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -42,6 +43,20 @@ public class Autenticacao {
   @Column(name = ATIVO, nullable = false)
   private Boolean ativo;
 
+  /**
+   * Momento da última troca de senha, gravado na mesma escrita do novo hash. Lido pelo ‘login’ para
+   * verificar a expiração sem consultar o histórico.
+   */
+  @Column(name = DATA_HORA_ALTERACAO_SENHA)
+  private LocalDateTime dataHoraAlteracaoSenha;
+
+  /**
+   * Versão dos ‘tokens’ do usuário, embutida em cada token (claim ver). Alterada apenas pelo
+   * incremento em lote do repositório, que invalida de uma vez todas as sessões emitidas antes.
+   */
+  @Column(name = VERSAO_TOKEN, nullable = false, updatable = false)
+  private long versaoToken;
+
   @OneToMany(mappedBy = "autenticacao", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
   @JsonManagedReference
   private List<HistoricoAutenticacao> historicoAutenticacoes = new ArrayList<>();
@@ -0,0 +1,51 @@
+package com.autenticacao.api.app.domain.entity;
+
+import static com.autenticacao.api.app.Constantes.ColunasChaveAssinatura.*;
+import static com.autenticacao.api.app.Constantes.Schema.AUTENTICACAO;
+import static com.autenticacao.api.app.Constantes.Tabelas.CHAVE_ASSINATURA;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Par de chaves usado para assinar os ‘tokens’ de acesso. A chave passa a assinar em {@code
+ * ativaDesde} e continua publicada no JWKS (e aceita na verificação) até {@code expiraEm}.
+ */
+@Entity
+@Table(name = CHAVE_ASSINATURA, schema = AUTENTICACAO)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChaveAssinatura {
+
+  @Id
+  @Column(name = KID, length = 64)
+  private String kid;
+
+  @Column(name = ALGORITMO, nullable = false, length = 16)
+  private String algoritmo;
+
+  /** Chave pública no formato X.509 (SubjectPublicKeyInfo). */
+  @Column(name = CHAVE_PUBLICA, nullable = false)
+  private byte[] chavePublica;
+
+  /** Chave privada no formato PKCS#8, cifrada por {@code CifradorChavePrivada}. */
+  @Column(name = CHAVE_PRIVADA, nullable = false)
+  private byte[] chavePrivada;
+
+  @Column(name = DATA_HORA_CRIACAO, nullable = false)
+  private Instant dataHoraCriacao;
+
+  @Column(name = ATIVA_DESDE, nullable = false)
+  private Instant ativaDesde;
+
+  @Column(name = EXPIRA_EM, nullable = false)
+  private Instant expiraEm;
+}
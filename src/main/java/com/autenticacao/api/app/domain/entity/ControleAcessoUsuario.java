@@ -33,7 +33,7 @@ public class ControleAcessoUsuario {
   private UUID id;
 
   @OneToOne
-  @JoinColumn(name = USUARIO_ID, nullable = false)
+  @JoinColumn(name = USUARIO_ID, nullable = false, unique = true)
   @JsonBackReference
   private Usuario usuario;
 
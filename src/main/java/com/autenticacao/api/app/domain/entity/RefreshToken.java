@@ -10,7 +10,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = REFRESH_TOKEN, schema = AUTENTICACAO)
+@Table(
+    name = REFRESH_TOKEN,
+    schema = AUTENTICACAO,
+    indexes =
+        @Index(name = "idx_refresh_token_usuario_expiry_date", columnList = "usuario, expiry_date"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,8 +26,9 @@ public class RefreshToken {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(nullable = false, unique = true)
-  private String token;
+  /** SHA-256 do refresh token: o valor do ‘token’ em si fica apenas com o cliente. */
+  @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+  private byte[] tokenHash;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = USUARIO, nullable = false)
@@ -18,6 +18,7 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class TokenBlacklist {
+  /** Identificador (claim jti) do ‘token’ de acesso revogado. */
   @Id private String token;
 
   private Instant expiryDate;
@@ -1,14 +1,24 @@
 package com.autenticacao.api.app.endpoint.api;
 
 import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.autenticacao.api.app.domain.DTO.request.AlterarSenhaRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoLoteRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoRequest;
 import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
 import com.autenticacao.api.app.domain.DTO.request.RefreshTokenRequestDTO;
+import com.autenticacao.api.app.domain.DTO.request.RevogacaoSessoesRequest;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoLoteResponse;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
 import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
+import com.autenticacao.api.app.domain.DTO.response.RevogacaoSessoesResponse;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -49,4 +59,56 @@ public interface AutenticacaoApi {
   })
   @DeleteMapping(REVOKE_REFRESH_TOKEN)
   ResponseEntity<Void> revokeRefreshToken(@RequestParam("token") String token);
+
+  @Operation(summary = "Encerra a sessão, revogando o token de acesso e o refresh token")
+  @ApiResponses({
+    @ApiResponse(responseCode = "204", description = "Sessão encerrada com sucesso"),
+    @ApiResponse(responseCode = "401", description = "Usuário não autorizado")
+  })
+  @PostMapping(LOGOUT)
+  ResponseEntity<Void> logout(
+      @RequestHeader(AUTHORIZATION) String authorization,
+      @RequestBody @Valid RefreshTokenRequestDTO request);
+
+  @Operation(
+      summary = "Informa se um token de acesso está ativo (introspecção, RFC 7662, somente ADMIN)")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Resultado da introspecção"),
+    @ApiResponse(responseCode = "401", description = "Chamador não autenticado"),
+    @ApiResponse(responseCode = "403", description = "Chamador não é administrador")
+  })
+  @PostMapping(INTROSPECCAO)
+  ResponseEntity<IntrospeccaoResponse> introspectar(
+      @RequestBody @Valid IntrospeccaoRequest request);
+
+  @Operation(
+      summary = "Introspecção de vários tokens de acesso em uma única requisição (somente ADMIN)")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Resultados na ordem dos tokens enviados"),
+    @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo"),
+    @ApiResponse(responseCode = "401", description = "Chamador não autenticado"),
+    @ApiResponse(responseCode = "403", description = "Chamador não é administrador")
+  })
+  @PostMapping(INTROSPECCAO_LOTE)
+  ResponseEntity<IntrospeccaoLoteResponse> introspectarLote(
+      @RequestBody @Valid IntrospeccaoLoteRequest request);
+
+  @Operation(summary = "Lista as sessões ativas do usuário autenticado")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Sessões ativas, da mais recente à antiga"),
+    @ApiResponse(responseCode = "401", description = "Usuário não autorizado")
+  })
+  @GetMapping(SESSOES)
+  ResponseEntity<List<SessaoResponse>> listarSessoes();
+
+  @Operation(summary = "Revoga em lote as sessões dos usuários informados (somente ADMIN)")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Quantidade de sessões revogadas"),
+    @ApiResponse(responseCode = "400", description = "Lista de usuários vazia"),
+    @ApiResponse(responseCode = "401", description = "Usuário não autorizado"),
+    @ApiResponse(responseCode = "403", description = "Usuário não é administrador")
+  })
+  @PostMapping(REVOGAR_SESSOES)
+  ResponseEntity<RevogacaoSessoesResponse> revogarSessoes(
+      @RequestBody @Valid RevogacaoSessoesRequest request);
 }
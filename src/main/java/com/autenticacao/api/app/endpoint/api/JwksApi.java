@@ -0,0 +1,20 @@
+package com.autenticacao.api.app.endpoint.api;
+
+import static com.autenticacao.api.app.Constantes.Rotas.JWKS;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import com.autenticacao.api.app.domain.DTO.response.JwksResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+public interface JwksApi {
+
+  @Operation(summary = "Publica as chaves públicas usadas para assinar os tokens de acesso")
+  @ApiResponses({@ApiResponse(responseCode = "200", description = "Conjunto de chaves (JWKS)")})
+  @GetMapping(JWKS)
+  ResponseEntity<JwksResponse> jwks();
+}
@@ -1,18 +1,31 @@
 package com.autenticacao.api.app.endpoint.controller;
 
+import static com.autenticacao.api.app.Constantes.Http.HEADER_BEARER_PREFIX;
+
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.autenticacao.api.app.config.security.TokenService;
+import com.autenticacao.api.app.config.security.cache.RotacaoRefreshTokenCache;
 import com.autenticacao.api.app.domain.DTO.request.AlterarSenhaRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoLoteRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoRequest;
 import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
 import com.autenticacao.api.app.domain.DTO.request.RefreshTokenRequestDTO;
+import com.autenticacao.api.app.domain.DTO.request.RevogacaoSessoesRequest;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoLoteResponse;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
 import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
-import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.domain.DTO.response.RevogacaoSessoesResponse;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 import com.autenticacao.api.app.endpoint.api.AutenticacaoApi;
 import com.autenticacao.api.app.service.AutenticacaoService;
+import com.autenticacao.api.app.service.IntrospeccaoService;
 import com.autenticacao.api.app.service.RefreshTokenService;
 
 import jakarta.validation.Valid;
@@ -24,7 +37,9 @@ public class AutenticacaoController implements AutenticacaoApi {
 
   private final AutenticacaoService autenticacaoService;
   private final RefreshTokenService refreshTokenService;
+  private final RotacaoRefreshTokenCache rotacaoRefreshTokenCache;
   private final TokenService tokenService;
+  private final IntrospeccaoService introspeccaoService;
 
   @Override
   public ResponseEntity<LoginResponseDTO> login(@Valid LoginUsuarioRequestDTO loginRequest) {
@@ -34,19 +49,20 @@ public class AutenticacaoController implements AutenticacaoApi {
 
   @Override
   public ResponseEntity<LoginResponseDTO> refreshToken(@Valid RefreshTokenRequestDTO request) {
-    String oldRefreshToken = request.refreshToken();
-
-    if (!refreshTokenService.isValid(oldRefreshToken)) {
-      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-    }
-
-    String newRefreshToken = refreshTokenService.rotateRefreshToken(oldRefreshToken);
-
-    Usuario usuario = refreshTokenService.getUsuario(newRefreshToken);
-
-    String newAccessToken = tokenService.generateToken(usuario);
+    return rotacaoRefreshTokenCache
+        .rotacionar(request.refreshToken(), this::rotacionar)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+  }
 
-    return ResponseEntity.ok(new LoginResponseDTO(newAccessToken, newRefreshToken));
+  private Optional<LoginResponseDTO> rotacionar(String refreshToken) {
+    return refreshTokenService
+        .rotacionar(refreshToken)
+        .map(
+            rotacionado ->
+                new LoginResponseDTO(
+                    tokenService.generateToken(rotacionado.usuario()),
+                    rotacionado.refreshToken()));
   }
 
   @Override
@@ -60,4 +76,37 @@ public class AutenticacaoController implements AutenticacaoApi {
     refreshTokenService.deleteByToken(token);
     return ResponseEntity.noContent().build();
   }
+
+  @Override
+  public ResponseEntity<Void> logout(String authorization, @Valid RefreshTokenRequestDTO request) {
+    String accessToken =
+        authorization.startsWith(HEADER_BEARER_PREFIX)
+            ? authorization.substring(HEADER_BEARER_PREFIX.length())
+            : authorization;
+    autenticacaoService.logout(accessToken, request.refreshToken());
+    return ResponseEntity.noContent().build();
+  }
+
+  @Override
+  public ResponseEntity<IntrospeccaoResponse> introspectar(@Valid IntrospeccaoRequest request) {
+    return ResponseEntity.ok(introspeccaoService.introspectar(request.token()));
+  }
+
+  @Override
+  public ResponseEntity<IntrospeccaoLoteResponse> introspectarLote(
+      @Valid IntrospeccaoLoteRequest request) {
+    return ResponseEntity.ok(introspeccaoService.introspectarLote(request.tokens()));
+  }
+
+  @Override
+  public ResponseEntity<List<SessaoResponse>> listarSessoes() {
+    return ResponseEntity.ok(refreshTokenService.listarSessoes());
+  }
+
+  @Override
+  public ResponseEntity<RevogacaoSessoesResponse> revogarSessoes(
+      @Valid RevogacaoSessoesRequest request) {
+    return ResponseEntity.ok(
+        new RevogacaoSessoesResponse(refreshTokenService.revogarPorUsuarios(request.usuarioIds())));
+  }
 }
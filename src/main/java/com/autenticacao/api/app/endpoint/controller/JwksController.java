@@ -0,0 +1,25 @@
+package com.autenticacao.api.app.endpoint.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.autenticacao.api.app.config.security.chave.GerenciadorChavesAssinatura;
+import com.autenticacao.api.app.domain.DTO.response.JwksResponse;
+import com.autenticacao.api.app.endpoint.api.JwksApi;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController implements JwksApi {
+
+  private final GerenciadorChavesAssinatura gerenciadorChaves;
+
+  @Override
+  public ResponseEntity<JwksResponse> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(gerenciadorChaves.getDuracaoCacheJwks()).cachePublic())
+        .body(gerenciadorChaves.jwks());
+  }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
 import com.autenticacao.api.app.domain.DTO.request.AtualizarUsuarioRequest;
 import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
 import com.autenticacao.api.app.domain.DTO.response.UsuarioDetalhadoResponse;
@@ -51,10 +52,12 @@ public class UsuarioController implements UsuarioApi {
 
   @Override
   public ResponseEntity<UsuarioResumoResponse> getUsuarioLogado(Authentication authentication) {
-    String email = authentication.getName();
+    if (!(authentication.getPrincipal() instanceof UsuarioAutenticado usuarioAutenticado)) {
+      return ResponseEntity.notFound().build();
+    }
 
     return usuarioService
-        .buscarPorEmail(email)
+        .buscarResumoPorId(usuarioAutenticado.getId())
         .map(ResponseEntity::ok)
         .orElseGet(() -> ResponseEntity.notFound().build());
   }
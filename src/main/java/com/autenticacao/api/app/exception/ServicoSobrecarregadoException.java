@@ -0,0 +1,20 @@
+package com.autenticacao.api.app.exception;
+
+import com.autenticacao.api.app.util.enums.MensagemSistema;
+
+import lombok.Getter;
+
+/**
+ * Indica que a requisição foi recusada por falta de capacidade, para que o cliente tente novamente
+ * após {@code retryAfterSegundos}.
+ */
+@Getter
+public class ServicoSobrecarregadoException extends ExceptionAbstract {
+
+  private final long retryAfterSegundos;
+
+  public ServicoSobrecarregadoException(MensagemSistema mensagemSistema, long retryAfterSegundos) {
+    super(mensagemSistema);
+    this.retryAfterSegundos = retryAfterSegundos;
+  }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.autenticacao.api.app.exception.ExceptionAbstract;
 import com.autenticacao.api.app.exception.ExceptionNotFoundAbstract;
+import com.autenticacao.api.app.exception.ServicoSobrecarregadoException;
 import com.autenticacao.api.app.exception.erro.ErroDTO;
 import com.autenticacao.api.app.exception.erro.ErrosDTO;
 import com.autenticacao.api.app.util.MensagemUtil;
@@ -32,6 +34,16 @@ public class ValidacaoHandler {
     return buildResponse(ex, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler(ServicoSobrecarregadoException.class)
+  public ResponseEntity<Object> handleSobrecarga(ServicoSobrecarregadoException ex) {
+    log.warn("[SERVICE_UNAVAILABLE] {}", ex.getCodigo());
+    ErroDTO erro =
+        ErroDTO.builder().codigo(ex.getCodigo()).mensagem(getMensagemFormatada(ex)).build();
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+        .body(ErrosDTO.builder().erros(List.of(erro)).build());
+  }
+
   @ExceptionHandler(ExceptionAbstract.class)
   public ResponseEntity<Object> handleBusiness(ExceptionAbstract ex) {
     if (ex.getCodigo() == MensagemSistema.NAO_IDENTIFICADO.getCodigo()) {
@@ -4,9 +4,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.autenticacao.api.app.domain.entity.Autenticacao;
 import com.autenticacao.api.app.domain.entity.Usuario;
@@ -20,4 +22,28 @@ public interface AutenticacaoRepository extends JpaRepository<Autenticacao, UUID
   Optional<Autenticacao> buscarPorUsuarioId(@Param("usuarioId") UUID usuarioId);
 
   Optional<Autenticacao> findByEmail(String email);
+
+  @Query("SELECT a.versaoToken FROM Autenticacao a WHERE a.usuario.id = :usuarioId")
+  Optional<Long> buscarVersaoToken(@Param("usuarioId") UUID usuarioId);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE Autenticacao a SET a.versaoToken = a.versaoToken + 1"
+          + " WHERE a.usuario.id = :usuarioId")
+  int incrementarVersaoToken(@Param("usuarioId") UUID usuarioId);
+
+  /**
+   * Troca o hash da senha apenas se ele ainda for {@code hashAtual}, para não sobrescrever uma
+   * alteração de senha feita enquanto o novo hash era calculado.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE Autenticacao a SET a.senha = :novoHash"
+          + " WHERE a.usuario.id = :usuarioId AND a.senha = :hashAtual")
+  int atualizarHashSenha(
+      @Param("usuarioId") UUID usuarioId,
+      @Param("hashAtual") String hashAtual,
+      @Param("novoHash") String novoHash);
 }
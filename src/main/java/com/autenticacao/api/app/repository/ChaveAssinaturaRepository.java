@@ -0,0 +1,31 @@
+package com.autenticacao.api.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autenticacao.api.app.domain.entity.ChaveAssinatura;
+
+@Repository
+public interface ChaveAssinaturaRepository extends JpaRepository<ChaveAssinatura, String> {
+
+  List<ChaveAssinatura> findByExpiraEmAfterOrderByAtivaDesdeDesc(Instant instante);
+
+  /**
+   * Obtém a trava consultiva informada, liberada ao fim da transação corrente. Deve ser chamado
+   * dentro de uma transação aberta por quem o usa.
+   */
+  @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:trava)", nativeQuery = true)
+  Integer travarRotacao(@Param("trava") long trava);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM ChaveAssinatura c WHERE c.expiraEm <= :instante")
+  int removerExpiradas(@Param("instante") Instant instante);
+}
@@ -1,10 +1,15 @@
 package com.autenticacao.api.app.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.autenticacao.api.app.domain.entity.ControleAcessoUsuario;
 import com.autenticacao.api.app.domain.entity.Usuario;
@@ -14,4 +19,50 @@ public interface ControleAcessoUsuarioRepository
     extends JpaRepository<ControleAcessoUsuario, UUID> {
 
   Optional<ControleAcessoUsuario> findByUsuario(Usuario usuario);
+
+  /**
+   * Registra uma tentativa falha em um único comando atômico: cria o controle do usuário se ainda
+   * não existir ou incrementa o contador existente e, ao atingir {@code maxTentativas}, grava o
+   * bloqueio. Se o bloqueio anterior já terminou, a contagem recomeça em 1, para que uma única
+   * falha depois do bloqueio não volte a bloquear a conta. Falhas simultâneas do mesmo usuário são
+   * serializadas pelo banco na linha do controle, sem perder incrementos.
+   *
+   * @param id identificador usado caso o controle precise ser criado
+   * @param usuarioId usuário que errou a senha
+   * @param maxTentativas limite de tentativas que bloqueia a conta
+   * @param bloquearAte fim do bloqueio, caso o limite seja atingido
+   * @param agora instante de referência para o fim do bloqueio anterior
+   * @return quantidade de tentativas falhas após o incremento
+   */
+  @Transactional
+  @Query(
+      value =
+          "INSERT INTO autenticacao.controle_acesso_usuario AS c"
+              + " (id, usuario_id, tentativas_falhas, bloqueado_ate)"
+              + " VALUES (:id, :usuarioId, 1,"
+              + " CASE WHEN :maxTentativas <= 1 THEN CAST(:bloquearAte AS TIMESTAMP) END)"
+              + " ON CONFLICT (usuario_id) DO UPDATE SET"
+              + " tentativas_falhas = CASE WHEN c.bloqueado_ate < CAST(:agora AS TIMESTAMP)"
+              + " THEN 1 ELSE c.tentativas_falhas + 1 END,"
+              + " bloqueado_ate = CASE"
+              + " WHEN (CASE WHEN c.bloqueado_ate < CAST(:agora AS TIMESTAMP)"
+              + " THEN 1 ELSE c.tentativas_falhas + 1 END) >= :maxTentativas"
+              + " THEN CAST(:bloquearAte AS TIMESTAMP)"
+              + " WHEN c.bloqueado_ate < CAST(:agora AS TIMESTAMP) THEN NULL"
+              + " ELSE c.bloqueado_ate END"
+              + " RETURNING tentativas_falhas",
+      nativeQuery = true)
+  int registrarFalha(
+      @Param("id") UUID id,
+      @Param("usuarioId") UUID usuarioId,
+      @Param("maxTentativas") int maxTentativas,
+      @Param("bloquearAte") LocalDateTime bloquearAte,
+      @Param("agora") LocalDateTime agora);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ControleAcessoUsuario c SET c.tentativasFalhas = 0, c.bloqueadoAte = null"
+          + " WHERE c.usuario.id = :usuarioId")
+  int resetarTentativas(@Param("usuarioId") UUID usuarioId);
 }
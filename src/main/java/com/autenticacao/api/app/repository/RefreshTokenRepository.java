@@ -1,17 +1,107 @@
 package com.autenticacao.api.app.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.autenticacao.api.app.domain.DTO.SessaoRefreshToken;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 import com.autenticacao.api.app.domain.entity.RefreshToken;
 import com.autenticacao.api.app.domain.entity.Usuario;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-  Optional<RefreshToken> findByToken(String token);
+  /**
+   * Rotaciona o refresh token em um único comando atômico: troca o hash do ‘token’, renova a
+   * validade e incrementa o contador de renovações, desde que o token ainda exista, não tenha
+   * expirado, não tenha atingido o limite de renovações e o usuário esteja ativo. Rotações
+   * simultâneas do mesmo token são serializadas pelo banco na linha do token, e apenas a primeira a
+   * encontra com o hash antigo.
+   *
+   * @param tokenHash SHA-256 do refresh token apresentado
+   * @param novoTokenHash SHA-256 do token que substitui o apresentado
+   * @param agora instante de referência para a expiração
+   * @param expiraEm nova validade do token
+   * @param maxRenovacoes limite de renovações do token
+   * @return dados do dono do token, ou vazio se o token não puder ser rotacionado
+   */
+  @Transactional
+  @Query(
+      value =
+          "UPDATE autenticacao.refresh_token rt SET"
+              + " token_hash = :novoTokenHash,"
+              + " expiry_date = :expiraEm,"
+              + " refresh_count = rt.refresh_count + 1"
+              + " FROM autenticacao.usuarios u"
+              + " JOIN autenticacao.autenticacoes a ON a.usuario_id = u.id"
+              + " WHERE rt.token_hash = :tokenHash AND rt.usuario = u.id AND u.ativo"
+              + " AND rt.expiry_date > :agora AND rt.refresh_count < :maxRenovacoes"
+              + " RETURNING u.id AS \"usuarioId\", u.email AS \"email\", u.role AS \"role\","
+              + " u.ativo AS \"ativo\", a.versao_token AS \"versaoToken\"",
+      nativeQuery = true)
+  Optional<SessaoRefreshToken> rotacionar(
+      @Param("tokenHash") byte[] tokenHash,
+      @Param("novoTokenHash") byte[] novoTokenHash,
+      @Param("agora") LocalDateTime agora,
+      @Param("expiraEm") LocalDateTime expiraEm,
+      @Param("maxRenovacoes") int maxRenovacoes);
 
-  void deleteByToken(String token);
+  /**
+   * Remove os refresh tokens expirados do usuário e os que excedem o limite de sessões, mantendo
+   * os {@code maxSessoes} de validade mais longa (os usados ou criados mais recentemente). Usa o
+   * índice {@code (usuario, expiry_date)}.
+   *
+   * @return quantidade de tokens removidos
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM autenticacao.refresh_token"
+              + " WHERE usuario = :usuarioId"
+              + " AND (expiry_date <= :agora OR id IN ("
+              + " SELECT id FROM autenticacao.refresh_token WHERE usuario = :usuarioId"
+              + " ORDER BY expiry_date DESC, id DESC OFFSET :maxSessoes))",
+      nativeQuery = true)
+  int removerExcedentes(
+      @Param("usuarioId") UUID usuarioId,
+      @Param("agora") LocalDateTime agora,
+      @Param("maxSessoes") int maxSessoes);
 
-  void deleteByUsuario(Usuario usuario);
+  @Query(
+      "SELECT new com.autenticacao.api.app.domain.DTO.response.SessaoResponse("
+          + " r.id, r.expiryDate, r.refreshCount)"
+          + " FROM RefreshToken r"
+          + " WHERE r.usuario.id = :usuarioId AND r.expiryDate > :agora"
+          + " ORDER BY r.expiryDate DESC")
+  List<SessaoResponse> buscarSessoes(
+      @Param("usuarioId") UUID usuarioId, @Param("agora") LocalDateTime agora);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+  int deleteByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM RefreshToken r WHERE r.usuario = :usuario")
+  int deleteByUsuario(@Param("usuario") Usuario usuario);
+
+  /**
+   * Remove, em um único comando, os refresh tokens de todos os usuários informados.
+   *
+   * @return quantidade de tokens removidos
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM RefreshToken r WHERE r.usuario.id IN :usuarioIds")
+  int removerPorUsuarios(@Param("usuarioIds") Collection<UUID> usuarioIds);
 }
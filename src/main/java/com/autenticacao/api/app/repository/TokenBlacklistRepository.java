@@ -1,9 +1,24 @@
 package com.autenticacao.api.app.repository;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.autenticacao.api.app.domain.entity.TokenBlacklist;
 
 @Repository
-public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, String> {}
+public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, String> {
+
+  List<TokenBlacklist> findByExpiryDateAfter(Instant instante);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM TokenBlacklist t WHERE t.expiryDate <= :instante")
+  int removerExpirados(@Param("instante") Instant instante);
+}
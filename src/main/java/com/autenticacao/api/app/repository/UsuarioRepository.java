@@ -4,8 +4,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
 import com.autenticacao.api.app.domain.entity.Usuario;
 
 @Repository
@@ -14,4 +17,17 @@ public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
   Optional<Usuario> findByEmail(String email);
 
   Optional<Usuario> findByTelefone(String telefone);
+
+  /**
+   * Dados do ‘login’ em uma única ida ao banco: usuário, credencial (com a data da última troca de
+   * senha) e controle de tentativas, se existir.
+   */
+  @Query(
+      "SELECT new com.autenticacao.api.app.domain.DTO.DadosLogin("
+          + " u.id, u.email, a.senha, u.ativo, u.role, a.versaoToken,"
+          + " c.tentativasFalhas, c.bloqueadoAte, a.dataHoraAlteracaoSenha)"
+          + " FROM Usuario u JOIN u.autenticacao a"
+          + " LEFT JOIN ControleAcessoUsuario c ON c.usuario = u"
+          + " WHERE u.email = :email")
+  Optional<DadosLogin> buscarDadosLogin(@Param("email") String email);
 }
@@ -8,4 +8,6 @@ public interface AutenticacaoService {
   LoginResponseDTO login(LoginUsuarioRequestDTO dto);
 
   void alterarSenha(AlterarSenhaRequest requestDTO);
+
+  void logout(String accessToken, String refreshToken);
 }
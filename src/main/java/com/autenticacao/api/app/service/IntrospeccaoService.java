@@ -0,0 +1,13 @@
+package com.autenticacao.api.app.service;
+
+import java.util.List;
+
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoLoteResponse;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+
+public interface IntrospeccaoService {
+
+  IntrospeccaoResponse introspectar(String token);
+
+  IntrospeccaoLoteResponse introspectarLote(List<String> tokens);
+}
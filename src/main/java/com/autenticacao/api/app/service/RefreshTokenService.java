@@ -1,18 +1,23 @@
 package com.autenticacao.api.app.service;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.autenticacao.api.app.domain.DTO.RefreshTokenRotacionado;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 import com.autenticacao.api.app.domain.entity.Usuario;
-import com.autenticacao.api.app.exception.RefreshTokenInvalidoException;
 
 public interface RefreshTokenService {
   String createRefreshToken(Usuario usuario);
 
-  boolean isValid(String token);
-
-  Usuario getUsuario(String token) throws RefreshTokenInvalidoException;
-
   void deleteByToken(String token);
 
-  String rotateRefreshToken(String oldToken);
+  Optional<RefreshTokenRotacionado> rotacionar(String token);
 
   void deleteByUsuario(Usuario usuario);
+
+  List<SessaoResponse> listarSessoes();
+
+  int revogarPorUsuarios(List<UUID> usuarioIds);
 }
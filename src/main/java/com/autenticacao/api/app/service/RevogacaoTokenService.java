@@ -0,0 +1,15 @@
+package com.autenticacao.api.app.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface RevogacaoTokenService {
+
+  void revogar(String jti, Instant expiraEm);
+
+  boolean estaRevogado(String jti);
+
+  void revogarSessoes(UUID usuarioId);
+
+  boolean versaoVigente(UUID usuarioId, long versao);
+}
@@ -1,11 +1,12 @@
 package com.autenticacao.api.app.service;
 
+import java.time.LocalDateTime;
+
 import com.autenticacao.api.app.domain.entity.Autenticacao;
-import com.autenticacao.api.app.domain.entity.Usuario;
 
 public interface SenhaService {
 
-  void validarSenhaExpirada(Usuario usuario);
+  void validarSenhaExpirada(LocalDateTime dataUltimaAlteracaoSenha);
 
   boolean senhaExpirada(Autenticacao autenticacao);
 
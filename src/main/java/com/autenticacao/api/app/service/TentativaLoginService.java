@@ -1,11 +1,22 @@
 package com.autenticacao.api.app.service;
 
-import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
 
+/**
+ * Controle das tentativas de ‘login’ falhas e do bloqueio temporário de contas.
+ *
+ * <p>A implementação é escolhida por {@code seguranca.login.tentativas.armazenamento}: {@code
+ * banco} (padrão) grava cada tentativa em {@code controle_acesso_usuario}; {@code memoria} mantém
+ * uma janela deslizante por conta na instância e grava no banco apenas bloqueios e desbloqueios.
+ */
 public interface TentativaLoginService {
-  void validarBloqueio(Usuario usuario);
 
-  void registrarFalha(Usuario usuario);
+  int MAX_TENTATIVAS = 5;
+  int TEMPO_BLOQUEIO_MIN = 15;
 
-  void resetarTentativas(Usuario usuario);
+  void validarBloqueio(DadosLogin dadosLogin);
+
+  void registrarFalha(DadosLogin dadosLogin);
+
+  void resetarTentativas(DadosLogin dadosLogin);
 }
@@ -19,5 +19,7 @@ public interface UsuarioService {
 
   Optional<UsuarioResumoResponse> buscarPorEmail(String email);
 
+  Optional<UsuarioResumoResponse> buscarResumoPorId(UUID id);
+
   List<UsuarioResumoResponse> listarTodos();
 }
@@ -1,10 +1,11 @@
 package com.autenticacao.api.app.service.impl;
 
-import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterUsuarioLogado;
+import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterIdUsuarioLogado;
 import static com.autenticacao.api.app.util.ExecutarUtil.executarComandoComTratamentoErroComMensagem;
 import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_AO_DESATIVAR_AUTENTICACAO_DO_USUARIO;
 import static com.autenticacao.api.app.util.enums.MensagemSistema.USUARIO_JA_POSSUI_AUTENTICACAO;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -12,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
 import com.autenticacao.api.app.domain.DTO.request.AtualizarUsuarioRequest;
 import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
 import com.autenticacao.api.app.domain.entity.Autenticacao;
@@ -21,6 +23,7 @@ import com.autenticacao.api.app.exception.UsuarioNaoEncontradoException;
 import com.autenticacao.api.app.repository.AutenticacaoRepository;
 import com.autenticacao.api.app.service.AutenticacaoCadastroService;
 import com.autenticacao.api.app.service.HistoricoAutenticacaoService;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,6 +34,8 @@ public class AutenticacaoCadastroServiceImpl implements AutenticacaoCadastroServ
   private final AutenticacaoRepository autenticacaoRepository;
   private final HistoricoAutenticacaoService historicoAutenticacaoService;
   private final PasswordEncoder passwordEncoder;
+  private final RevogacaoTokenService revogacaoTokenService;
+  private final CredencialVerificadaCache credencialVerificadaCache;
   private static final Logger logger =
       LoggerFactory.getLogger(AutenticacaoCadastroServiceImpl.class);
 
@@ -57,19 +62,24 @@ public class AutenticacaoCadastroServiceImpl implements AutenticacaoCadastroServ
   public void atualizar(AtualizarUsuarioRequest dto) {
     executarComandoComTratamentoErroComMensagem(
         () -> {
-          Usuario usuario = obterUsuarioLogado();
-
-          Autenticacao autenticacaoAntiga = usuario.getAutenticacao();
-          if (autenticacaoAntiga == null) {
-            throw new UsuarioNaoEncontradoException(
-                "Usuário não possui autenticação para atualizar.");
-          }
+          Autenticacao autenticacaoAntiga =
+              autenticacaoRepository
+                  .buscarPorUsuarioId(obterIdUsuarioLogado())
+                  .orElseThrow(
+                      () ->
+                          new UsuarioNaoEncontradoException(
+                              "Usuário não possui autenticação para atualizar."));
+          Usuario usuario = autenticacaoAntiga.getUsuario();
 
           Autenticacao autenticacaoAtualizada =
               construirAutenticacaoAtualizada(dto, autenticacaoAntiga);
           usuario.setAutenticacao(autenticacaoAtualizada);
 
           Autenticacao autenticacaoPersistida = autenticacaoRepository.save(autenticacaoAtualizada);
+          if (!autenticacaoPersistida.getSenha().equals(autenticacaoAntiga.getSenha())) {
+            credencialVerificadaCache.invalidar(usuario.getId());
+            revogacaoTokenService.revogarSessoes(usuario.getId());
+          }
 
           historicoAutenticacaoService.registrarHistoricoCompleto(
               autenticacaoAntiga, autenticacaoPersistida, usuario);
@@ -93,6 +103,8 @@ public class AutenticacaoCadastroServiceImpl implements AutenticacaoCadastroServ
           authDepois.setAtivo(false);
 
           autenticacaoRepository.save(authDepois);
+          credencialVerificadaCache.invalidar(usuarioId);
+          revogacaoTokenService.revogarSessoes(usuarioId);
           historicoAutenticacaoService.registrarHistoricoCompleto(
               authAntes, authDepois, authAntes.getUsuario());
 
@@ -115,6 +127,7 @@ public class AutenticacaoCadastroServiceImpl implements AutenticacaoCadastroServ
     Autenticacao auth = new Autenticacao();
     auth.setEmail(usuario.getEmail());
     auth.setSenha(passwordEncoder.encode(dto.senha()));
+    auth.setDataHoraAlteracaoSenha(LocalDateTime.now());
     auth.setUsuario(usuario);
     auth.setAtivo(true);
     return auth;
@@ -126,6 +139,7 @@ public class AutenticacaoCadastroServiceImpl implements AutenticacaoCadastroServ
 
     if (dto.senha() != null && !dto.senha().isBlank()) {
       nova.setSenha(passwordEncoder.encode(dto.senha()));
+      nova.setDataHoraAlteracaoSenha(LocalDateTime.now());
     }
     if (dto.email() != null && !dto.email().isBlank()) {
       nova.setEmail(dto.email());
@@ -141,6 +155,8 @@ public class AutenticacaoCadastroServiceImpl implements AutenticacaoCadastroServ
     clone.setSenha(original.getSenha());
     clone.setUsuario(original.getUsuario());
     clone.setAtivo(original.getAtivo());
+    clone.setDataHoraAlteracaoSenha(original.getDataHoraAlteracaoSenha());
+    clone.setVersaoToken(original.getVersaoToken());
     return clone;
   }
 }
@@ -7,25 +7,26 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
 
 import com.autenticacao.api.app.config.security.TokenService;
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
+import com.autenticacao.api.app.config.security.limite.DetectorAtaqueCredenciais;
 import com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider;
+import com.autenticacao.api.app.config.security.senha.AtualizadorHashSenha;
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
 import com.autenticacao.api.app.domain.DTO.request.AlterarSenhaRequest;
 import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
 import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
-import com.autenticacao.api.app.domain.entity.TokenBlacklist;
 import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.exception.UsuarioNaoAutenticadoException;
 import com.autenticacao.api.app.exception.UsuarioNaoEncontradoException;
-import com.autenticacao.api.app.repository.TokenBlacklistRepository;
 import com.autenticacao.api.app.repository.UsuarioRepository;
 import com.autenticacao.api.app.service.AutenticacaoService;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
 import com.autenticacao.api.app.service.SenhaService;
+import com.autenticacao.api.app.service.TentativaLoginService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -42,16 +43,28 @@ public class AutenticacaoServiceImpl implements AutenticacaoService {
   private final TokenService tokenService;
   private final RefreshTokenServiceImpl refreshTokenService;
   private final SenhaService senhaService;
-  private final TentativaLoginServiceImpl tentativaLoginService;
-  private final @Lazy AuthenticationManager authenticationManager;
+  private final TentativaLoginService tentativaLoginService;
+  private final DetectorAtaqueCredenciais detectorAtaqueCredenciais;
+  private final CredencialVerificadaCache credencialVerificadaCache;
+  private final AtualizadorHashSenha atualizadorHashSenha;
   private final UsuarioAutenticadoProvider usuarioAutenticadoProvider;
-  private final TokenBlacklistRepository tokenBlacklistRepository;
+  private final RevogacaoTokenService revogacaoTokenService;
   private static final Logger logger = LoggerFactory.getLogger(AutenticacaoServiceImpl.class);
 
   /**
    * Realiza o ‘login’ do usuário com base nos dados de autenticação informados. Aplica tratamento
    * centralizado para exceções e persiste tentativas de ‘login’.
    *
+   * <p>Credencial, bloqueio e expiração da senha são conferidos a partir de uma única consulta
+   * ({@link DadosLogin}); um ‘login’ bem-sucedido sem falhas anteriores faz apenas essa leitura e a
+   * gravação do refresh token. A senha é verificada no pool limitado do {@code VerificadorSenha},
+   * fora das threads do servidor, a menos que a mesma credencial tenha sido aceita há pouco ({@link
+   * CredencialVerificadaCache}); se o hash estiver desatualizado, ele é refeito em segundo plano
+   * pelo {@link AtualizadorHashSenha}.
+   *
+   * <p>O método não é transacional de propósito: a leitura, a verificação da senha e as gravações
+   * são fases separadas, e nenhuma conexão do pool fica presa durante o cálculo do hash.
+   *
    * @param dto Dados para ‘login’ contendo e-mail e senha.
    * @return Objeto {@link LoginResponseDTO} com ‘tokens’ de acesso e refresh.
    * @throws UsuarioNaoEncontradoException se o usuário não for encontrado pelo e-mail.
@@ -63,28 +76,30 @@ public class AutenticacaoServiceImpl implements AutenticacaoService {
   public LoginResponseDTO login(LoginUsuarioRequestDTO dto) {
     return executarComandoComTratamentoErroComMensagem(
         () -> {
-          Usuario usuario = buscarUsuarioPorEmail(dto.email());
-          tentativaLoginService.validarBloqueio(usuario);
-
-          try {
-            Usuario autenticado = autenticarUsuario(dto);
+          DadosLogin dadosLogin = buscarDadosLogin(dto.email());
+          tentativaLoginService.validarBloqueio(dadosLogin);
 
-            tentativaLoginService.resetarTentativas(usuario);
-            senhaService.validarSenhaExpirada(autenticado);
+          if (!credencialVerificadaCache.verificar(
+              dadosLogin.usuarioId(), dto.senha(), dadosLogin.senha())) {
+            tentativaLoginService.registrarFalha(dadosLogin);
+            detectorAtaqueCredenciais.registrarFalha();
 
-            logger.info("Usuário autenticado com sucesso: {}", autenticado.getEmail());
+            logger.warn("Falha de autenticação para o email: {}", dto.email());
+            throw new BadCredentialsException(EMAIL_OU_SENHA_INVALIDOS.getChave());
+          }
 
-            String accessToken = tokenService.generateToken(autenticado);
-            String refreshToken = refreshTokenService.createRefreshToken(autenticado);
+          atualizadorHashSenha.atualizarSeNecessario(
+              dadosLogin.usuarioId(), dto.senha(), dadosLogin.senha());
+          tentativaLoginService.resetarTentativas(dadosLogin);
+          senhaService.validarSenhaExpirada(dadosLogin.dataUltimaAlteracaoSenha());
 
-            return new LoginResponseDTO(accessToken, refreshToken);
+          Usuario autenticado = dadosLogin.usuario();
+          logger.info("Usuário autenticado com sucesso: {}", autenticado.getEmail());
 
-          } catch (BadCredentialsException e) {
-            tentativaLoginService.registrarFalha(usuario);
+          String accessToken = tokenService.generateToken(autenticado);
+          String refreshToken = refreshTokenService.createRefreshToken(autenticado);
 
-            logger.warn("Falha de autenticação para o email: {}", dto.email());
-            throw e;
-          }
+          return new LoginResponseDTO(accessToken, refreshToken);
         },
         ERRO_REALIZAR_LOGIN.getChave());
   }
@@ -123,38 +138,35 @@ public class AutenticacaoServiceImpl implements AutenticacaoService {
   }
 
   /**
-   * Busca o usuário pelo e-mail informado.
+   * Busca os dados de ‘login’ do usuário pelo e-mail informado.
    *
    * @param email E-mail do usuário a ser buscado.
-   * @return Usuário encontrado.
+   * @return Dados do login do usuário encontrado.
    * @throws UsuarioNaoEncontradoException caso não encontre o usuário pelo e-mail.
    */
-  private Usuario buscarUsuarioPorEmail(String email) {
+  private DadosLogin buscarDadosLogin(String email) {
     return usuarioRepository
-        .findByEmail(email)
-        .orElseThrow(() -> new UsuarioNaoEncontradoException(USUARIO_NAO_ENCONTRADO.getChave()));
+        .buscarDadosLogin(email)
+        .orElseThrow(
+            () -> {
+              detectorAtaqueCredenciais.registrarFalha();
+              return new UsuarioNaoEncontradoException(USUARIO_NAO_ENCONTRADO.getChave());
+            });
   }
 
   /**
-   * Realiza a autenticação do usuário com base nos dados fornecidos.
+   * Encerra a sessão: revoga o ‘token’ de acesso pelo jti, em todas as instâncias, e remove o
+   * refresh token. Um token de acesso já inválido ou expirado não precisa ser revogado.
    *
-   * @param dto Dados para ‘login’ contendo e-mail e senha.
-   * @return Usuário autenticado.
-   * @throws BadCredentialsException caso as credenciais estejam incorretas.
+   * @param accessToken token de acesso da sessão
+   * @param refreshToken refresh token da sessão
    */
-  private Usuario autenticarUsuario(LoginUsuarioRequestDTO dto) {
-    var authToken = new UsernamePasswordAuthenticationToken(dto.email(), dto.senha());
-    var authentication = authenticationManager.authenticate(authToken);
-    return (Usuario) authentication.getPrincipal();
-  }
-
+  @Override
   @Transactional
   public void logout(String accessToken, String refreshToken) {
-
-    TokenBlacklist blacklist = new TokenBlacklist();
-    blacklist.setToken(accessToken);
-    blacklist.setExpiryDate(tokenService.getExpirationDate(accessToken));
-    tokenBlacklistRepository.save(blacklist);
+    tokenService
+        .verificarToken(accessToken)
+        .ifPresent(token -> revogacaoTokenService.revogar(token.jti(), token.expiraEm()));
     refreshTokenService.deleteByToken(refreshToken);
   }
 }
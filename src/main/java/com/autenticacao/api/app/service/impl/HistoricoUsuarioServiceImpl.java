@@ -1,10 +1,11 @@
 package com.autenticacao.api.app.service.impl;
 
-import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterUsuarioLogado;
+import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterIdUsuarioLogado;
 import static com.autenticacao.api.app.util.ExecutarUtil.executarComandoComTratamentoErroComMensagem;
 import static com.autenticacao.api.app.util.enums.MensagemSistema.ERRO_REGISTRAR_HISTORICO_ALTERACAO_USUARIO;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import com.autenticacao.api.app.domain.entity.HistoricoUsuario;
 import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.domain.mapper.UsuarioCloneMapper;
 import com.autenticacao.api.app.repository.HistoricoUsuarioRepository;
+import com.autenticacao.api.app.repository.UsuarioRepository;
 import com.autenticacao.api.app.service.HistoricoUsuarioService;
 import com.autenticacao.api.app.service.UsuarioComparadorService;
 import com.autenticacao.api.app.util.enums.TipoMovimentacao;
@@ -27,14 +29,17 @@ public class HistoricoUsuarioServiceImpl implements HistoricoUsuarioService {
   private final HistoricoUsuarioRepository historicoRepository;
   private final UsuarioCloneMapper cloneMapper;
   private final UsuarioComparadorService usuarioComparadorService;
+  private final UsuarioRepository usuarioRepository;
 
   public HistoricoUsuarioServiceImpl(
       HistoricoUsuarioRepository historicoRepository,
       @Qualifier("usuarioCloneMapperImpl") UsuarioCloneMapper cloneMapper,
-      UsuarioComparadorService usuarioComparadorService) {
+      UsuarioComparadorService usuarioComparadorService,
+      UsuarioRepository usuarioRepository) {
     this.historicoRepository = historicoRepository;
     this.cloneMapper = cloneMapper;
     this.usuarioComparadorService = usuarioComparadorService;
+    this.usuarioRepository = usuarioRepository;
   }
 
   /**
@@ -67,7 +72,7 @@ public class HistoricoUsuarioServiceImpl implements HistoricoUsuarioService {
     boolean desativado = houveDesativacao(antes, depois);
 
     if (desativado) {
-      registrarDesativacao(depois, obterUsuarioLogado(), agora, camposAlterados);
+      registrarDesativacao(depois, obterUsuarioResponsavel(), agora, camposAlterados);
       return null;
     }
 
@@ -114,7 +119,7 @@ public class HistoricoUsuarioServiceImpl implements HistoricoUsuarioService {
     HistoricoUsuario historicoAlteracao =
         HistoricoUsuario.builder()
             .usuario(usuario)
-            .usuarioResponsavel(obterUsuarioLogado())
+            .usuarioResponsavel(obterUsuarioResponsavel())
             .tipoAlteracao(TipoMovimentacao.ATUALIZACAO_DADOS)
             .dataHoraAtualizacao(agora)
             .camposAlterados(camposAlterados)
@@ -122,6 +127,15 @@ public class HistoricoUsuarioServiceImpl implements HistoricoUsuarioService {
     historicoRepository.save(historicoAlteracao);
   }
 
+  /**
+   * Referência (sem consulta) ao usuário autenticado, usada apenas como chave estrangeira do
+   * histórico.
+   */
+  private Usuario obterUsuarioResponsavel() {
+    UUID id = obterIdUsuarioLogado();
+    return id == null ? null : usuarioRepository.getReferenceById(id);
+  }
+
   private boolean houveDesativacao(Usuario antes, Usuario depois) {
     return antes.isAtivo() && !depois.isAtivo();
   }
@@ -0,0 +1,82 @@
+package com.autenticacao.api.app.service.impl;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.INTROSPECCAO_LOTE_EXCEDE_LIMITE;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
+import com.autenticacao.api.app.config.security.ValidadorTokenAcesso;
+import com.autenticacao.api.app.config.security.cache.TokenVerificado;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoLoteResponse;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+import com.autenticacao.api.app.exception.ValidacaoException;
+import com.autenticacao.api.app.service.IntrospeccaoService;
+
+/**
+ * Introspecção de ‘tokens’ de acesso para os serviços consumidores. Usa o mesmo caminho de
+ * validação do {@code SecurityFilter}: o resultado da verificação e as revogações vêm da memória, e
+ * o banco só é consultado quando a versão dos tokens do usuário não está em cache.
+ */
+@Service
+public class IntrospeccaoServiceImpl implements IntrospeccaoService {
+
+  private final ValidadorTokenAcesso validadorTokenAcesso;
+  private final int tamanhoMaximoLote;
+
+  public IntrospeccaoServiceImpl(
+      ValidadorTokenAcesso validadorTokenAcesso,
+      @Value("${seguranca.introspeccao.tamanho-maximo-lote:100}") int tamanhoMaximoLote) {
+    this.validadorTokenAcesso = validadorTokenAcesso;
+    this.tamanhoMaximoLote = tamanhoMaximoLote;
+  }
+
+  /**
+   * @param token token de acesso a verificar
+   * @return dados do token, ou apenas {@code active=false} se for inválido, revogado ou de usuário
+   *     inativo
+   */
+  @Override
+  public IntrospeccaoResponse introspectar(String token) {
+    return validadorTokenAcesso
+        .validar(token)
+        .filter(verificado -> verificado.usuario().isAtivo())
+        .map(IntrospeccaoServiceImpl::paraResposta)
+        .orElse(IntrospeccaoResponse.inativo());
+  }
+
+  /**
+   * Verifica vários ‘tokens’ em uma única chamada; tokens repetidos são verificados uma só vez.
+   *
+   * @param tokens tokens de acesso, no máximo {@code seguranca.introspeccao.tamanho-maximo-lote}
+   * @return resultados na mesma ordem dos tokens recebidos
+   * @throws ValidacaoException se o lote exceder o tamanho máximo
+   */
+  @Override
+  public IntrospeccaoLoteResponse introspectarLote(List<String> tokens) {
+    if (tokens.size() > tamanhoMaximoLote) {
+      throw new ValidacaoException(
+          INTROSPECCAO_LOTE_EXCEDE_LIMITE, String.valueOf(tamanhoMaximoLote));
+    }
+    Map<String, IntrospeccaoResponse> resultados = new HashMap<>();
+    List<IntrospeccaoResponse> respostas =
+        tokens.stream()
+            .map(token -> resultados.computeIfAbsent(token, this::introspectar))
+            .toList();
+    return new IntrospeccaoLoteResponse(respostas);
+  }
+
+  private static IntrospeccaoResponse paraResposta(TokenVerificado verificado) {
+    UsuarioAutenticado usuario = verificado.usuario();
+    return new IntrospeccaoResponse(
+        true,
+        usuario.getEmail(),
+        usuario.getId(),
+        usuario.getRole().name(),
+        verificado.expiraEm().getEpochSecond());
+  }
+}
@@ -1,16 +1,23 @@
 package com.autenticacao.api.app.service.impl;
 
+import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterIdUsuarioLogado;
 import static com.autenticacao.api.app.util.ExecutarUtil.executarComandoComTratamentoErroComMensagem;
 import static com.autenticacao.api.app.util.enums.MensagemSistema.*;
 
-import java.security.SecureRandom;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.autenticacao.api.app.config.security.provider.TokenGenerator;
+import com.autenticacao.api.app.domain.DTO.RefreshTokenRotacionado;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 import com.autenticacao.api.app.domain.entity.RefreshToken;
 import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.exception.RefreshTokenInvalidoException;
@@ -22,8 +29,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Serviço para gerir Refresh ‘Tokens’. Responsável pela criação, validação, recuperação de usuário
- * e exclusão de ‘tokens’.
+ * Serviço para gerir Refresh ‘Tokens’. Responsável pela criação, rotação e exclusão de ‘tokens’.
+ * O banco guarda apenas o SHA-256 de cada token, e toda busca é feita por ele.
  */
 @Service
 @RequiredArgsConstructor
@@ -35,98 +42,102 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
   @Value("${seguranca.refresh-token.validade-minutos:10080}") // 7 dias
   private long validadeTokenMinutos;
 
+  /** Refresh ‘tokens’ ativos por usuário; zero ou negativo desliga o limite. */
+  @Value("${seguranca.refresh-token.max-sessoes:10}")
+  private int maxSessoes;
+
+  @Value("${seguranca.refresh-token.tamanho-lote-revogacao:1000}")
+  private int tamanhoLoteRevogacao;
+
   private static final int MAX_REFRESHES = 10;
 
   private final TokenGenerator tokenGenerator;
 
-  private final SecureRandom secureRandom = new SecureRandom();
-
   /**
-   * Cria um refresh ‘token’ para o usuário informado.
+   * Cria um refresh ‘token’ para o usuário informado. Na mesma transação, remove os tokens
+   * expirados do usuário e, se ele passar do limite de sessões, os mais antigos.
    *
    * @param usuario o usuário para quem o token será criado
    * @return token gerado
    */
+  @Transactional
   public String createRefreshToken(Usuario usuario) {
     return executarComandoComTratamentoErroComMensagem(
         () -> {
           String token = tokenGenerator.gerarToken(); // aqui!
           RefreshToken refreshToken = new RefreshToken();
-          refreshToken.setToken(token);
+          refreshToken.setTokenHash(hash(token));
           refreshToken.setUsuario(usuario);
           refreshToken.setExpiryDate(LocalDateTime.now().plusMinutes(validadeTokenMinutos));
           refreshToken.setRefreshCount(0);
           refreshTokenRepository.save(refreshToken);
+          if (maxSessoes > 0) {
+            int removidos =
+                refreshTokenRepository.removerExcedentes(
+                    usuario.getId(), LocalDateTime.now(), maxSessoes);
+            if (removidos > 0) {
+              log.info(
+                  "{} sessões antigas encerradas para usuário: {}", removidos, usuario.getEmail());
+            }
+          }
           log.info("Refresh token criado para usuário: {}", usuario.getEmail());
           return token;
         },
         ERRO_CRIAR_REFRESH_TOKEN.getChave());
   }
 
-  /** Gera token aleatório seguro e longo */
-  private String gerarTokenSeguro() {
-    byte[] randomBytes = new byte[64];
-    secureRandom.nextBytes(randomBytes);
-    return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
-  }
-
   /**
-   * Valida se o ‘token’ informado é válido, não expirou e ainda pode ser renovado.
+   * Remove todos os refresh ‘tokens’ associados a um usuário.
    *
-   * @param token token a ser validado
-   * @return true se válido, false caso contrário
-   * @throws RefreshTokenInvalidoException se token for nulo, vazio ou inválido
+   * @param usuario usuário cujos tokens serão removidos
    */
-  public boolean isValid(String token) {
-    if (token == null || token.isBlank()) {
-      throw new RefreshTokenInvalidoException(TOKEN_NULO_OU_VAZIO.getChave());
-    }
-    return executarComandoComTratamentoErroComMensagem(
+  public void deleteByUsuario(Usuario usuario) {
+    executarComandoComTratamentoErroComMensagem(
         () -> {
-          RefreshToken rt = refreshTokenRepository.findByToken(token).orElse(null);
-          if (rt == null) return false;
-          if (rt.getExpiryDate().isBefore(LocalDateTime.now())) return false;
-          if (rt.getRefreshCount() >= MAX_REFRESHES) return false; // limite de renovações
-          return true;
+          refreshTokenRepository.deleteByUsuario(usuario);
+          log.info("Refresh tokens removidos para usuário: {}", usuario.getEmail());
+          return null;
         },
-        ERRO_VALIDAR_REFRESH_TOKEN.getChave());
+        ERRO_REMOVER_REFRESH_TOKENS_USUARIO.getChave());
   }
 
   /**
-   * Retorna o usuário associado ao ‘token’ informado.
-   *
-   * @param token token válido
-   * @return usuário relacionado ao token
-   * @throws RefreshTokenInvalidoException se token inválido ou expirado
+   * Lista as sessões ativas do usuário autenticado, da renovada mais recentemente para a mais
+   * antiga.
    */
-  public Usuario getUsuario(String token) {
-    if (token == null || token.isBlank()) {
-      throw new RefreshTokenInvalidoException(TOKEN_NULO_OU_VAZIO.getChave());
-    }
+  public List<SessaoResponse> listarSessoes() {
     return executarComandoComTratamentoErroComMensagem(
-        () ->
-            refreshTokenRepository
-                .findByToken(token)
-                .filter(rt -> rt.getExpiryDate().isAfter(LocalDateTime.now()))
-                .map(RefreshToken::getUsuario)
-                .orElseThrow(
-                    () ->
-                        new RefreshTokenInvalidoException(
-                            REFRESH_TOKEN_INVALIDO_OU_EXPIRADO.getChave())),
-        ERRO_OBTER_USUARIO_REFRESH_TOKEN.getChave());
+        () -> refreshTokenRepository.buscarSessoes(obterIdUsuarioLogado(), LocalDateTime.now()),
+        ERRO_LISTAR_SESSOES.getChave());
   }
 
   /**
-   * Remove todos os refresh ‘tokens’ associados a um usuário.
+   * Revoga todas as sessões dos usuários informados, removendo os seus refresh ‘tokens’ com um
+   * DELETE por lote de {@code seguranca.refresh-token.tamanho-lote-revogacao} usuários. Cada lote é
+   * confirmado separadamente, sem manter uma transação longa aberta. Os ‘tokens’ de acesso já
+   * emitidos seguem válidos até expirarem; para cortá-los na hora, use {@code
+   * RevogacaoTokenService.revogarSessoes}. O acesso é restrito a administradores na configuração de
+   * segurança.
    *
-   * @param usuario usuário cujos tokens serão removidos
+   * @param usuarioIds usuários cujas sessões serão encerradas
+   * @return quantidade de refresh tokens removidos
    */
-  public void deleteByUsuario(Usuario usuario) {
-    executarComandoComTratamentoErroComMensagem(
+  public int revogarPorUsuarios(List<UUID> usuarioIds) {
+    return executarComandoComTratamentoErroComMensagem(
         () -> {
-          refreshTokenRepository.deleteByUsuario(usuario);
-          log.info("Refresh tokens removidos para usuário: {}", usuario.getEmail());
-          return null;
+          List<UUID> distintos = usuarioIds.stream().distinct().toList();
+          int removidos = 0;
+          for (int inicio = 0; inicio < distintos.size(); inicio += tamanhoLoteRevogacao) {
+            List<UUID> lote =
+                distintos.subList(
+                    inicio, Math.min(inicio + tamanhoLoteRevogacao, distintos.size()));
+            removidos += refreshTokenRepository.removerPorUsuarios(lote);
+          }
+          log.info(
+              "Sessões revogadas em lote: {} refresh tokens de {} usuários",
+              removidos,
+              distintos.size());
+          return removidos;
         },
         ERRO_REMOVER_REFRESH_TOKENS_USUARIO.getChave());
   }
@@ -136,52 +147,54 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
   public void deleteByToken(String token) {
     executarComandoComTratamentoErroComMensagem(
         () -> {
-          refreshTokenRepository.deleteByToken(token);
-          log.info("Refresh token removido: {}", token);
+          refreshTokenRepository.deleteByTokenHash(hash(token));
+          log.info("Refresh token removido");
           return null;
         },
         ERRO_REMOVER_REFRESH_TOKENS_USUARIO.getChave());
   }
 
   /**
-   * Rotaciona o refresh token: remove o antigo e cria um novo. Incrementa contador de renovações.
+   * Rotaciona o refresh token: substitui o valor do ‘token’, renova a validade e incrementa o
+   * contador de renovações em um único comando no banco, que já devolve os dados do usuário para a
+   * emissão do novo ‘token’ de acesso. Se o mesmo token for apresentado em paralelo, apenas uma
+   * das requisições consegue rotacioná-lo.
+   *
+   * @param token refresh token apresentado
+   * @return novo refresh token e seu dono, ou vazio se o token for desconhecido, estiver expirado
+   *     ou tiver atingido o limite de renovações
+   * @throws RefreshTokenInvalidoException se o token for nulo ou vazio
    */
-  public String rotateRefreshToken(String oldToken) {
+  public Optional<RefreshTokenRotacionado> rotacionar(String token) {
+    if (token == null || token.isBlank()) {
+      throw new RefreshTokenInvalidoException(TOKEN_NULO_OU_VAZIO.getChave());
+    }
     return executarComandoComTratamentoErroComMensagem(
         () -> {
-          RefreshToken oldRefreshToken =
+          String novoToken = tokenGenerator.gerarToken();
+          LocalDateTime agora = LocalDateTime.now();
+          Optional<RefreshTokenRotacionado> rotacionado =
               refreshTokenRepository
-                  .findByToken(oldToken)
-                  .orElseThrow(
-                      () ->
-                          new RefreshTokenInvalidoException(
-                              REFRESH_TOKEN_INVALIDO_OU_EXPIRADO.getChave()));
-
-          if (oldRefreshToken.getExpiryDate().isBefore(LocalDateTime.now())) {
-            throw new RefreshTokenInvalidoException(REFRESH_TOKEN_INVALIDO_OU_EXPIRADO.getChave());
-          }
-
-          if (oldRefreshToken.getRefreshCount() >= MAX_REFRESHES) {
-            throw new RefreshTokenInvalidoException("Limite máximo de renovações atingido");
-          }
-
-          Usuario usuario = oldRefreshToken.getUsuario();
-
-          // Remove o token antigo
-          refreshTokenRepository.delete(oldRefreshToken);
-
-          // Cria um novo refresh token com contador incrementado
-          RefreshToken novoToken = new RefreshToken();
-          novoToken.setToken(gerarTokenSeguro());
-          novoToken.setUsuario(usuario);
-          novoToken.setExpiryDate(LocalDateTime.now().plusMinutes(validadeTokenMinutos));
-          novoToken.setRefreshCount(oldRefreshToken.getRefreshCount() + 1);
-          refreshTokenRepository.save(novoToken);
-
-          log.info("Refresh token rotacionado para usuário: {}", usuario.getEmail());
-
-          return novoToken.getToken();
+                  .rotacionar(
+                      hash(token),
+                      hash(novoToken),
+                      agora,
+                      agora.plusMinutes(validadeTokenMinutos),
+                      MAX_REFRESHES)
+                  .map(sessao -> new RefreshTokenRotacionado(novoToken, sessao.usuario()));
+          rotacionado.ifPresent(
+              r -> log.info("Refresh token rotacionado para usuário: {}", r.usuario().getEmail()));
+          return rotacionado;
         },
         ERRO_CRIAR_REFRESH_TOKEN.getChave());
   }
+
+  /** SHA-256 do ‘token’: chave de tamanho fixo, inútil como credencial se o banco vazar. */
+  private static byte[] hash(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
 }
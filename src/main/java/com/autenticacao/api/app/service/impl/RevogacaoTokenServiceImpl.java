@@ -0,0 +1,110 @@
+package com.autenticacao.api.app.service.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autenticacao.api.app.config.security.cache.VersaoTokenCache;
+import com.autenticacao.api.app.config.security.revogacao.RegistroRevogacoes;
+import com.autenticacao.api.app.config.security.revogacao.SincronizadorRevogacoes;
+import com.autenticacao.api.app.domain.entity.TokenBlacklist;
+import com.autenticacao.api.app.repository.AutenticacaoRepository;
+import com.autenticacao.api.app.repository.RefreshTokenRepository;
+import com.autenticacao.api.app.repository.TokenBlacklistRepository;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço de revogação de ‘tokens’ de acesso. Revoga um token isolado pelo jti ou todas as
+ * sessões de um usuário pela versão dos tokens, propagando a revogação às demais instâncias.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevogacaoTokenServiceImpl implements RevogacaoTokenService {
+
+  private final TokenBlacklistRepository tokenBlacklistRepository;
+  private final AutenticacaoRepository autenticacaoRepository;
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final VersaoTokenCache versaoTokenCache;
+  private final RegistroRevogacoes registroRevogacoes;
+  private final SincronizadorRevogacoes sincronizadorRevogacoes;
+
+  /**
+   * Revoga o ‘token’ de acesso identificado pelo jti até a sua expiração.
+   *
+   * @param jti identificador do token (claim jti)
+   * @param expiraEm exp do token
+   */
+  @Override
+  @Transactional
+  public void revogar(String jti, Instant expiraEm) {
+    tokenBlacklistRepository.save(TokenBlacklist.builder().token(jti).expiryDate(expiraEm).build());
+    sincronizadorRevogacoes.publicarRevogacao(jti, expiraEm);
+    registroRevogacoes.revogar(jti, expiraEm);
+    log.info("Token de acesso revogado: {}", jti);
+  }
+
+  @Override
+  public boolean estaRevogado(String jti) {
+    return registroRevogacoes.estaRevogado(jti);
+  }
+
+  /**
+   * Revoga todas as sessões do usuário: incrementa a versão dos ‘tokens’, de modo que nenhum token
+   * de acesso emitido antes seja mais aceito, e remove na mesma transação os refresh tokens do
+   * usuário, que do contrário emitiriam novos ‘tokens’ já com a versão atual. A versão em cache é
+   * invalidada depois do commit, nesta e nas demais instâncias.
+   *
+   * @param usuarioId identificador do usuário
+   */
+  @Override
+  @Transactional
+  public void revogarSessoes(UUID usuarioId) {
+    autenticacaoRepository.incrementarVersaoToken(usuarioId);
+    refreshTokenRepository.removerPorUsuarios(List.of(usuarioId));
+    sincronizadorRevogacoes.publicarVersao(usuarioId);
+    aposCommit(() -> versaoTokenCache.invalidar(usuarioId));
+    log.info("Sessões do usuário {} revogadas", usuarioId);
+  }
+
+  @Override
+  public boolean versaoVigente(UUID usuarioId, long versao) {
+    return versaoTokenCache.versaoAtual(usuarioId) == versao;
+  }
+
+  /** Remove da tabela as revogações de ‘tokens’ que já expiraram. */
+  @Scheduled(cron = "${seguranca.revogacao.cron-limpeza:0 0 * * * *}")
+  public void removerExpirados() {
+    int removidos = tokenBlacklistRepository.removerExpirados(Instant.now());
+    if (removidos > 0) {
+      log.info("Revogações expiradas removidas: {}", removidos);
+    }
+  }
+
+  /**
+   * Executa a ação após o commit da transação corrente, para que uma leitura concorrente não volte
+   * a guardar em cache o valor anterior; sem transação, executa imediatamente.
+   */
+  private static void aposCommit(Runnable acao) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      acao.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            acao.run();
+          }
+        });
+  }
+}
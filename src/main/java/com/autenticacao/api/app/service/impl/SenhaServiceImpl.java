@@ -1,22 +1,25 @@
 package com.autenticacao.api.app.service.impl;
 
-import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterUsuarioLogado;
+import static com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider.obterIdUsuarioLogado;
 import static com.autenticacao.api.app.util.ExecutarUtil.executarComandoComTratamentoErroComMensagem;
 import static com.autenticacao.api.app.util.enums.MensagemSistema.*;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
 import com.autenticacao.api.app.domain.entity.Autenticacao;
 import com.autenticacao.api.app.domain.entity.HistoricoAutenticacao;
-import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.exception.SenhaExpiradaException;
+import com.autenticacao.api.app.exception.UsuarioNaoEncontradoException;
 import com.autenticacao.api.app.exception.ValidacaoException;
 import com.autenticacao.api.app.repository.AutenticacaoRepository;
 import com.autenticacao.api.app.repository.HistoricoAutenticacaoRepository;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
 import com.autenticacao.api.app.service.SenhaService;
 import com.autenticacao.api.app.util.enums.TipoMovimentacao;
 
@@ -29,17 +32,21 @@ public class SenhaServiceImpl implements SenhaService {
   private final PasswordEncoder passwordEncoder;
   private final AutenticacaoRepository autenticacaoRepository;
   private final HistoricoAutenticacaoRepository historicoAutenticacaoRepository;
+  private final RevogacaoTokenService revogacaoTokenService;
+  private final CredencialVerificadaCache credencialVerificadaCache;
 
   @Value("${seguranca.senha.validade-dias:90}")
   private long validadeSenhaDias;
 
+  /**
+   * @param dataUltimaAlteracaoSenha data lida junto dos dados do login ({@code DadosLogin})
+   * @throws SenhaExpiradaException se não houver data ou se a validade já tiver passado
+   */
   @Override
-  public void validarSenhaExpirada(Usuario usuario) {
+  public void validarSenhaExpirada(LocalDateTime dataUltimaAlteracaoSenha) {
     executarComandoComTratamentoErroComMensagem(
         () -> {
-          LocalDateTime dataUltimaAtualizacao = buscarDataUltimaAtualizacaoSenha(usuario);
-          if (dataUltimaAtualizacao == null
-              || dataUltimaAtualizacao.plusDays(validadeSenhaDias).isBefore(LocalDateTime.now())) {
+          if (expirada(dataUltimaAlteracaoSenha)) {
             throw new SenhaExpiradaException(SENHA_EXPIRADA.getChave());
           }
           return null;
@@ -51,15 +58,23 @@ public class SenhaServiceImpl implements SenhaService {
   public void alterarSenha(String senhaAtual, String novaSenha) {
     executarComandoComTratamentoErroComMensagem(
         () -> {
-          Usuario usuario = obterUsuarioLogado();
-          Autenticacao autenticacao = usuario.getAutenticacao();
+          UUID usuarioId = obterIdUsuarioLogado();
+          Autenticacao autenticacao =
+              autenticacaoRepository
+                  .buscarPorUsuarioId(usuarioId)
+                  .orElseThrow(
+                      () -> new UsuarioNaoEncontradoException(USUARIO_NAO_ENCONTRADO.getChave()));
 
           validarSenhaAtual(senhaAtual, autenticacao);
 
+          LocalDateTime agora = LocalDateTime.now();
           autenticacao.setSenha(passwordEncoder.encode(novaSenha));
+          autenticacao.setDataHoraAlteracaoSenha(agora);
           autenticacaoRepository.save(autenticacao);
+          credencialVerificadaCache.invalidar(usuarioId);
+          revogacaoTokenService.revogarSessoes(usuarioId);
 
-          registrarHistoricoAlteracaoSenha(autenticacao);
+          registrarHistoricoAlteracaoSenha(autenticacao, agora);
 
           return null;
         },
@@ -72,27 +87,27 @@ public class SenhaServiceImpl implements SenhaService {
     }
   }
 
-  private void registrarHistoricoAlteracaoSenha(Autenticacao autenticacao) {
+  private void registrarHistoricoAlteracaoSenha(Autenticacao autenticacao, LocalDateTime agora) {
     HistoricoAutenticacao historico =
         HistoricoAutenticacao.builder()
             .autenticacao(autenticacao)
+            .usuarioResponsavel(autenticacao.getUsuario())
             .tipoAlteracao(TipoMovimentacao.ATUALIZACAO_SENHA)
-            .dataAlteracao(LocalDateTime.now())
+            .dataAlteracao(agora)
+            .dataHoraAlteracaoSenha(agora)
             .camposAlterados("Senha alterada com sucesso")
             .build();
 
     historicoAutenticacaoRepository.save(historico);
   }
 
-  private LocalDateTime buscarDataUltimaAtualizacaoSenha(Usuario usuario) {
-    return historicoAutenticacaoRepository
-        .findTopByUsuarioResponsavelOrderByDataHoraCriacaoDesc(usuario)
-        .map(HistoricoAutenticacao::getDataAlteracao)
-        .orElse(null);
-  }
-
   @Override
   public boolean senhaExpirada(Autenticacao autenticacao) {
-    throw new UnsupportedOperationException("Use validarSenhaExpirada com base no histórico.");
+    return expirada(autenticacao.getDataHoraAlteracaoSenha());
+  }
+
+  private boolean expirada(LocalDateTime dataAlteracao) {
+    return dataAlteracao == null
+        || dataAlteracao.plusDays(validadeSenhaDias).isBefore(LocalDateTime.now());
   }
 }
@@ -0,0 +1,259 @@
+package com.autenticacao.api.app.service.impl;
+
+import static com.autenticacao.api.app.Constantes.Schema.AUTENTICACAO;
+import static com.autenticacao.api.app.Constantes.Tabelas.CONTROLE_ACESSO_USUARIO;
+import static com.autenticacao.api.app.util.enums.MensagemSistema.CONTA_BLOQUEADA;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
+import com.autenticacao.api.app.exception.ContaBloqueadaException;
+import com.autenticacao.api.app.service.TentativaLoginService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controle de tentativas de ‘login’ mantido em memória, sem acesso ao banco no caminho do ‘login’.
+ *
+ * <p>Cada conta com falhas recentes tem uma janela deslizante com os instantes das últimas {@code
+ * MAX_TENTATIVAS} falhas, atualizada apenas com operações atômicas; o mapa de janelas é um {@link
+ * ConcurrentHashMap}, que já divide o acesso entre contas. A conta é bloqueada quando todas essas
+ * falhas caem dentro de {@code TEMPO_BLOQUEIO_MIN} minutos.
+ *
+ * <p>Só as transições de bloqueio e desbloqueio vão para {@code controle_acesso_usuario}, de forma
+ * assíncrona, agrupadas por conta (vale a última) e gravadas em lotes JDBC. Assim o bloqueio
+ * continua valendo nas demais instâncias e após reinícios, pois o ‘login’ já lê o bloqueio gravado
+ * junto com os dados do usuário. Um ‘login’ bem-sucedido de conta sem falhas não faz nenhuma
+ * leitura ou escrita de controle.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "seguranca.login.tentativas.armazenamento", havingValue = "memoria")
+public class TentativaLoginMemoriaServiceImpl implements TentativaLoginService {
+
+  private static final String TABELA = AUTENTICACAO + "." + CONTROLE_ACESSO_USUARIO;
+  private static final String SQL_ATUALIZAR =
+      "UPDATE " + TABELA + " SET tentativas_falhas = ?, bloqueado_ate = ? WHERE usuario_id = ?";
+  private static final String SQL_INSERIR =
+      "INSERT INTO "
+          + TABELA
+          + " (id, usuario_id, tentativas_falhas, bloqueado_ate) VALUES (?, ?, ?, ?)"
+          + " ON CONFLICT (usuario_id) DO UPDATE SET tentativas_falhas ="
+          + " EXCLUDED.tentativas_falhas, bloqueado_ate = EXCLUDED.bloqueado_ate";
+  private static final long JANELA_MS = TimeUnit.MINUTES.toMillis(TEMPO_BLOQUEIO_MIN);
+  private static final Transicao DESBLOQUEIO = new Transicao(0, null);
+
+  private final Map<UUID, JanelaTentativas> janelas = new ConcurrentHashMap<>();
+  private final Map<UUID, Transicao> pendentes = new ConcurrentHashMap<>();
+  private final JdbcTemplate jdbcTemplate;
+  private final int tamanhoLote;
+
+  public TentativaLoginMemoriaServiceImpl(
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${seguranca.login.tentativas.tamanho-lote:500}") int tamanhoLote) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.tamanhoLote = tamanhoLote;
+    Gauge.builder("login.tentativas.contas", janelas, Map::size)
+        .description("Contas com tentativas de login falhas recentes mantidas em memória")
+        .register(meterRegistry);
+    Gauge.builder("login.tentativas.pendentes", pendentes, Map::size)
+        .description("Bloqueios e desbloqueios aguardando gravação no banco")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Valida o bloqueio mantido nesta instância e, na falta dele, o gravado no banco, lido junto dos
+   * dados do login.
+   *
+   * @param dadosLogin Dados do login do usuário a ser verificado
+   * @throws ContaBloqueadaException se a conta estiver com bloqueio ativo
+   */
+  @Override
+  public void validarBloqueio(DadosLogin dadosLogin) {
+    long agora = System.currentTimeMillis();
+    JanelaTentativas janela = janelas.get(dadosLogin.usuarioId());
+    if (janela != null && janela.bloqueadaEm(agora)) {
+      throw new ContaBloqueadaException(
+          CONTA_BLOQUEADA.getChave() + " até " + paraData(janela.bloqueadoAte()));
+    }
+    if (dadosLogin.bloqueado(paraData(agora))) {
+      throw new ContaBloqueadaException(
+          CONTA_BLOQUEADA.getChave() + " até " + dadosLogin.bloqueadoAte());
+    }
+  }
+
+  /**
+   * Registra a falha na janela da conta e, se ela atingir o limite, bloqueia a conta e agenda a
+   * gravação do bloqueio.
+   *
+   * @param dadosLogin Dados do login do usuário que falhou
+   */
+  @Override
+  public void registrarFalha(DadosLogin dadosLogin) {
+    long agora = System.currentTimeMillis();
+    JanelaTentativas janela =
+        janelas.computeIfAbsent(dadosLogin.usuarioId(), id -> new JanelaTentativas());
+    if (janela.registrar(agora) && janela.bloquear(agora, agora + JANELA_MS)) {
+      pendentes.put(
+          dadosLogin.usuarioId(), new Transicao(MAX_TENTATIVAS, paraData(agora + JANELA_MS)));
+      log.info("Conta do usuário {} bloqueada por tentativas falhas", dadosLogin.usuarioId());
+    }
+  }
+
+  /**
+   * Descarta a janela da conta e, se havia bloqueio ou tentativas gravadas, agenda a limpeza no
+   * banco. Conta sem falhas não gera nenhuma operação.
+   *
+   * @param dadosLogin Dados do login do usuário autenticado
+   */
+  @Override
+  public void resetarTentativas(DadosLogin dadosLogin) {
+    JanelaTentativas janela = janelas.remove(dadosLogin.usuarioId());
+    if ((janela != null && janela.bloqueadoAte() > 0) || dadosLogin.possuiTentativasFalhas()) {
+      pendentes.put(dadosLogin.usuarioId(), DESBLOQUEIO);
+    }
+  }
+
+  /** Grava em lotes as transições pendentes; em caso de erro elas voltam para a fila. */
+  @Scheduled(fixedDelayString = "${seguranca.login.tentativas.intervalo-gravacao-ms:1000}")
+  public void gravarPendentes() {
+    while (!pendentes.isEmpty()) {
+      List<UUID> ids = new ArrayList<>();
+      List<Transicao> transicoes = new ArrayList<>();
+      for (UUID id : pendentes.keySet()) {
+        Transicao transicao = pendentes.remove(id);
+        if (transicao != null) {
+          ids.add(id);
+          transicoes.add(transicao);
+        }
+        if (ids.size() == tamanhoLote) {
+          break;
+        }
+      }
+      if (ids.isEmpty()) {
+        return;
+      }
+      try {
+        gravar(ids, transicoes);
+      } catch (DataAccessException e) {
+        log.warn(
+            "Falha ao gravar {} transições de bloqueio; nova tentativa adiante", ids.size(), e);
+        for (int i = 0; i < ids.size(); i++) {
+          pendentes.putIfAbsent(ids.get(i), transicoes.get(i));
+        }
+        return;
+      }
+    }
+  }
+
+  /** Descarta as janelas sem falhas recentes e sem bloqueio em vigor. */
+  @Scheduled(fixedDelayString = "${seguranca.login.tentativas.intervalo-limpeza-ms:60000}")
+  public void limparJanelas() {
+    long agora = System.currentTimeMillis();
+    janelas.values().removeIf(janela -> janela.expirada(agora - JANELA_MS, agora));
+  }
+
+  @PreDestroy
+  public void parar() {
+    gravarPendentes();
+  }
+
+  private void gravar(List<UUID> ids, List<Transicao> transicoes) {
+    List<Object[]> atualizacoes = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      Transicao transicao = transicoes.get(i);
+      atualizacoes.add(new Object[] {transicao.tentativas(), transicao.bloqueadoAte(), ids.get(i)});
+    }
+    int[] atualizados = jdbcTemplate.batchUpdate(SQL_ATUALIZAR, atualizacoes);
+
+    // Bloqueio de conta que ainda não tem controle gravado
+    List<Object[]> insercoes = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      Transicao transicao = transicoes.get(i);
+      if (atualizados[i] == 0 && transicao.bloqueadoAte() != null) {
+        insercoes.add(
+            new Object[] {
+              UUID.randomUUID(), ids.get(i), transicao.tentativas(), transicao.bloqueadoAte()
+            });
+      }
+    }
+    if (!insercoes.isEmpty()) {
+      jdbcTemplate.batchUpdate(SQL_INSERIR, insercoes);
+    }
+  }
+
+  private static LocalDateTime paraData(long epochMs) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+  }
+
+  /** Estado a gravar em {@code controle_acesso_usuario}. */
+  private record Transicao(int tentativas, LocalDateTime bloqueadoAte) {}
+
+  /** Instantes das últimas falhas da conta, em anel, e o fim do bloqueio (0 se nunca houve). */
+  private static final class JanelaTentativas {
+
+    private final AtomicLongArray falhas = new AtomicLongArray(MAX_TENTATIVAS);
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final AtomicLong bloqueadoAte = new AtomicLong();
+
+    /** Registra a falha e indica se as últimas falhas atingiram o limite dentro da janela. */
+    boolean registrar(long agora) {
+      falhas.set(Math.floorMod(proxima.getAndIncrement(), MAX_TENTATIVAS), agora);
+      long inicio = agora - JANELA_MS;
+      for (int i = 0; i < MAX_TENTATIVAS; i++) {
+        if (falhas.get(i) <= inicio) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /** Bloqueia se não houver bloqueio em vigor; só quem efetivamente bloqueou recebe true. */
+    boolean bloquear(long agora, long ate) {
+      long atual = bloqueadoAte.get();
+      return atual <= agora && bloqueadoAte.compareAndSet(atual, ate);
+    }
+
+    boolean bloqueadaEm(long agora) {
+      return bloqueadoAte.get() > agora;
+    }
+
+    long bloqueadoAte() {
+      return bloqueadoAte.get();
+    }
+
+    boolean expirada(long inicioJanela, long agora) {
+      if (bloqueadaEm(agora)) {
+        return false;
+      }
+      for (int i = 0; i < MAX_TENTATIVAS; i++) {
+        if (falhas.get(i) > inicioJanela) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
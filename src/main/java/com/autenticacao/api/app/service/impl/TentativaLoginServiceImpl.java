@@ -4,12 +4,12 @@ import static com.autenticacao.api.app.util.ExecutarUtil.executarComandoComTrata
 import static com.autenticacao.api.app.util.enums.MensagemSistema.*;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import com.autenticacao.api.app.domain.entity.ControleAcessoUsuario;
-import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
 import com.autenticacao.api.app.exception.ContaBloqueadaException;
 import com.autenticacao.api.app.repository.ControleAcessoUsuarioRepository;
 import com.autenticacao.api.app.service.TentativaLoginService;
@@ -20,87 +20,68 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "seguranca.login.tentativas.armazenamento",
+    havingValue = "banco",
+    matchIfMissing = true)
 public class TentativaLoginServiceImpl implements TentativaLoginService {
 
-  private static final int MAX_TENTATIVAS = 5;
-  private static final int TEMPO_BLOQUEIO_MIN = 15;
-
   private final ControleAcessoUsuarioRepository controleAcessoUsuarioRepository;
 
   /**
-   * Valida se a conta do usuário está bloqueada.
+   * Valida se a conta do usuário está bloqueada, com o controle já lido junto dos dados do login.
    *
-   * @param usuario Usuário a ser verificado
+   * @param dadosLogin Dados do login do usuário a ser verificado
    * @throws ContaBloqueadaException se a conta estiver com bloqueio ativo
    */
   @Override
-  public void validarBloqueio(Usuario usuario) {
-    ControleAcessoUsuario controle = buscarOuCriarControle(usuario);
-
-    if (controle.getBloqueadoAte() != null
-        && controle.getBloqueadoAte().isAfter(LocalDateTime.now())) {
+  public void validarBloqueio(DadosLogin dadosLogin) {
+    if (dadosLogin.bloqueado(LocalDateTime.now())) {
       throw new ContaBloqueadaException(
-          CONTA_BLOQUEADA.getChave() + " até " + controle.getBloqueadoAte());
+          CONTA_BLOQUEADA.getChave() + " até " + dadosLogin.bloqueadoAte());
     }
   }
 
   /**
-   * Registra uma tentativa de login falha. Bloqueia a conta após o limite.
+   * Registra uma tentativa de login falha. Bloqueia a conta após o limite. O incremento e o
+   * bloqueio são feitos pelo banco em um único comando, sem perder falhas simultâneas.
    *
-   * @param usuario Usuário a ser atualizado
+   * @param dadosLogin Dados do login do usuário a ser atualizado
    */
   @Override
-  public void registrarFalha(Usuario usuario) {
+  public void registrarFalha(DadosLogin dadosLogin) {
     executarComandoComTratamentoErroComMensagem(
         () -> {
-          ControleAcessoUsuario controle = buscarOuCriarControle(usuario);
-
-          int tentativas = controle.getTentativasFalhas() + 1;
-          controle.setTentativasFalhas(tentativas);
-
-          if (tentativas >= MAX_TENTATIVAS) {
-            controle.setBloqueadoAte(LocalDateTime.now().plusMinutes(TEMPO_BLOQUEIO_MIN));
+          LocalDateTime agora = LocalDateTime.now();
+          int tentativas =
+              controleAcessoUsuarioRepository.registrarFalha(
+                  UUID.randomUUID(),
+                  dadosLogin.usuarioId(),
+                  MAX_TENTATIVAS,
+                  agora.plusMinutes(TEMPO_BLOQUEIO_MIN),
+                  agora);
+
+          if (tentativas == MAX_TENTATIVAS) {
+            log.info("Conta do usuário {} bloqueada por tentativas falhas", dadosLogin.usuarioId());
           }
-
-          controleAcessoUsuarioRepository.save(controle);
           return null;
         },
         ERRO_REGISTRAR_TENTATIVA_LOGIN.getChave());
   }
 
   /**
-   * Reseta o número de tentativas falhas do usuário e remove bloqueios temporários.
+   * Reseta o número de tentativas falhas do usuário e remove bloqueios temporários. Sem tentativas
+   * falhas registradas não há o que atualizar, e o banco não é acessado.
    *
-   * @param usuario Usuário a ser atualizado
+   * @param dadosLogin Dados do login do usuário a ser atualizado
    */
   @Override
-  public void resetarTentativas(Usuario usuario) {
+  public void resetarTentativas(DadosLogin dadosLogin) {
+    if (!dadosLogin.possuiTentativasFalhas()) {
+      return;
+    }
     executarComandoComTratamentoErroComMensagem(
-        () -> {
-          ControleAcessoUsuario controle = buscarOuCriarControle(usuario);
-
-          controle.setTentativasFalhas(0);
-          controle.setBloqueadoAte(null);
-
-          controleAcessoUsuarioRepository.save(controle);
-          return null;
-        },
+        () -> controleAcessoUsuarioRepository.resetarTentativas(dadosLogin.usuarioId()),
         ERRO_RESETAR_TENTATIVAS_LOGIN.getChave());
   }
-
-  /** Busca o ControleAcessoUsuario associado ao usuário ou cria um novo se não existir. */
-  private ControleAcessoUsuario buscarOuCriarControle(Usuario usuario) {
-    Optional<ControleAcessoUsuario> controleOpt =
-        controleAcessoUsuarioRepository.findByUsuario(usuario);
-
-    if (controleOpt.isPresent()) {
-      return controleOpt.get();
-    } else {
-      ControleAcessoUsuario novoControle = new ControleAcessoUsuario();
-      novoControle.setUsuario(usuario);
-      novoControle.setTentativasFalhas(0);
-      novoControle.setBloqueadoAte(null);
-      return controleAcessoUsuarioRepository.save(novoControle);
-    }
-  }
 }
@@ -26,6 +26,7 @@ import com.autenticacao.api.app.util.ValidatorUsuarioUtil;
 import com.autenticacao.api.app.util.enums.MensagemSistema;
 import com.autenticacao.api.app.util.enums.UserRole;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -63,6 +64,13 @@ public class UsuarioServiceImpl implements UsuarioService {
         ERRO_AO_BUSCAR_USUARIO.getChave());
   }
 
+  @Override
+  public Optional<UsuarioResumoResponse> buscarResumoPorId(UUID id) {
+    return executarComandoComTratamentoErroComMensagem(
+        () -> usuarioRepository.findById(id).map(usuarioMapper::toResumo),
+        ERRO_AO_BUSCAR_USUARIO.getChave());
+  }
+
   /**
    * Cria um usuário a partir dos dados fornecidos. Valida a existência prévia e dados do usuário.
    *
@@ -89,6 +97,7 @@ public class UsuarioServiceImpl implements UsuarioService {
    * @throws ValidacaoNotFoundException se usuário não existir.
    */
   @Override
+  @Transactional
   public UsuarioDetalhadoResponse atualizarUsuario(UUID id, AtualizarUsuarioRequest request) {
     return executarComandoComTratamentoErroComMensagem(
         () -> processarAtualizacaoUsuario(id, request), ERRO_AO_ATUALIZAR_DADOS_USUARIO.getChave());
@@ -16,7 +16,8 @@ public class ExecutarUtil {
     } catch (ValidacaoException
         | ValidacaoNotFoundException
         | RefreshTokenInvalidoException
-        | SenhaExpiradaException ex) {
+        | SenhaExpiradaException
+        | ServicoSobrecarregadoException ex) {
       throw ex; // relança diretamente, sem envolvimento
     } catch (Exception e) {
       log.error(e.getMessage(), e);
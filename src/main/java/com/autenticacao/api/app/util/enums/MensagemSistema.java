@@ -53,6 +53,17 @@ public enum MensagemSistema {
   EMAIL_OU_SENHA_INVALIDOS(-44, "email.ou.senha.invalidos"),
   SENHA_ATUAL_INCORRETA(-45, "senha.atual.incorreta"),
   ACESSO_NEGADO(-46, "acesso.negado"),
+  ERRO_GERAR_CHAVE_ASSINATURA(-47, "erro.gerar.chave.assinatura"),
+  ERRO_CARREGAR_CHAVE_ASSINATURA(-48, "erro.carregar.chave.assinatura"),
+  INTROSPECCAO_LOTE_EXCEDE_LIMITE(-49, "introspeccao.lote.excede.limite"),
+  SERVICO_SOBRECARREGADO(-50, "servico.sobrecarregado"),
+  ERRO_VERIFICAR_SENHA(-51, "erro.verificar.senha"),
+  ALGORITMO_SENHA_DESCONHECIDO(-52, "algoritmo.senha.desconhecido"),
+  MUITAS_REQUISICOES(-53, "muitas.requisicoes"),
+  ERRO_LISTAR_SESSOES(-54, "erro.listar.sessoes"),
+  CORPO_REQUISICAO_MUITO_GRANDE(-55, "corpo.requisicao.muito.grande"),
+  CORPO_REQUISICAO_INVALIDO(-56, "corpo.requisicao.invalido"),
+  CHAVE_CIFRAGEM_ASSINATURA_INVALIDA(-57, "chave.cifragem.assinatura.invalida"),
   ERRO_INSPERADO(-998, "erro.inesperado"),
   NAO_IDENTIFICADO(-999, "erro.nao.identificado");
   private final int codigo;
@@ -0,0 +1,13 @@
+-- Chaves ES256 usadas para assinar os tokens de acesso (publicadas em /.well-known/jwks.json)
+CREATE TABLE IF NOT EXISTS autenticacao.chave_assinatura (
+    kid               VARCHAR(64)              NOT NULL PRIMARY KEY,
+    algoritmo         VARCHAR(16)              NOT NULL,
+    chave_publica     BYTEA                    NOT NULL,
+    chave_privada     BYTEA                    NOT NULL,
+    data_hora_criacao TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    ativa_desde       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expira_em         TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_chave_assinatura_expira_em
+    ON autenticacao.chave_assinatura (expira_em);
@@ -0,0 +1,3 @@
+-- Versão dos tokens de acesso do usuário (claim ver); incrementá-la revoga todas as sessões
+ALTER TABLE autenticacao.autenticacoes
+    ADD COLUMN IF NOT EXISTS versao_token BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Um único controle de acesso por usuário, exigido pelo INSERT ... ON CONFLICT (usuario_id)
+-- que registra as tentativas falhas. De eventuais duplicados, mantém apenas um.
+DELETE FROM autenticacao.controle_acesso_usuario c
+    USING autenticacao.controle_acesso_usuario d
+    WHERE c.usuario_id = d.usuario_id
+      AND c.ctid < d.ctid;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_controle_acesso_usuario_usuario_id
+    ON autenticacao.controle_acesso_usuario (usuario_id);
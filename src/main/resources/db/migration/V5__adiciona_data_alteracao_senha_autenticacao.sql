@@ -0,0 +1,15 @@
+-- Momento da última troca de senha, mantido na própria credencial para que o login verifique a
+-- expiração sem consultar o histórico. Preenchido com o evento de senha mais recente registrado:
+-- criação da autenticação, alteração de senha ou atualização de dados que trocou a senha.
+ALTER TABLE autenticacao.autenticacoes
+    ADD COLUMN IF NOT EXISTS data_hora_alteracao_senha TIMESTAMP;
+
+UPDATE autenticacao.autenticacoes a
+SET data_hora_alteracao_senha = h.ultima_alteracao
+FROM (SELECT autenticacao_id, MAX(data_hora_atualizacao) AS ultima_alteracao
+      FROM autenticacao.historico_autenticacoes
+      WHERE tipo_alteracao IN ('CRIACAO', 'ATUALIZACAO_SENHA')
+         OR (tipo_alteracao = 'ATUALIZACAO_DADOS' AND campos_alterados LIKE '%Campo ''senha''%')
+      GROUP BY autenticacao_id) h
+WHERE h.autenticacao_id = a.id
+  AND a.data_hora_alteracao_senha IS NULL;
@@ -0,0 +1,18 @@
+-- Refresh tokens passam a ser guardados pelo SHA-256 (32 bytes), e não mais pelo valor em si:
+-- a chave do índice único fica com tamanho fixo e um dump do banco não expõe tokens válidos.
+-- Os tokens existentes continuam válidos, pois o hash é calculado sobre o mesmo valor.
+ALTER TABLE autenticacao.refresh_token
+    ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+UPDATE autenticacao.refresh_token
+SET token_hash = sha256(convert_to(token, 'UTF8'))
+WHERE token_hash IS NULL;
+
+ALTER TABLE autenticacao.refresh_token
+    ALTER COLUMN token_hash SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_token_token_hash
+    ON autenticacao.refresh_token (token_hash);
+
+ALTER TABLE autenticacao.refresh_token
+    DROP COLUMN IF EXISTS token;
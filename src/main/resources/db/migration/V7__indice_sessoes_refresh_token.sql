@@ -0,0 +1,4 @@
+-- Índice das sessões de cada usuário: sustenta a remoção das sessões excedentes a cada login,
+-- a listagem das sessões ativas e a remoção de todos os tokens do usuário.
+CREATE INDEX IF NOT EXISTS idx_refresh_token_usuario_expiry_date
+    ON autenticacao.refresh_token (usuario, expiry_date);
@@ -0,0 +1,6 @@
+-- As chaves privadas de assinatura passam a ser gravadas cifradas com AES-GCM pela chave de
+-- cifragem da aplicação, que o banco não conhece; por isso as chaves gravadas em claro não podem
+-- ser convertidas aqui e são removidas. A aplicação cria uma nova chave, já cifrada, ao subir.
+-- Tokens de acesso assinados com as chaves removidas deixam de ser aceitos e são renovados pelo
+-- refresh token, que não depende delas.
+DELETE FROM autenticacao.chave_assinatura;
@@ -0,0 +1,135 @@
+package com.autenticacao.api.benchmark;
+
+import static org.apache.naming.ResourceRef.AUTH;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.management.ManagementFactory;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.autenticacao.api.app.config.security.chave.ChaveCarregada;
+import com.autenticacao.api.app.config.security.chave.CifradorChavePrivada;
+import com.autenticacao.api.app.config.security.chave.GerenciadorChavesAssinatura;
+import com.autenticacao.api.app.config.security.jwt.CodecTokenAcesso;
+import com.autenticacao.api.app.domain.entity.ChaveAssinatura;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.repository.ChaveAssinaturaRepository;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Mede tempo e bytes alocados por verificação de ‘token’ de acesso, comparando o {@link
+ * CodecTokenAcesso} com o verificador genérico da Auth0. Executado apenas por {@code ./gradlew
+ * benchmark}.
+ */
+@Tag("benchmark")
+class CodecTokenAcessoBenchmarkTest {
+
+  private static final int AQUECIMENTO = 20_000;
+  private static final int ITERACOES = 50_000;
+  private static final CifradorChavePrivada CIFRADOR =
+      new CifradorChavePrivada(Base64.getEncoder().encodeToString(new byte[32]));
+
+  @Test
+  @DisplayName("Compara custo por verificação entre o codec dedicado e o verificador Auth0")
+  void compararVerificacao() throws Exception {
+    GerenciadorChavesAssinatura gerenciador = criarGerenciador();
+    CodecTokenAcesso codec = new CodecTokenAcesso(gerenciador);
+    ChaveCarregada chave = gerenciador.chaveAssinatura();
+    JWTVerifier verificadorAuth0 =
+        JWT.require(Algorithm.ECDSA256(chave.chavePublica(), null)).withIssuer(AUTH).build();
+
+    Usuario usuario =
+        Usuario.builder()
+            .id(UUID.randomUUID())
+            .email("usuario@email.com")
+            .role(UserRole.USER)
+            .ativo(true)
+            .build();
+    String token = codec.emitir(usuario, Instant.now().plusSeconds(3600));
+
+    Resultado resultadoCodec = medir(t -> codec.verificar(t).isPresent(), token);
+    Resultado resultadoAuth0 =
+        medir(t -> verificadorAuth0.verify(t).getClaim("uid").asString() != null, token);
+
+    System.out.printf("codec dedicado: %s%n", resultadoCodec);
+    System.out.printf("auth0 java-jwt: %s%n", resultadoAuth0);
+    assertTrue(resultadoCodec.bytesPorOperacao() < resultadoAuth0.bytesPorOperacao());
+  }
+
+  private Resultado medir(Predicate<String> verificacao, String token) {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+
+    for (int i = 0; i < AQUECIMENTO; i++) {
+      assertTrue(verificacao.test(token));
+    }
+
+    long bytesAntes = threads.getThreadAllocatedBytes(threadId);
+    long inicio = System.nanoTime();
+    for (int i = 0; i < ITERACOES; i++) {
+      assertTrue(verificacao.test(token));
+    }
+    long nanos = System.nanoTime() - inicio;
+    long bytes = threads.getThreadAllocatedBytes(threadId) - bytesAntes;
+
+    return new Resultado(nanos / ITERACOES, bytes / ITERACOES);
+  }
+
+  private GerenciadorChavesAssinatura criarGerenciador() throws Exception {
+    KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+    gerador.initialize(new ECGenParameterSpec("secp256r1"));
+    var par = gerador.generateKeyPair();
+    Instant ativaDesde = Instant.now().minus(Duration.ofHours(1));
+    String kid = UUID.randomUUID().toString();
+
+    ChaveAssinaturaRepository repository = mock(ChaveAssinaturaRepository.class);
+    when(repository.findByExpiraEmAfterOrderByAtivaDesdeDesc(any()))
+        .thenReturn(
+            List.of(
+                ChaveAssinatura.builder()
+                    .kid(kid)
+                    .algoritmo(GerenciadorChavesAssinatura.ALGORITMO_ES256)
+                    .chavePublica(par.getPublic().getEncoded())
+                    .chavePrivada(CIFRADOR.cifrar(kid, par.getPrivate().getEncoded()))
+                    .dataHoraCriacao(ativaDesde)
+                    .ativaDesde(ativaDesde)
+                    .expiraEm(ativaDesde.plus(Duration.ofDays(8)))
+                    .build()));
+
+    GerenciadorChavesAssinatura gerenciador =
+        new GerenciadorChavesAssinatura(
+            repository,
+            CIFRADOR,
+            TransactionOperations.withoutTransaction(),
+            Duration.ofDays(7),
+            Duration.ofMinutes(10),
+            Duration.ofDays(1),
+            Clock.systemUTC());
+    gerenciador.rotacionar();
+    return gerenciador;
+  }
+
+  private record Resultado(long nanosPorOperacao, long bytesPorOperacao) {
+    @Override
+    public String toString() {
+      return nanosPorOperacao + " ns/op, " + bytesPorOperacao + " B/op";
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.autenticacao.api.benchmark;
+
+import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.autenticacao.api.app.config.security.socket.ProtocoloIntrospeccaoSocket;
+import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoRequest;
+import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.autenticacao.api.config.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara a vazão da introspecção pelo socket Unix com a do endpoint HTTP, ambos sobre a aplicação
+ * completa e o mesmo ‘token’. Executado apenas por {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "seguranca.introspeccao.socket.habilitado=true")
+class IntrospeccaoSocketBenchmarkTest extends BaseTest {
+
+  private static final int AQUECIMENTO = 5_000;
+  private static final int ITERACOES = 20_000;
+  private static final String SENHA = "senhaForte123@";
+  private static final Path SOCKET =
+      Path.of(System.getProperty("java.io.tmpdir"), "introspeccao-" + UUID.randomUUID() + ".sock");
+
+  @LocalServerPort private int porta;
+  @Autowired private ObjectMapper objectMapper;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @DynamicPropertySource
+  static void configurarSocket(DynamicPropertyRegistry registry) {
+    registry.add("seguranca.introspeccao.socket.caminho", SOCKET::toString);
+  }
+
+  @Test
+  @DisplayName("Compara vazão da introspecção entre socket Unix e HTTP")
+  void compararVazao() throws Exception {
+    String token = obterToken();
+    String corpo = objectMapper.writeValueAsString(new IntrospeccaoRequest(token));
+    HttpRequest requisicao =
+        HttpRequest.newBuilder(uri(API_AUTENTICAR + INTROSPECCAO))
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + token)
+            .POST(HttpRequest.BodyPublishers.ofString(corpo))
+            .build();
+
+    long porSegundoHttp =
+        medir(
+            () -> {
+              String resposta =
+                  httpClient.send(requisicao, HttpResponse.BodyHandlers.ofString()).body();
+              return objectMapper.readValue(resposta, IntrospeccaoResponse.class).active();
+            });
+
+    long porSegundoSocket;
+    try (SocketChannel canal = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+      canal.connect(UnixDomainSocketAddress.of(SOCKET));
+      porSegundoSocket =
+          medir(
+              () -> {
+                ProtocoloIntrospeccaoSocket.escreverRequisicao(canal, token);
+                return ProtocoloIntrospeccaoSocket.lerResposta(canal).active();
+              });
+    }
+
+    System.out.printf("http:        %d introspecções/s%n", porSegundoHttp);
+    System.out.printf("socket unix: %d introspecções/s%n", porSegundoSocket);
+    assertTrue(porSegundoSocket > porSegundoHttp);
+  }
+
+  private long medir(Introspeccao introspeccao) throws Exception {
+    for (int i = 0; i < AQUECIMENTO; i++) {
+      assertTrue(introspeccao.executar());
+    }
+    long inicio = System.nanoTime();
+    for (int i = 0; i < ITERACOES; i++) {
+      assertTrue(introspeccao.executar());
+    }
+    return ITERACOES * 1_000_000_000L / (System.nanoTime() - inicio);
+  }
+
+  private String obterToken() throws Exception {
+    String email = "benchmark." + UUID.randomUUID().toString().substring(0, 8) + "@email.com";
+    enviar(
+        API_USUARIOS + CRIAR_ADMIN,
+        new CadastroUsuarioRequest(
+            "bench",
+            "mark",
+            email,
+            SENHA,
+            "82993834599",
+            LocalDate.of(1990, 6, 15),
+            true,
+            UserRole.ADMIN));
+    String login = enviar(API_AUTENTICAR + LOGIN, new LoginUsuarioRequestDTO(email, SENHA));
+    return objectMapper.readValue(login, LoginResponseDTO.class).token();
+  }
+
+  private String enviar(String rota, Object corpo) throws Exception {
+    HttpRequest requisicao =
+        HttpRequest.newBuilder(uri(rota))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(corpo)))
+            .build();
+    return httpClient.send(requisicao, HttpResponse.BodyHandlers.ofString()).body();
+  }
+
+  private URI uri(String rota) {
+    return URI.create("http://localhost:" + porta + rota);
+  }
+
+  @FunctionalInterface
+  private interface Introspeccao {
+    boolean executar() throws Exception;
+  }
+}
@@ -32,5 +32,7 @@ public abstract class BaseTest {
     registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
     registry.add("spring.flyway.enabled", () -> false);
     registry.add("spring.liquibase.enabled", () -> false);
+    registry.add(
+        "seguranca.chaves.chave-cifragem", () -> "AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8=");
   }
 }
@@ -0,0 +1,192 @@
+package com.autenticacao.api.integracao.controller;
+
+import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoLoteRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoRequest;
+import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
+import com.autenticacao.api.app.domain.DTO.request.RevogacaoSessoesRequest;
+import com.autenticacao.api.app.service.AutenticacaoService;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.autenticacao.api.config.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+class AutenticacaoControllerIntegrationTest extends BaseTest {
+
+  private static final String SENHA = "senhaForte123@";
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private DataSource dataSource;
+  @Autowired private AutenticacaoService autenticacaoService;
+
+  @MockitoSpyBean private PasswordEncoder passwordEncoder;
+
+  @Test
+  @DisplayName("login não deve manter conexão do pool durante a verificação da senha")
+  void loginNaoDeveManterConexaoDuranteHash() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "ana",
+            "souza",
+            "ana.souza@email.com",
+            SENHA,
+            "82993834510",
+            LocalDate.of(1990, 6, 15),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+
+    HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    AtomicInteger ativasDuranteHash = new AtomicInteger(-1);
+    doAnswer(
+            invocacao -> {
+              ativasDuranteHash.set(pool.getActiveConnections());
+              return invocacao.callRealMethod();
+            })
+        .when(passwordEncoder)
+        .matches(any(), any());
+
+    mockMvc.perform(
+        post(API_AUTENTICAR + LOGIN)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(
+                objectMapper.writeValueAsString(
+                    new LoginUsuarioRequestDTO(cadastro.email(), SENHA))));
+
+    assertThat(ativasDuranteHash.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("revogação de sessões em lote deve ser recusada com 403 para quem não é ADMIN")
+  void revogacaoEmLoteDeveExigirAdmin() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "bruno",
+            "alves",
+            "bruno.alves@email.com",
+            SENHA,
+            "82993834511",
+            LocalDate.of(1991, 3, 9),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    String token =
+        autenticacaoService.login(new LoginUsuarioRequestDTO(cadastro.email(), SENHA)).token();
+
+    mockMvc
+        .perform(
+            post(API_AUTENTICAR + REVOGAR_SESSOES)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new RevogacaoSessoesRequest(List.of(UUID.randomUUID())))))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @DisplayName("introspecção deve ser recusada com 403 para token de usuário comum")
+  void introspeccaoDeveExigirAdmin() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "carla",
+            "mendes",
+            "carla.mendes@email.com",
+            SENHA,
+            "82993834522",
+            LocalDate.of(1993, 7, 14),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    String token =
+        autenticacaoService.login(new LoginUsuarioRequestDTO(cadastro.email(), SENHA)).token();
+
+    mockMvc
+        .perform(
+            post(API_AUTENTICAR + INTROSPECCAO)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new IntrospeccaoRequest(token))))
+        .andExpect(status().isForbidden());
+    mockMvc
+        .perform(
+            post(API_AUTENTICAR + INTROSPECCAO_LOTE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new IntrospeccaoLoteRequest(List.of(token)))))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @DisplayName("introspecção deve ser permitida para token de ADMIN")
+  void introspeccaoDevePermitirAdmin() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "diego",
+            "rocha",
+            "diego.rocha@email.com",
+            SENHA,
+            "82993834533",
+            LocalDate.of(1987, 11, 2),
+            true,
+            UserRole.ADMIN);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR_ADMIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    String token =
+        autenticacaoService.login(new LoginUsuarioRequestDTO(cadastro.email(), SENHA)).token();
+
+    mockMvc
+        .perform(
+            post(API_AUTENTICAR + INTROSPECCAO)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new IntrospeccaoRequest(token))))
+        .andExpect(status().isOk());
+  }
+}
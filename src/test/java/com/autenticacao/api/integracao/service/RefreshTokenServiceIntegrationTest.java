@@ -0,0 +1,237 @@
+package com.autenticacao.api.integracao.service;
+
+import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.autenticacao.api.app.domain.DTO.RefreshTokenRotacionado;
+import com.autenticacao.api.app.domain.DTO.request.AlterarSenhaRequest;
+import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
+import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
+import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.repository.RefreshTokenRepository;
+import com.autenticacao.api.app.repository.UsuarioRepository;
+import com.autenticacao.api.app.service.AutenticacaoCadastroService;
+import com.autenticacao.api.app.service.AutenticacaoService;
+import com.autenticacao.api.app.service.RefreshTokenService;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.autenticacao.api.config.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RefreshTokenServiceIntegrationTest extends BaseTest {
+
+  private static final int CONCORRENTES = 8;
+  private static final int MAX_SESSOES = 10;
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private AutenticacaoService autenticacaoService;
+  @Autowired private AutenticacaoCadastroService autenticacaoCadastroService;
+  @Autowired private RefreshTokenService refreshTokenService;
+  @Autowired private RefreshTokenRepository refreshTokenRepository;
+  @Autowired private UsuarioRepository usuarioRepository;
+
+  @Test
+  @DisplayName("Rotações simultâneas do mesmo refresh token devem ter um único vencedor")
+  void rotacoesSimultaneasDevemTerUmUnicoVencedor() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "carla",
+            "nunes",
+            "carla.nunes@email.com",
+            "senhaForte123@",
+            "82997654321",
+            LocalDate.of(1992, 11, 8),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    String refreshToken =
+        autenticacaoService
+            .login(new LoginUsuarioRequestDTO(cadastro.email(), cadastro.senha()))
+            .refreshToken();
+
+    ExecutorService executor = Executors.newFixedThreadPool(CONCORRENTES);
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Future<Optional<RefreshTokenRotacionado>>> rotacoes = new ArrayList<>();
+    try {
+      for (int i = 0; i < CONCORRENTES; i++) {
+        rotacoes.add(
+            executor.submit(
+                () -> {
+                  largada.await();
+                  return refreshTokenService.rotacionar(refreshToken);
+                }));
+      }
+      largada.countDown();
+      List<RefreshTokenRotacionado> vencedores = new ArrayList<>();
+      for (Future<Optional<RefreshTokenRotacionado>> rotacao : rotacoes) {
+        rotacao.get().ifPresent(vencedores::add);
+      }
+
+      assertThat(vencedores).hasSize(1);
+      RefreshTokenRotacionado vencedor = vencedores.get(0);
+      assertThat(vencedor.refreshToken()).isNotEqualTo(refreshToken);
+      assertThat(vencedor.usuario().getEmail()).isEqualTo(cadastro.email());
+      assertThat(vencedor.usuario().getRole()).isEqualTo(UserRole.USER);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(refreshTokenService.rotacionar(refreshToken)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Deve manter apenas as sessões mais recentes ao passar do limite por usuário")
+  void deveEncerrarSessoesMaisAntigasAoPassarDoLimite() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "davi",
+            "rocha",
+            "davi.rocha@email.com",
+            "senhaForte123@",
+            "82996543210",
+            LocalDate.of(1985, 4, 20),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    Usuario usuario = usuarioRepository.findByEmail(cadastro.email()).orElseThrow();
+
+    List<String> tokens = new ArrayList<>();
+    for (int i = 0; i < MAX_SESSOES + 2; i++) {
+      tokens.add(refreshTokenService.createRefreshToken(usuario));
+    }
+
+    assertThat(refreshTokenRepository.buscarSessoes(usuario.getId(), LocalDateTime.now()))
+        .hasSize(MAX_SESSOES);
+    assertThat(refreshTokenService.rotacionar(tokens.get(0))).isEmpty();
+    assertThat(refreshTokenService.rotacionar(tokens.get(tokens.size() - 1))).isPresent();
+  }
+
+  @Test
+  @DisplayName("Refresh token emitido antes da troca de senha não deve mais ser rotacionado")
+  void refreshTokenNaoDeveSobreviverATrocaDeSenha() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "elisa",
+            "prado",
+            "elisa.prado@email.com",
+            "senhaForte123@",
+            "82995432109",
+            LocalDate.of(1995, 2, 3),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    LoginResponseDTO login =
+        autenticacaoService.login(new LoginUsuarioRequestDTO(cadastro.email(), cadastro.senha()));
+
+    mockMvc
+        .perform(
+            put(API_AUTENTICAR + ALTERAR_SENHA)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + login.token())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new AlterarSenhaRequest(cadastro.senha(), "outraSenha456#"))))
+        .andExpect(status().is2xxSuccessful());
+
+    assertThat(refreshTokenService.rotacionar(login.refreshToken())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Refresh token de usuário desativado não deve mais ser rotacionado")
+  void refreshTokenNaoDeveSobreviverADesativacao() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "fabio",
+            "lima",
+            "fabio.lima@email.com",
+            "senhaForte123@",
+            "82994321098",
+            LocalDate.of(1988, 9, 12),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    String refreshToken =
+        autenticacaoService
+            .login(new LoginUsuarioRequestDTO(cadastro.email(), cadastro.senha()))
+            .refreshToken();
+    Usuario usuario = usuarioRepository.findByEmail(cadastro.email()).orElseThrow();
+
+    autenticacaoCadastroService.desativar(usuario.getId());
+
+    assertThat(refreshTokenService.rotacionar(refreshToken)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Refresh token ainda gravado não deve ser rotacionado com o usuário inativo")
+  void refreshTokenNaoDeveSerRotacionadoComUsuarioInativo() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "gabriela",
+            "souza",
+            "gabriela.souza@email.com",
+            "senhaForte123@",
+            "82993210987",
+            LocalDate.of(1991, 4, 22),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    String refreshToken =
+        autenticacaoService
+            .login(new LoginUsuarioRequestDTO(cadastro.email(), cadastro.senha()))
+            .refreshToken();
+    Usuario usuario = usuarioRepository.findByEmail(cadastro.email()).orElseThrow();
+
+    usuario.setAtivo(false);
+    usuarioRepository.saveAndFlush(usuario);
+
+    assertThat(refreshTokenRepository.buscarSessoes(usuario.getId(), LocalDateTime.now()))
+        .isNotEmpty();
+    assertThat(refreshTokenService.rotacionar(refreshToken)).isEmpty();
+  }
+}
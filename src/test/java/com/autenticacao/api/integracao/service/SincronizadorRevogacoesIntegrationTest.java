@@ -0,0 +1,52 @@
+package com.autenticacao.api.integracao.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.autenticacao.api.app.config.security.revogacao.RegistroRevogacoes;
+import com.autenticacao.api.app.config.security.revogacao.SincronizadorRevogacoes;
+import com.autenticacao.api.config.BaseTest;
+
+class SincronizadorRevogacoesIntegrationTest extends BaseTest {
+
+  @Autowired private SincronizadorRevogacoes sincronizadorRevogacoes;
+  @Autowired private RegistroRevogacoes registroRevogacoes;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @Test
+  @DisplayName("A conexão de escuta deve ser própria, fora do pool da aplicação")
+  void conexaoDeEscutaDeveFicarForaDoPool() {
+    Integer ouvintes =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_stat_activity WHERE application_name = ?",
+            Integer.class,
+            "revogacao-token-ouvinte");
+
+    assertThat(ouvintes).isPositive();
+  }
+
+  @Test
+  @DisplayName("Revogação anunciada por outra instância deve chegar pelo canal de escuta")
+  void revogacaoAnunciadaDeveChegarPeloCanal() throws InterruptedException {
+    String jti = UUID.randomUUID().toString();
+
+    transactionTemplate.executeWithoutResult(
+        status ->
+            sincronizadorRevogacoes.publicarRevogacao(jti, Instant.now().plusSeconds(600)));
+
+    long limite = System.nanoTime() + 5_000_000_000L;
+    while (!registroRevogacoes.estaRevogado(jti) && System.nanoTime() < limite) {
+      Thread.sleep(20);
+    }
+    assertThat(registroRevogacoes.estaRevogado(jti)).isTrue();
+  }
+}
@@ -0,0 +1,127 @@
+package com.autenticacao.api.integracao.service;
+
+import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
+import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
+import com.autenticacao.api.app.repository.ControleAcessoUsuarioRepository;
+import com.autenticacao.api.app.repository.UsuarioRepository;
+import com.autenticacao.api.app.service.TentativaLoginService;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.autenticacao.api.config.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TentativaLoginServiceIntegrationTest extends BaseTest {
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private UsuarioRepository usuarioRepository;
+  @Autowired private ControleAcessoUsuarioRepository controleAcessoUsuarioRepository;
+  @Autowired private TentativaLoginService tentativaLoginService;
+
+  @Test
+  @DisplayName("Cinco falhas simultâneas devem bloquear a conta, sem perder incrementos")
+  void cincoFalhasSimultaneasDevemBloquearConta() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "bruno",
+            "lima",
+            "bruno.lima@email.com",
+            "senhaForte123@",
+            "82991234567",
+            LocalDate.of(1988, 3, 2),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    DadosLogin dadosLogin = usuarioRepository.buscarDadosLogin(cadastro.email()).orElseThrow();
+
+    ExecutorService executor = Executors.newFixedThreadPool(TentativaLoginService.MAX_TENTATIVAS);
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Future<?>> falhas = new ArrayList<>();
+    try {
+      for (int i = 0; i < TentativaLoginService.MAX_TENTATIVAS; i++) {
+        falhas.add(
+            executor.submit(
+                () -> {
+                  largada.await();
+                  tentativaLoginService.registrarFalha(dadosLogin);
+                  return null;
+                }));
+      }
+      largada.countDown();
+      for (Future<?> falha : falhas) {
+        falha.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    DadosLogin depois = usuarioRepository.buscarDadosLogin(cadastro.email()).orElseThrow();
+    assertThat(depois.tentativasFalhas()).isEqualTo(TentativaLoginService.MAX_TENTATIVAS);
+    assertThat(depois.bloqueado(LocalDateTime.now())).isTrue();
+  }
+
+  @Test
+  @DisplayName("Falha após o fim do bloqueio deve recomeçar a contagem, sem bloquear de novo")
+  void falhaAposFimDoBloqueioDeveRecomecarContagem() throws Exception {
+    var cadastro =
+        new CadastroUsuarioRequest(
+            "clara",
+            "mota",
+            "clara.mota@email.com",
+            "senhaForte123@",
+            "82992345678",
+            LocalDate.of(1993, 7, 21),
+            true,
+            UserRole.USER);
+    mockMvc
+        .perform(
+            post(API_USUARIOS + CRIAR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cadastro)))
+        .andExpect(status().isCreated());
+    DadosLogin dadosLogin = usuarioRepository.buscarDadosLogin(cadastro.email()).orElseThrow();
+    for (int i = 0; i < TentativaLoginService.MAX_TENTATIVAS; i++) {
+      tentativaLoginService.registrarFalha(dadosLogin);
+    }
+
+    LocalDateTime aposBloqueio =
+        LocalDateTime.now().plusMinutes(TentativaLoginService.TEMPO_BLOQUEIO_MIN + 1);
+    int tentativas =
+        controleAcessoUsuarioRepository.registrarFalha(
+            UUID.randomUUID(),
+            dadosLogin.usuarioId(),
+            TentativaLoginService.MAX_TENTATIVAS,
+            aposBloqueio.plusMinutes(TentativaLoginService.TEMPO_BLOQUEIO_MIN),
+            aposBloqueio);
+
+    assertThat(tentativas).isEqualTo(1);
+    DadosLogin depois = usuarioRepository.buscarDadosLogin(cadastro.email()).orElseThrow();
+    assertThat(depois.tentativasFalhas()).isEqualTo(1);
+    assertThat(depois.bloqueado(aposBloqueio)).isFalse();
+  }
+}
@@ -3,7 +3,11 @@ package com.autenticacao.api.unitarios.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,13 +19,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import com.autenticacao.api.app.config.security.TokenService;
+import com.autenticacao.api.app.config.security.cache.RotacaoRefreshTokenCache;
+import com.autenticacao.api.app.domain.DTO.RefreshTokenRotacionado;
 import com.autenticacao.api.app.domain.DTO.request.AlterarSenhaRequest;
+import com.autenticacao.api.app.domain.DTO.request.IntrospeccaoRequest;
 import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
 import com.autenticacao.api.app.domain.DTO.request.RefreshTokenRequestDTO;
+import com.autenticacao.api.app.domain.DTO.request.RevogacaoSessoesRequest;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
 import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
+import com.autenticacao.api.app.domain.DTO.response.RevogacaoSessoesResponse;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.endpoint.controller.AutenticacaoController;
 import com.autenticacao.api.app.service.AutenticacaoService;
+import com.autenticacao.api.app.service.IntrospeccaoService;
 import com.autenticacao.api.app.service.RefreshTokenService;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,8 +43,12 @@ class AutenticacaoControllerTest {
 
   @Mock private RefreshTokenService refreshTokenService;
 
+  @Mock private RotacaoRefreshTokenCache rotacaoRefreshTokenCache;
+
   @Mock private TokenService tokenService;
 
+  @Mock private IntrospeccaoService introspeccaoService;
+
   @InjectMocks private AutenticacaoController autenticacaoController;
 
   private LoginUsuarioRequestDTO loginRequest;
@@ -48,6 +64,13 @@ class AutenticacaoControllerTest {
     refreshRequest = new RefreshTokenRequestDTO("refresh-token-antigo");
     usuario = Usuario.builder().id(UUID.randomUUID()).email("email@email.com").build();
     alterarSenhaRequest = new AlterarSenhaRequest("senha-antiga", "nova-senha");
+    lenient()
+        .when(rotacaoRefreshTokenCache.rotacionar(anyString(), any()))
+        .thenAnswer(
+            invocacao ->
+                invocacao
+                    .<Function<String, Optional<LoginResponseDTO>>>getArgument(1)
+                    .apply(invocacao.getArgument(0)));
   }
 
   @Test
@@ -65,7 +88,8 @@ class AutenticacaoControllerTest {
   @Test
   @DisplayName("Deve retornar 401 se refresh token for inválido")
   void deveRetornarUnauthorizedSeRefreshTokenInvalido() {
-    when(refreshTokenService.isValid(refreshRequest.refreshToken())).thenReturn(false);
+    when(refreshTokenService.rotacionar(refreshRequest.refreshToken()))
+        .thenReturn(Optional.empty());
 
     ResponseEntity<LoginResponseDTO> response = autenticacaoController.refreshToken(refreshRequest);
 
@@ -79,10 +103,8 @@ class AutenticacaoControllerTest {
     String novoRefreshToken = "novo-refresh-token";
     String novoAccessToken = "novo-access-token";
 
-    when(refreshTokenService.isValid(refreshRequest.refreshToken())).thenReturn(true);
-    when(refreshTokenService.rotateRefreshToken(refreshRequest.refreshToken()))
-        .thenReturn(novoRefreshToken);
-    when(refreshTokenService.getUsuario(novoRefreshToken)).thenReturn(usuario);
+    when(refreshTokenService.rotacionar(refreshRequest.refreshToken()))
+        .thenReturn(Optional.of(new RefreshTokenRotacionado(novoRefreshToken, usuario)));
     when(tokenService.generateToken(usuario)).thenReturn(novoAccessToken);
 
     ResponseEntity<LoginResponseDTO> response = autenticacaoController.refreshToken(refreshRequest);
@@ -115,4 +137,54 @@ class AutenticacaoControllerTest {
     assertThat(response.getStatusCodeValue()).isEqualTo(204);
     verify(refreshTokenService).deleteByToken(token);
   }
+
+  @Test
+  @DisplayName("Deve encerrar a sessão repassando o token de acesso sem o prefixo Bearer")
+  void deveRealizarLogoutComSucesso() {
+    ResponseEntity<Void> response =
+        autenticacaoController.logout("Bearer access-token", refreshRequest);
+
+    assertThat(response.getStatusCodeValue()).isEqualTo(204);
+    verify(autenticacaoService).logout("access-token", refreshRequest.refreshToken());
+  }
+
+  @Test
+  @DisplayName("Deve retornar o resultado da introspecção do token")
+  void deveIntrospectarToken() {
+    IntrospeccaoResponse introspeccao =
+        new IntrospeccaoResponse(true, "email@email.com", usuario.getId(), "USER", 1L);
+    when(introspeccaoService.introspectar("access-token")).thenReturn(introspeccao);
+
+    ResponseEntity<IntrospeccaoResponse> response =
+        autenticacaoController.introspectar(new IntrospeccaoRequest("access-token"));
+
+    assertThat(response.getStatusCodeValue()).isEqualTo(200);
+    assertThat(response.getBody()).isEqualTo(introspeccao);
+  }
+
+  @Test
+  @DisplayName("Deve listar as sessões ativas do usuário autenticado")
+  void deveListarSessoes() {
+    List<SessaoResponse> sessoes =
+        List.of(new SessaoResponse(1L, LocalDateTime.now().plusDays(7), 0));
+    when(refreshTokenService.listarSessoes()).thenReturn(sessoes);
+
+    ResponseEntity<List<SessaoResponse>> response = autenticacaoController.listarSessoes();
+
+    assertThat(response.getStatusCodeValue()).isEqualTo(200);
+    assertThat(response.getBody()).isEqualTo(sessoes);
+  }
+
+  @Test
+  @DisplayName("Deve revogar em lote as sessões dos usuários informados")
+  void deveRevogarSessoesEmLote() {
+    List<UUID> usuarioIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+    when(refreshTokenService.revogarPorUsuarios(usuarioIds)).thenReturn(5);
+
+    ResponseEntity<RevogacaoSessoesResponse> response =
+        autenticacaoController.revogarSessoes(new RevogacaoSessoesRequest(usuarioIds));
+
+    assertThat(response.getStatusCodeValue()).isEqualTo(200);
+    assertThat(response.getBody()).isEqualTo(new RevogacaoSessoesResponse(5));
+  }
 }
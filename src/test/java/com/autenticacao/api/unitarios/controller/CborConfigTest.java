@@ -0,0 +1,57 @@
+package com.autenticacao.api.unitarios.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.autenticacao.api.app.config.CborConfig;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CborConfigTest {
+
+  @Test
+  @DisplayName("Deve adicionar o conversor CBOR depois do JSON")
+  void deveAdicionarConversorCborDepoisDoJson() {
+    List<HttpMessageConverter<?>> conversores = new ArrayList<>();
+    conversores.add(new MappingJackson2HttpMessageConverter());
+
+    new CborConfig(new Jackson2ObjectMapperBuilder()).extendMessageConverters(conversores);
+
+    assertEquals(2, conversores.size());
+    assertInstanceOf(MappingJackson2HttpMessageConverter.class, conversores.get(0));
+    assertInstanceOf(MappingJackson2CborHttpMessageConverter.class, conversores.get(1));
+    assertTrue(conversores.get(1).getSupportedMediaTypes().contains(MediaType.APPLICATION_CBOR));
+  }
+
+  @Test
+  @DisplayName("Deve serializar em CBOR mantendo a configuração do Jackson da aplicação")
+  void deveSerializarEmCborComConfiguracaoDaAplicacao() throws Exception {
+    ObjectMapper mapper =
+        CborConfig.conversorCbor(
+                new Jackson2ObjectMapperBuilder()
+                    .serializationInclusion(JsonInclude.Include.NON_NULL))
+            .getObjectMapper();
+    IntrospeccaoResponse ativo =
+        new IntrospeccaoResponse(true, "usuario@email.com", UUID.randomUUID(), "USER", 1L);
+
+    byte[] inativo = mapper.writeValueAsBytes(IntrospeccaoResponse.inativo());
+    byte[] completo = mapper.writeValueAsBytes(ativo);
+
+    assertEquals(
+        IntrospeccaoResponse.inativo(), mapper.readValue(inativo, IntrospeccaoResponse.class));
+    assertEquals(ativo, mapper.readValue(completo, IntrospeccaoResponse.class));
+    assertTrue(inativo.length < 16);
+  }
+}
@@ -19,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
 import com.autenticacao.api.app.domain.DTO.request.AtualizarUsuarioRequest;
 import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
 import com.autenticacao.api.app.domain.DTO.response.UsuarioDetalhadoResponse;
@@ -85,8 +86,8 @@ class UsuarioControllerTest {
   @Test
   @DisplayName("Retorna dados do usuário logado quando encontrado")
   void deveRetornarUsuarioLogadoQuandoEncontrado() {
-    when(authentication.getName()).thenReturn(this.cadastroRequest.email());
-    when(usuarioService.buscarPorEmail(this.cadastroRequest.email()))
+    when(authentication.getPrincipal()).thenReturn(obterUsuarioAutenticado());
+    when(usuarioService.buscarResumoPorId(this.usuarioId))
         .thenReturn(Optional.of(this.resumoResponse));
 
     ResponseEntity<UsuarioResumoResponse> response =
@@ -99,9 +100,8 @@ class UsuarioControllerTest {
   @Test
   @DisplayName("Retorna 404 quando o usuário logado não é encontrado")
   void deveRetornarNotFoundQuandoUsuarioLogadoNaoEncontrado() {
-    when(authentication.getName()).thenReturn(obterCadastroUsuarioRequest().email());
-    when(usuarioService.buscarPorEmail(obterCadastroUsuarioRequest().email()))
-        .thenReturn(Optional.empty());
+    when(authentication.getPrincipal()).thenReturn(obterUsuarioAutenticado());
+    when(usuarioService.buscarResumoPorId(this.usuarioId)).thenReturn(Optional.empty());
 
     ResponseEntity<UsuarioResumoResponse> response =
         usuarioController.getUsuarioLogado(authentication);
@@ -148,6 +148,10 @@ class UsuarioControllerTest {
         .build();
   }
 
+  private UsuarioAutenticado obterUsuarioAutenticado() {
+    return new UsuarioAutenticado(usuarioId, usuario.getEmail(), UserRole.USER, true);
+  }
+
   private AtualizarUsuarioRequest obterAtualizarUsuarioRequest() {
     return new AtualizarUsuarioRequest(
         "João Atualizado",
@@ -0,0 +1,75 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.autenticacao.api.app.config.security.senha.AtualizadorHashSenha;
+import com.autenticacao.api.app.repository.AutenticacaoRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AtualizadorHashSenhaTest {
+
+  private static final UUID USUARIO_ID = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+  private static final String SENHA = "senha123";
+  private static final String HASH_ANTIGO = "$2a$10$antigo";
+  private static final String HASH_NOVO = "{argon2}$argon2id$novo";
+
+  @Mock private PasswordEncoder passwordEncoder;
+  @Mock private AutenticacaoRepository autenticacaoRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AtualizadorHashSenha atualizador;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    atualizador =
+        new AtualizadorHashSenha(passwordEncoder, autenticacaoRepository, meterRegistry, 8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    atualizador.parar();
+  }
+
+  @Test
+  @DisplayName("Deve refazer em segundo plano o hash desatualizado, se ainda for o verificado")
+  void deveAtualizarHashDesatualizado() {
+    when(passwordEncoder.upgradeEncoding(HASH_ANTIGO)).thenReturn(true);
+    when(passwordEncoder.encode(SENHA)).thenReturn(HASH_NOVO);
+    when(autenticacaoRepository.atualizarHashSenha(USUARIO_ID, HASH_ANTIGO, HASH_NOVO))
+        .thenReturn(1);
+
+    atualizador.atualizarSeNecessario(USUARIO_ID, SENHA, HASH_ANTIGO);
+
+    verify(autenticacaoRepository, timeout(2000))
+        .atualizarHashSenha(USUARIO_ID, HASH_ANTIGO, HASH_NOVO);
+  }
+
+  @Test
+  @DisplayName("Não deve refazer hash que já usa o algoritmo e o custo atuais")
+  void naoDeveAtualizarHashAtual() {
+    when(passwordEncoder.upgradeEncoding(HASH_NOVO)).thenReturn(false);
+
+    atualizador.atualizarSeNecessario(USUARIO_ID, SENHA, HASH_NOVO);
+    atualizador.parar();
+
+    verify(passwordEncoder, never()).encode(any());
+    verifyNoInteractions(autenticacaoRepository);
+    assertEquals(0.0, meterRegistry.get("login.senha.rehash").counter().count());
+  }
+}
@@ -0,0 +1,200 @@
+package com.autenticacao.api.unitarios.security;
+
+import static com.autenticacao.api.app.Constantes.ClaimsToken.ATIVO;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.ROLE;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.USUARIO_ID;
+import static com.autenticacao.api.app.Constantes.ClaimsToken.VERSAO;
+import static org.apache.naming.ResourceRef.AUTH;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.autenticacao.api.app.config.security.chave.ChaveCarregada;
+import com.autenticacao.api.app.config.security.chave.CifradorChavePrivada;
+import com.autenticacao.api.app.config.security.chave.GerenciadorChavesAssinatura;
+import com.autenticacao.api.app.config.security.jwt.CodecTokenAcesso;
+import com.autenticacao.api.app.config.security.jwt.TokenDecodificado;
+import com.autenticacao.api.app.domain.entity.Autenticacao;
+import com.autenticacao.api.app.domain.entity.ChaveAssinatura;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.repository.ChaveAssinaturaRepository;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+
+@ExtendWith(MockitoExtension.class)
+class CodecTokenAcessoTest {
+
+  private static final CifradorChavePrivada CIFRADOR =
+      new CifradorChavePrivada(Base64.getEncoder().encodeToString(new byte[32]));
+
+  @Mock private ChaveAssinaturaRepository chaveAssinaturaRepository;
+
+  private GerenciadorChavesAssinatura gerenciador;
+  private CodecTokenAcesso codec;
+  private Usuario usuario;
+
+  @BeforeEach
+  void setUp() {
+    gerenciador =
+        new GerenciadorChavesAssinatura(
+            chaveAssinaturaRepository,
+            CIFRADOR,
+            TransactionOperations.withoutTransaction(),
+            Duration.ofDays(7),
+            Duration.ofMinutes(10),
+            Duration.ofDays(1),
+            Clock.systemUTC());
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(any()))
+        .thenReturn(List.of(gerarChave(Instant.now().minus(Duration.ofHours(1)))));
+    gerenciador.rotacionar();
+    codec = new CodecTokenAcesso(gerenciador);
+
+    usuario =
+        Usuario.builder()
+            .id(UUID.randomUUID())
+            .email("usuario@email.com")
+            .role(UserRole.ADMIN)
+            .ativo(true)
+            .autenticacao(Autenticacao.builder().versaoToken(3).build())
+            .build();
+  }
+
+  @Test
+  @DisplayName("Deve emitir e verificar token preservando as claims do usuário")
+  void deveEmitirEVerificarToken() {
+    Instant expiraEm = Instant.now().plusSeconds(3600);
+
+    TokenDecodificado decodificado =
+        codec.verificar(codec.emitir(usuario, expiraEm)).orElseThrow();
+
+    assertEquals(gerenciador.chaveAssinatura().kid(), decodificado.kid());
+    assertEquals(usuario.getEmail(), decodificado.subject());
+    assertNotNull(decodificado.jti());
+    assertEquals(usuario.getId(), decodificado.usuarioId());
+    assertEquals(UserRole.ADMIN, decodificado.role());
+    assertTrue(decodificado.ativo());
+    assertEquals(3, decodificado.versao());
+    assertEquals(expiraEm.getEpochSecond(), decodificado.expiraEm().getEpochSecond());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar token com assinatura ou payload adulterados")
+  void deveRejeitarTokenAdulterado() {
+    String token = codec.emitir(usuario, Instant.now().plusSeconds(3600));
+    int inicioPayload = token.indexOf('.') + 1;
+
+    assertTrue(codec.verificar(trocarCaractere(token, token.length() - 10)).isEmpty());
+    assertTrue(codec.verificar(trocarCaractere(token, inicioPayload + 5)).isEmpty());
+    assertTrue(codec.verificar(token.substring(0, token.length() - 1)).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar assinatura em Base64 com bits finais diferentes de zero")
+  void deveRejeitarAssinaturaNaoCanonica() {
+    String token = codec.emitir(usuario, Instant.now().plusSeconds(3600));
+    // O último caractere da assinatura traz 2 bits de dados e 4 de preenchimento, sempre zerados
+    char ultimo = token.charAt(token.length() - 1);
+    String variante = token.substring(0, token.length() - 1) + (char) (ultimo + 1);
+
+    assertTrue(codec.verificar(token).isPresent());
+    assertTrue(codec.verificar(variante).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar token expirado")
+  void deveRejeitarTokenExpirado() {
+    String token = codec.emitir(usuario, Instant.now().minusSeconds(1));
+
+    assertTrue(codec.verificar(token).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar token assinado com chave desconhecida")
+  void deveRejeitarChaveDesconhecida() {
+    KeyPair outroPar = gerarPar();
+    String token =
+        JWT.create()
+            .withKeyId("kid-desconhecido")
+            .withIssuer(AUTH)
+            .withSubject(usuario.getEmail())
+            .withExpiresAt(Instant.now().plusSeconds(3600))
+            .sign(Algorithm.ECDSA256(null, (ECPrivateKey) outroPar.getPrivate()));
+
+    assertTrue(codec.verificar(token).isEmpty());
+    assertTrue(codec.verificar("nao.e.um-token").isEmpty());
+    assertTrue(codec.verificar(null).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve aceitar token com as mesmas claims emitido por outra biblioteca JWT")
+  void deveAceitarTokenEmitidoPorOutraBiblioteca() {
+    ChaveCarregada chave = gerenciador.chaveAssinatura();
+    String token =
+        JWT.create()
+            .withKeyId(chave.kid())
+            .withJWTId(UUID.randomUUID().toString())
+            .withIssuer(AUTH)
+            .withSubject(usuario.getEmail())
+            .withClaim(USUARIO_ID, usuario.getId().toString())
+            .withClaim(ROLE, usuario.getRole().name())
+            .withClaim(ATIVO, usuario.isAtivo())
+            .withClaim(VERSAO, 0L)
+            .withExpiresAt(Instant.now().plusSeconds(3600))
+            .sign(Algorithm.ECDSA256(chave.chavePublica(), chave.chavePrivada()));
+
+    TokenDecodificado decodificado = codec.verificar(token).orElseThrow();
+
+    assertEquals(usuario.getId(), decodificado.usuarioId());
+    assertEquals(chave.kid(), decodificado.kid());
+  }
+
+  private String trocarCaractere(String token, int posicao) {
+    char[] caracteres = token.toCharArray();
+    caracteres[posicao] = caracteres[posicao] == 'A' ? 'B' : 'A';
+    return new String(caracteres);
+  }
+
+  private ChaveAssinatura gerarChave(Instant ativaDesde) {
+    KeyPair par = gerarPar();
+    String kid = UUID.randomUUID().toString();
+    return ChaveAssinatura.builder()
+        .kid(kid)
+        .algoritmo(GerenciadorChavesAssinatura.ALGORITMO_ES256)
+        .chavePublica(par.getPublic().getEncoded())
+        .chavePrivada(CIFRADOR.cifrar(kid, par.getPrivate().getEncoded()))
+        .dataHoraCriacao(ativaDesde)
+        .ativaDesde(ativaDesde)
+        .expiraEm(ativaDesde.plus(Duration.ofDays(8)))
+        .build();
+  }
+
+  private KeyPair gerarPar() {
+    try {
+      KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+      gerador.initialize(new ECGenParameterSpec("secp256r1"));
+      return gerador.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
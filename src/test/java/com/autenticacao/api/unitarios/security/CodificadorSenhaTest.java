@@ -0,0 +1,127 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.autenticacao.api.app.config.security.senha.CalibradorCustoSenha;
+import com.autenticacao.api.app.config.security.senha.FabricaCodificadorSenha;
+
+class CodificadorSenhaTest {
+
+  private static final String SENHA = "senhaForte123@";
+  private static final Duration ALVO = Duration.ofMillis(100);
+
+  @Test
+  @DisplayName("Deve escolher o maior custo do BCrypt que cabe no tempo alvo")
+  void deveCalibrarCustoBcrypt() {
+    List<Integer> medidos = new ArrayList<>();
+
+    int custo =
+        CalibradorCustoSenha.custoBcrypt(
+            ALVO,
+            10,
+            16,
+            c -> {
+              medidos.add(c);
+              return Duration.ofMillis(30L << (c - 10)).toNanos();
+            });
+
+    assertEquals(11, custo);
+    assertEquals(List.of(10, 11), medidos);
+  }
+
+  @Test
+  @DisplayName("Não deve baixar o custo do BCrypt abaixo do mínimo mesmo acima do alvo")
+  void naoDeveBaixarCustoAbaixoDoMinimo() {
+    int custo = CalibradorCustoSenha.custoBcrypt(ALVO, 10, 16, c -> ALVO.toNanos() * 3);
+
+    assertEquals(10, custo);
+  }
+
+  @Test
+  @DisplayName("Deve escalar as iterações do Argon2 linearmente até o tempo alvo")
+  void deveCalibrarIteracoesArgon2() {
+    assertEquals(
+        8, CalibradorCustoSenha.iteracoesArgon2(ALVO, 2, 20, i -> Duration.ofMillis(25).toNanos()));
+    assertEquals(
+        20, CalibradorCustoSenha.iteracoesArgon2(ALVO, 2, 20, i -> Duration.ofMillis(1).toNanos()));
+    assertEquals(
+        2, CalibradorCustoSenha.iteracoesArgon2(ALVO, 2, 20, i -> Duration.ofSeconds(1).toNanos()));
+  }
+
+  @Test
+  @DisplayName("Deve aceitar hash BCrypt antigo sem prefixo e pedir sua atualização")
+  void deveAceitarHashAntigoSemPrefixo() {
+    PasswordEncoder codificador = criarCodificador(FabricaCodificadorSenha.BCRYPT, 4);
+    String hashAntigo = new BCryptPasswordEncoder(4).encode(SENHA);
+
+    assertTrue(codificador.matches(SENHA, hashAntigo));
+    assertTrue(codificador.upgradeEncoding(hashAntigo));
+  }
+
+  @Test
+  @DisplayName("Deve gravar com prefixo e pedir atualização apenas quando o custo for menor")
+  void deveAtualizarApenasHashComCustoMenor() {
+    String hashAtual = criarCodificador(FabricaCodificadorSenha.BCRYPT, 5).encode(SENHA);
+    String hashFraco = criarCodificador(FabricaCodificadorSenha.BCRYPT, 4).encode(SENHA);
+    PasswordEncoder codificador = criarCodificador(FabricaCodificadorSenha.BCRYPT, 5);
+
+    assertTrue(hashAtual.startsWith("{bcrypt}$2a$05$"));
+    assertFalse(codificador.upgradeEncoding(hashAtual));
+    assertTrue(codificador.matches(SENHA, hashFraco));
+    assertTrue(codificador.upgradeEncoding(hashFraco));
+  }
+
+  @Test
+  @DisplayName("Não deve pedir atualização de hash com custo acima do atual")
+  void naoDeveAtualizarHashComCustoMaior() {
+    String bcryptMaior = criarCodificador(FabricaCodificadorSenha.BCRYPT, 6).encode(SENHA);
+    String argon2Maior = criarCodificadorArgon2(3).encode(SENHA);
+
+    assertFalse(criarCodificador(FabricaCodificadorSenha.BCRYPT, 5).upgradeEncoding(bcryptMaior));
+    assertFalse(criarCodificadorArgon2(2).upgradeEncoding(argon2Maior));
+    assertTrue(criarCodificadorArgon2(4).upgradeEncoding(argon2Maior));
+  }
+
+  @Test
+  @DisplayName("Deve gravar com Argon2id e migrar hashes BCrypt quando configurado")
+  void deveGravarComArgon2() {
+    String hashBcrypt = criarCodificador(FabricaCodificadorSenha.BCRYPT, 4).encode(SENHA);
+    PasswordEncoder codificador = criarCodificador(FabricaCodificadorSenha.ARGON2, 4);
+
+    String hashArgon2 = codificador.encode(SENHA);
+
+    assertTrue(hashArgon2.startsWith("{argon2}$argon2id$"));
+    assertTrue(codificador.matches(SENHA, hashArgon2));
+    assertFalse(codificador.matches("outraSenha", hashArgon2));
+    assertFalse(codificador.upgradeEncoding(hashArgon2));
+    assertTrue(codificador.matches(SENHA, hashBcrypt));
+    assertTrue(codificador.upgradeEncoding(hashBcrypt));
+  }
+
+  @Test
+  @DisplayName("Deve recusar algoritmo desconhecido")
+  void deveRecusarAlgoritmoDesconhecido() {
+    FabricaCodificadorSenha fabrica = new FabricaCodificadorSenha("md5", 100, 4, 4, 1, 1024, 1);
+
+    assertThrows(IllegalStateException.class, fabrica::criar);
+  }
+
+  private PasswordEncoder criarCodificador(String algoritmo, int custoBcrypt) {
+    return new FabricaCodificadorSenha(algoritmo, 100, custoBcrypt, 4, 1, 1024, 1).criar();
+  }
+
+  private PasswordEncoder criarCodificadorArgon2(int iteracoes) {
+    return new FabricaCodificadorSenha(
+            FabricaCodificadorSenha.ARGON2, 100, 4, 4, iteracoes, 1024, 1)
+        .criar();
+  }
+}
@@ -0,0 +1,117 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.autenticacao.api.app.config.security.chave.CifradorChavePrivada;
+import com.autenticacao.api.app.config.security.chave.GerenciadorChavesAssinatura;
+import com.autenticacao.api.app.config.security.jwt.CodecTokenAcesso;
+import com.autenticacao.api.app.domain.entity.ChaveAssinatura;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.repository.ChaveAssinaturaRepository;
+import com.autenticacao.api.app.util.enums.UserRole;
+import com.autenticacao.cliente.ClienteAutenticacao;
+import com.autenticacao.cliente.ResultadoVerificacao;
+import com.autenticacao.cliente.TransporteAutenticacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Garante que os ‘tokens’ emitidos pela API são aceitos pelo cliente de verificação local. */
+class ContratoClienteAutenticacaoTest {
+
+  private static final CifradorChavePrivada CIFRADOR =
+      new CifradorChavePrivada(Base64.getEncoder().encodeToString(new byte[32]));
+
+  @Test
+  @DisplayName("Deve verificar no cliente o token emitido pela API com o JWKS publicado")
+  void deveVerificarTokenEmitidoPelaApi() throws Exception {
+    GerenciadorChavesAssinatura gerenciador = criarGerenciador();
+    String jwks = new ObjectMapper().writeValueAsString(gerenciador.jwks());
+    Usuario usuario =
+        Usuario.builder()
+            .id(UUID.randomUUID())
+            .email("usuario@email.com")
+            .role(UserRole.ADMIN)
+            .ativo(true)
+            .build();
+    String token =
+        new CodecTokenAcesso(gerenciador).emitir(usuario, Instant.now().plusSeconds(900));
+
+    try (ClienteAutenticacao cliente =
+        ClienteAutenticacao.builder().transporte(transporte(jwks)).build()) {
+      cliente.confirmarFeed();
+
+      ResultadoVerificacao resultado = cliente.verificar(token);
+      assertTrue(resultado.ativo());
+      assertEquals(ResultadoVerificacao.Origem.LOCAL, resultado.origem());
+      assertEquals(usuario.getId(), resultado.uid());
+      assertEquals(usuario.getEmail(), resultado.sub());
+      assertEquals(UserRole.ADMIN.name(), resultado.role());
+
+      cliente.registrarVersao(usuario.getId(), 1);
+      assertFalse(cliente.verificar(token).ativo());
+    }
+  }
+
+  private static TransporteAutenticacao transporte(String jwks) {
+    return new TransporteAutenticacao() {
+      @Override
+      public String buscarJwks() {
+        return jwks;
+      }
+
+      @Override
+      public String introspectarLote(String corpo) {
+        throw new IllegalStateException("Introspecção não esperada");
+      }
+    };
+  }
+
+  private static GerenciadorChavesAssinatura criarGerenciador() throws Exception {
+    KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+    gerador.initialize(new ECGenParameterSpec("secp256r1"));
+    KeyPair par = gerador.generateKeyPair();
+    Instant ativaDesde = Instant.now().minus(Duration.ofHours(1));
+    String kid = UUID.randomUUID().toString();
+
+    ChaveAssinaturaRepository repository = mock(ChaveAssinaturaRepository.class);
+    when(repository.findByExpiraEmAfterOrderByAtivaDesdeDesc(any()))
+        .thenReturn(
+            List.of(
+                ChaveAssinatura.builder()
+                    .kid(kid)
+                    .algoritmo(GerenciadorChavesAssinatura.ALGORITMO_ES256)
+                    .chavePublica(par.getPublic().getEncoded())
+                    .chavePrivada(CIFRADOR.cifrar(kid, par.getPrivate().getEncoded()))
+                    .dataHoraCriacao(ativaDesde)
+                    .ativaDesde(ativaDesde)
+                    .expiraEm(ativaDesde.plus(Duration.ofDays(8)))
+                    .build()));
+
+    GerenciadorChavesAssinatura gerenciador =
+        new GerenciadorChavesAssinatura(
+            repository,
+            CIFRADOR,
+            TransactionOperations.withoutTransaction(),
+            Duration.ofDays(7),
+            Duration.ofMinutes(10),
+            Duration.ofDays(1),
+            Clock.systemUTC());
+    gerenciador.rotacionar();
+    return gerenciador;
+  }
+}
@@ -0,0 +1,100 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
+import com.autenticacao.api.app.config.security.senha.VerificadorSenha;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CredencialVerificadaCacheTest {
+
+  private static final UUID USUARIO_ID = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+  private static final String SENHA = "senha123";
+  private static final String HASH = "{bcrypt}$2a$10$hash";
+
+  @Mock private VerificadorSenha verificadorSenha;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("Deve verificar o hash apenas uma vez para a mesma credencial dentro do TTL")
+  void deveReaproveitarCredencialVerificada() {
+    CredencialVerificadaCache cache = criarCache(true);
+    when(verificadorSenha.verificar(SENHA, HASH)).thenReturn(true);
+
+    assertTrue(cache.verificar(USUARIO_ID, SENHA, HASH));
+    assertTrue(cache.verificar(USUARIO_ID, SENHA, HASH));
+
+    verify(verificadorSenha, times(1)).verificar(SENHA, HASH);
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("cache.gets")
+            .tag("cache", "credenciais_verificadas")
+            .tag("result", "hit")
+            .functionCounter()
+            .count());
+  }
+
+  @Test
+  @DisplayName("Não deve guardar senha recusada nem aceitar senha diferente da verificada")
+  void naoDeveAceitarSenhaDiferente() {
+    CredencialVerificadaCache cache = criarCache(true);
+    when(verificadorSenha.verificar(SENHA, HASH)).thenReturn(true);
+    when(verificadorSenha.verificar("errada", HASH)).thenReturn(false);
+
+    assertFalse(cache.verificar(USUARIO_ID, "errada", HASH));
+    assertTrue(cache.verificar(USUARIO_ID, SENHA, HASH));
+    assertFalse(cache.verificar(USUARIO_ID, "errada", HASH));
+
+    verify(verificadorSenha, times(2)).verificar("errada", HASH);
+  }
+
+  @Test
+  @DisplayName("Deve verificar de novo quando o hash armazenado mudar ou após invalidação")
+  void deveVerificarNovamenteAposTrocaDeHashOuInvalidacao() {
+    CredencialVerificadaCache cache = criarCache(true);
+    when(verificadorSenha.verificar(eq(SENHA), anyString())).thenReturn(true);
+
+    cache.verificar(USUARIO_ID, SENHA, HASH);
+    cache.verificar(USUARIO_ID, SENHA, "{argon2}$argon2id$novo");
+    cache.invalidar(USUARIO_ID);
+    cache.verificar(USUARIO_ID, SENHA, "{argon2}$argon2id$novo");
+
+    verify(verificadorSenha, times(3)).verificar(eq(SENHA), anyString());
+  }
+
+  @Test
+  @DisplayName("Deve sempre verificar o hash quando o cache estiver desabilitado")
+  void deveDelegarQuandoDesabilitado() {
+    CredencialVerificadaCache cache = criarCache(false);
+    when(verificadorSenha.verificar(SENHA, HASH)).thenReturn(true);
+
+    assertTrue(cache.verificar(USUARIO_ID, SENHA, HASH));
+    assertTrue(cache.verificar(USUARIO_ID, SENHA, HASH));
+
+    verify(verificadorSenha, times(2)).verificar(SENHA, HASH);
+    assertNull(meterRegistry.find("cache.gets").meter());
+  }
+
+  private CredencialVerificadaCache criarCache(boolean habilitado) {
+    return new CredencialVerificadaCache(verificadorSenha, meterRegistry, habilitado, 60, 100);
+  }
+}
@@ -0,0 +1,114 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.autenticacao.api.app.config.security.limite.DetectorAtaqueCredenciais;
+import com.autenticacao.api.app.config.security.limite.SketchContagemMinima;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DetectorAtaqueCredenciaisTest {
+
+  private static final String NAVEGADOR = "Mozilla/5.0";
+
+  private SimpleMeterRegistry meterRegistry;
+  private DetectorAtaqueCredenciais detector;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    detector = new DetectorAtaqueCredenciais(meterRegistry, true, 4, 4096, 10, 30, 1000, 300);
+  }
+
+  @Test
+  @DisplayName("O sketch nunca deve subestimar a contagem e deve ocupar memória fixa")
+  void sketchNaoDeveSubestimar() {
+    SketchContagemMinima sketch = new SketchContagemMinima(4, 1024);
+    long memoria = sketch.tamanhoBytes();
+
+    for (int i = 0; i < 50_000; i++) {
+      sketch.incrementar("10.0." + (i % 250) + "." + (i % 199));
+    }
+    for (int i = 0; i < 40; i++) {
+      sketch.incrementar("atacante");
+    }
+
+    assertTrue(sketch.estimar("atacante") >= 40);
+    assertEquals(memoria, sketch.tamanhoBytes());
+    assertEquals(50_040, sketch.total());
+  }
+
+  @Test
+  @DisplayName("O decaimento deve reduzir as contagens pela metade")
+  void sketchDeveDecair() {
+    SketchContagemMinima sketch = new SketchContagemMinima(4, 1024);
+    for (int i = 0; i < 40; i++) {
+      sketch.incrementar("chave");
+    }
+
+    sketch.decair();
+
+    assertEquals(20, sketch.estimar("chave"));
+    assertEquals(20, sketch.total());
+  }
+
+  @Test
+  @DisplayName("Deve restringir a rede /24 que distribui falhas entre muitos IPs")
+  void deveRestringirRedeComFalhasDistribuidas() {
+    for (int i = 0; i < 120; i++) {
+      detector.registrarFalha("203.0.113." + (i % 100), "agente-" + i);
+    }
+
+    int restringidos = 0;
+    for (int i = 0; i < 20; i++) {
+      if (detector.restricao("203.0.113.200", NAVEGADOR) > 0) {
+        restringidos++;
+      }
+    }
+
+    assertTrue(restringidos >= 10);
+    assertEquals(0, detector.restricao("198.51.100.7", NAVEGADOR));
+  }
+
+  @Test
+  @DisplayName("Não deve restringir origem abaixo dos limites e deve liberar após o decaimento")
+  void deveLiberarAposDecaimento() {
+    for (int i = 0; i < 9; i++) {
+      detector.registrarFalha("192.0.2.10", NAVEGADOR);
+    }
+    assertEquals(0, detector.restricao("192.0.2.10", NAVEGADOR));
+
+    for (int i = 0; i < 91; i++) {
+      detector.registrarFalha("192.0.2.10", NAVEGADOR);
+    }
+    int restringidos = 0;
+    for (int i = 0; i < 20; i++) {
+      if (detector.restricao("192.0.2.10", NAVEGADOR) > 0) {
+        restringidos++;
+      }
+    }
+    assertTrue(restringidos > 0);
+
+    for (int i = 0; i < 5; i++) {
+      detector.decair();
+    }
+    assertEquals(0, detector.restricao("192.0.2.10", NAVEGADOR));
+  }
+
+  @Test
+  @DisplayName("Deve publicar o estado do sketch como métricas")
+  void devePublicarMetricas() {
+    detector.registrarFalha("2001:db8::1", NAVEGADOR);
+
+    assertEquals(
+        1.0, meterRegistry.get("login.ataque.falhas").tag("chave", "ip").gauge().value());
+    assertEquals(
+        1.0, meterRegistry.get("login.ataque.falhas").tag("chave", "rede").gauge().value());
+    assertTrue(
+        meterRegistry.get("login.ataque.memoria").tag("chave", "ip").gauge().value() > 0);
+  }
+}
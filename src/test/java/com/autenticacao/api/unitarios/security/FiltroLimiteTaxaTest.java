@@ -0,0 +1,238 @@
+package com.autenticacao.api.unitarios.security;
+
+import static com.autenticacao.api.app.Constantes.Rotas.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.autenticacao.api.app.config.security.limite.DetectorAtaqueCredenciais;
+import com.autenticacao.api.app.config.security.limite.FiltroLimiteTaxa;
+import com.autenticacao.api.app.util.MensagemUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+@ExtendWith(MockitoExtension.class)
+class FiltroLimiteTaxaTest {
+
+  @Mock private MensagemUtil mensagemUtil;
+
+  private SimpleMeterRegistry meterRegistry;
+  private FiltroLimiteTaxa filtro;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(mensagemUtil.getMensagem(anyString())).thenReturn("Muitas requisições");
+    meterRegistry = new SimpleMeterRegistry();
+    filtro =
+        new FiltroLimiteTaxa(
+            new DetectorAtaqueCredenciais(meterRegistry, true, 4, 1024, 20, 60, 300, 300),
+            new ObjectMapper(),
+            mensagemUtil,
+            meterRegistry,
+            true,
+            100,
+            4096,
+            10,
+            1000,
+            2,
+            60000,
+            2,
+            60000);
+  }
+
+  @Test
+  @DisplayName("Deve recusar com 429 o e-mail acima do limite, sem chamar o controller")
+  void deveRecusarEmailAcimaDoLimite() throws Exception {
+    assertEquals(200, executar(login("ana@email.com", "10.0.0.1")).response().getStatus());
+    assertEquals(200, executar(login("ANA@email.com", "10.0.0.2")).response().getStatus());
+
+    Resultado recusado = executar(login("ana@email.com", "10.0.0.3"));
+
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), recusado.response().getStatus());
+    assertNotNull(recusado.response().getHeader(HttpHeaders.RETRY_AFTER));
+    assertTrue(recusado.response().getContentAsString().contains("Muitas requisições"));
+    assertNull(recusado.cadeia().getRequest());
+    assertEquals(
+        1.0, meterRegistry.get("limite.taxa.recusadas").tag("chave", "email").counter().count());
+  }
+
+  @Test
+  @DisplayName("Deve repassar ao controller o corpo já lido pelo filtro")
+  void deveRepassarCorpoIntacto() throws Exception {
+    MockHttpServletRequest request = login("bia@email.com", "10.0.0.1");
+    String corpo = request.getContentAsString();
+
+    Resultado resultado = executar(request);
+
+    byte[] repassado = resultado.cadeia().getRequest().getInputStream().readAllBytes();
+    assertEquals(corpo, new String(repassado, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("Deve limitar o refresh token repetido e o IP que varia e-mails")
+  void deveLimitarRefreshTokenEIp() throws Exception {
+    for (int i = 0; i < 2; i++) {
+      assertEquals(200, executar(refresh("token-1", "10.0.1." + i)).response().getStatus());
+    }
+    assertEquals(429, executar(refresh("token-1", "10.0.1.9")).response().getStatus());
+
+    for (int i = 0; i < 10; i++) {
+      executar(login("usuario" + i + "@email.com", "10.0.2.1"));
+    }
+    assertEquals(429, executar(login("outro@email.com", "10.0.2.1")).response().getStatus());
+  }
+
+  @Test
+  @DisplayName("Deve recusar com 413 o corpo acima do tamanho máximo, com ou sem Content-Length")
+  void deveRecusarCorpoAcimaDoTamanhoMaximo() throws Exception {
+    String preenchimento = "x".repeat(5000);
+    String corpo =
+        "{\"email\":\"ana@email.com\",\"senha\":\"qualquer\",\"p\":\"" + preenchimento + "\"}";
+
+    Resultado declarado = executar(requisicao(API_AUTENTICAR + LOGIN, corpo, "10.0.4.1"));
+    Resultado emChunks = executar(semContentLength(API_AUTENTICAR + LOGIN, corpo, "10.0.4.2"));
+
+    assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), declarado.response().getStatus());
+    assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), emChunks.response().getStatus());
+    assertNull(declarado.cadeia().getRequest());
+    assertNull(emChunks.cadeia().getRequest());
+  }
+
+  @Test
+  @DisplayName("Deve limitar pelo e-mail o corpo enviado sem Content-Length")
+  void deveLimitarCorpoSemContentLength() throws Exception {
+    String corpo = "{\"email\":\"eva@email.com\",\"senha\":\"qualquer\"}";
+    for (int i = 0; i < 2; i++) {
+      Resultado aceito = executar(semContentLength(API_AUTENTICAR + LOGIN, corpo, "10.0.5." + i));
+      assertEquals(200, aceito.response().getStatus());
+    }
+
+    Resultado recusado = executar(semContentLength(API_AUTENTICAR + LOGIN, corpo, "10.0.5.9"));
+
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), recusado.response().getStatus());
+  }
+
+  @Test
+  @DisplayName("Deve recusar com 400 o corpo com campo repetido ou sem o campo limitado")
+  void deveRecusarCampoRepetidoOuAusente() throws Exception {
+    Resultado repetido =
+        executar(
+            requisicao(
+                API_AUTENTICAR + LOGIN,
+                "{\"email\":\"x@email.com\",\"email\":\"vitima@email.com\"}",
+                "10.0.6.1"));
+    Resultado ausente =
+        executar(requisicao(API_AUTENTICAR + REFRESH_TOKEN, "{\"outro\":\"valor\"}", "10.0.6.2"));
+
+    assertEquals(HttpStatus.BAD_REQUEST.value(), repetido.response().getStatus());
+    assertEquals(HttpStatus.BAD_REQUEST.value(), ausente.response().getStatus());
+    assertNull(repetido.cadeia().getRequest());
+  }
+
+  @Test
+  @DisplayName("Deve avisar o ReadListener de que o corpo repassado já está disponível")
+  void deveAvisarReadListener() throws Exception {
+    Resultado resultado = executar(login("lia@email.com", "10.0.7.1"));
+    ServletInputStream entrada = resultado.cadeia().getRequest().getInputStream();
+    List<String> eventos = new ArrayList<>();
+
+    entrada.setReadListener(
+        new ReadListener() {
+          @Override
+          public void onDataAvailable() throws IOException {
+            eventos.add("dados");
+            entrada.readAllBytes();
+          }
+
+          @Override
+          public void onAllDataRead() {
+            eventos.add("fim");
+          }
+
+          @Override
+          public void onError(Throwable erro) {
+            eventos.add("erro");
+          }
+        });
+
+    assertEquals(List.of("dados", "fim"), eventos);
+  }
+
+  @Test
+  @DisplayName("Não deve limitar outras rotas")
+  void naoDeveLimitarOutrasRotas() throws Exception {
+    for (int i = 0; i < 20; i++) {
+      MockHttpServletRequest request =
+          new MockHttpServletRequest("POST", API_AUTENTICAR + INTROSPECCAO);
+      request.setRemoteAddr("10.0.3.1");
+      assertEquals(200, executar(request).response().getStatus());
+    }
+  }
+
+  private Resultado executar(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain cadeia = new MockFilterChain();
+    filtro.doFilter(request, response, cadeia);
+    return new Resultado(response, cadeia);
+  }
+
+  private static MockHttpServletRequest login(String email, String ip) {
+    return requisicao(
+        API_AUTENTICAR + LOGIN, "{\"email\":\"" + email + "\",\"senha\":\"qualquer\"}", ip);
+  }
+
+  private static MockHttpServletRequest refresh(String token, String ip) {
+    return requisicao(API_AUTENTICAR + REFRESH_TOKEN, "{\"refreshToken\":\"" + token + "\"}", ip);
+  }
+
+  /** Requisição em ‘chunks’: o corpo chega sem Content-Length. */
+  private static MockHttpServletRequest semContentLength(String caminho, String corpo, String ip) {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("POST", caminho) {
+          @Override
+          public int getContentLength() {
+            return -1;
+          }
+
+          @Override
+          public long getContentLengthLong() {
+            return -1;
+          }
+        };
+    request.setRemoteAddr(ip);
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private static MockHttpServletRequest requisicao(String caminho, String corpo, String ip) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", caminho);
+    request.setRemoteAddr(ip);
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private record Resultado(MockHttpServletResponse response, MockFilterChain cadeia) {}
+}
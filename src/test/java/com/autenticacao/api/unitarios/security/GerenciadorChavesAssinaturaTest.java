@@ -0,0 +1,256 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.autenticacao.api.app.config.security.TokenService;
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
+import com.autenticacao.api.app.config.security.chave.ChaveCarregada;
+import com.autenticacao.api.app.config.security.chave.CifradorChavePrivada;
+import com.autenticacao.api.app.config.security.chave.GerenciadorChavesAssinatura;
+import com.autenticacao.api.app.config.security.jwt.CodecTokenAcesso;
+import com.autenticacao.api.app.domain.DTO.response.JwkResponse;
+import com.autenticacao.api.app.domain.entity.ChaveAssinatura;
+import com.autenticacao.api.app.domain.entity.Usuario;
+import com.autenticacao.api.app.repository.ChaveAssinaturaRepository;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+@ExtendWith(MockitoExtension.class)
+class GerenciadorChavesAssinaturaTest {
+
+  private static final Duration ROTACAO = Duration.ofDays(7);
+  private static final Duration ANTECEDENCIA = Duration.ofMinutes(10);
+  private static final Duration SOBREPOSICAO = Duration.ofDays(1);
+  private static final CifradorChavePrivada CIFRADOR =
+      new CifradorChavePrivada(Base64.getEncoder().encodeToString(new byte[32]));
+
+  @Mock private ChaveAssinaturaRepository chaveAssinaturaRepository;
+
+  private final Instant agora = Instant.parse("2025-01-10T12:00:00Z");
+  private final AtomicBoolean emTransacao = new AtomicBoolean();
+  private GerenciadorChavesAssinatura gerenciador;
+
+  @BeforeEach
+  void setUp() {
+    TransactionOperations transacao =
+        new TransactionOperations() {
+          @Override
+          public <T> T execute(TransactionCallback<T> acao) {
+            emTransacao.set(true);
+            try {
+              return acao.doInTransaction(null);
+            } finally {
+              emTransacao.set(false);
+            }
+          }
+        };
+    gerenciador =
+        new GerenciadorChavesAssinatura(
+            chaveAssinaturaRepository,
+            CIFRADOR,
+            transacao,
+            ROTACAO,
+            ANTECEDENCIA,
+            SOBREPOSICAO,
+            Clock.fixed(agora, ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("Deve criar a primeira chave ativa imediatamente quando não houver nenhuma")
+  void deveCriarPrimeiraChave() {
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora))
+        .thenReturn(List.of());
+    when(chaveAssinaturaRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+    gerenciador.inicializar();
+
+    ChaveCarregada chave = gerenciador.chaveAssinatura();
+    assertEquals(agora, chave.ativaDesde());
+    assertEquals(agora.plus(ROTACAO).plus(SOBREPOSICAO), chave.expiraEm());
+
+    List<JwkResponse> jwks = gerenciador.jwks().keys();
+    assertEquals(1, jwks.size());
+    assertEquals(chave.kid(), jwks.get(0).kid());
+    assertEquals("ES256", jwks.get(0).alg());
+    assertEquals(43, jwks.get(0).x().length());
+    assertEquals(43, jwks.get(0).y().length());
+  }
+
+  @Test
+  @DisplayName("Deve publicar a próxima chave antes de usá-la para assinar")
+  void devePublicarProximaChaveAntesDeAssinar() {
+    ChaveAssinatura atual = gerarChaveExistente(agora.minus(ROTACAO).plus(ANTECEDENCIA));
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora))
+        .thenReturn(List.of(atual));
+    when(chaveAssinaturaRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+    gerenciador.rotacionar();
+
+    ArgumentCaptor<ChaveAssinatura> captor = ArgumentCaptor.forClass(ChaveAssinatura.class);
+    verify(chaveAssinaturaRepository).save(captor.capture());
+    assertEquals(agora.plus(ANTECEDENCIA), captor.getValue().getAtivaDesde());
+
+    assertEquals(atual.getKid(), gerenciador.chaveAssinatura().kid());
+    assertEquals(2, gerenciador.jwks().keys().size());
+    assertTrue(gerenciador.chave(captor.getValue().getKid()).isPresent());
+    verify(chaveAssinaturaRepository).removerExpiradas(agora);
+  }
+
+  @Test
+  @DisplayName("Não deve criar chave enquanto a atual estiver dentro do período de rotação")
+  void naoDeveRotacionarAntesDoPeriodo() {
+    ChaveAssinatura atual = gerarChaveExistente(agora.minus(Duration.ofDays(1)));
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora))
+        .thenReturn(List.of(atual));
+
+    gerenciador.rotacionar();
+
+    verify(chaveAssinaturaRepository, never()).save(any());
+    assertEquals(atual.getKid(), gerenciador.chaveAssinatura().kid());
+    assertTrue(gerenciador.chave("kid-desconhecido").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve gravar a chave privada cifrada e vinculada ao kid")
+  void deveGravarChavePrivadaCifrada() {
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora))
+        .thenReturn(List.of());
+    when(chaveAssinaturaRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+    gerenciador.rotacionar();
+
+    ArgumentCaptor<ChaveAssinatura> captor = ArgumentCaptor.forClass(ChaveAssinatura.class);
+    verify(chaveAssinaturaRepository).save(captor.capture());
+    ChaveAssinatura gravada = captor.getValue();
+    byte[] pkcs8 = gerenciador.chaveAssinatura().chavePrivada().getEncoded();
+
+    assertFalse(Arrays.equals(pkcs8, gravada.getChavePrivada()));
+    assertArrayEquals(pkcs8, CIFRADOR.decifrar(gravada.getKid(), gravada.getChavePrivada()));
+    assertThrows(
+        IllegalStateException.class,
+        () -> CIFRADOR.decifrar("outro-kid", gravada.getChavePrivada()));
+
+    byte[] outraChave = new byte[32];
+    Arrays.fill(outraChave, (byte) 1);
+    CifradorChavePrivada outroCifrador =
+        new CifradorChavePrivada(Base64.getEncoder().encodeToString(outraChave));
+    assertThrows(
+        IllegalStateException.class,
+        () -> outroCifrador.decifrar(gravada.getKid(), gravada.getChavePrivada()));
+  }
+
+  @Test
+  @DisplayName("Não deve aceitar chave de cifragem com tamanho diferente de 32 bytes")
+  void naoDeveAceitarChaveCifragemInvalida() {
+    String curta = Base64.getEncoder().encodeToString(new byte[16]);
+
+    assertThrows(IllegalStateException.class, () -> new CifradorChavePrivada(curta));
+    assertThrows(IllegalStateException.class, () -> new CifradorChavePrivada("não é base64"));
+  }
+
+  @Test
+  @DisplayName("Deve travar a rotação, na mesma transação, antes de ler e criar chaves")
+  void deveTravarRotacaoAntesDeLerChaves() {
+    when(chaveAssinaturaRepository.travarRotacao(anyLong()))
+        .thenAnswer(
+            i -> {
+              assertTrue(emTransacao.get());
+              return 1;
+            });
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora))
+        .thenReturn(List.of());
+    when(chaveAssinaturaRepository.save(any()))
+        .thenAnswer(
+            i -> {
+              assertTrue(emTransacao.get());
+              return i.getArgument(0);
+            });
+
+    gerenciador.rotacionar();
+
+    InOrder ordem = inOrder(chaveAssinaturaRepository);
+    ordem.verify(chaveAssinaturaRepository).travarRotacao(anyLong());
+    ordem.verify(chaveAssinaturaRepository).findByExpiraEmAfterOrderByAtivaDesdeDesc(agora);
+    ordem.verify(chaveAssinaturaRepository).save(any());
+    ordem.verify(chaveAssinaturaRepository).removerExpiradas(agora);
+  }
+
+  @Test
+  @DisplayName("Deve emitir token com kid e verificá-lo com a chave publicada")
+  void deveEmitirEVerificarTokenComKid() {
+    when(chaveAssinaturaRepository.findByExpiraEmAfterOrderByAtivaDesdeDesc(agora))
+        .thenReturn(List.of(gerarChaveExistente(agora.minus(Duration.ofHours(1)))));
+    gerenciador.rotacionar();
+    TokenService tokenService = new TokenService(new CodecTokenAcesso(gerenciador));
+
+    Usuario usuario =
+        Usuario.builder()
+            .id(UUID.randomUUID())
+            .email("usuario@email.com")
+            .role(UserRole.USER)
+            .ativo(true)
+            .build();
+
+    String token = tokenService.generateToken(usuario);
+
+    UsuarioAutenticado principal = tokenService.verificarToken(token).orElseThrow().usuario();
+    assertEquals(usuario.getId(), principal.getId());
+    assertEquals(usuario.getEmail(), principal.getEmail());
+    assertTrue(tokenService.verificarToken(adulterarAssinatura(token)).isEmpty());
+  }
+
+  private String adulterarAssinatura(String token) {
+    char[] caracteres = token.toCharArray();
+    int posicao = caracteres.length - 10;
+    caracteres[posicao] = caracteres[posicao] == 'A' ? 'B' : 'A';
+    return new String(caracteres);
+  }
+
+  private ChaveAssinatura gerarChaveExistente(Instant ativaDesde) {
+    try {
+      KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+      gerador.initialize(new ECGenParameterSpec("secp256r1"));
+      KeyPair par = gerador.generateKeyPair();
+      String kid = UUID.randomUUID().toString();
+
+      return ChaveAssinatura.builder()
+          .kid(kid)
+          .algoritmo("ES256")
+          .chavePublica(par.getPublic().getEncoded())
+          .chavePrivada(CIFRADOR.cifrar(kid, par.getPrivate().getEncoded()))
+          .dataHoraCriacao(ativaDesde)
+          .ativaDesde(ativaDesde)
+          .expiraEm(ativaDesde.plus(ROTACAO).plus(SOBREPOSICAO))
+          .build();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
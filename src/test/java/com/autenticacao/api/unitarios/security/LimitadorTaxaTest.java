@@ -0,0 +1,81 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.autenticacao.api.app.config.security.limite.LimitadorTaxa;
+
+class LimitadorTaxaTest {
+
+  private static final Duration RECARGA = Duration.ofSeconds(1);
+
+  private final AtomicLong relogio = new AtomicLong();
+
+  @Test
+  @DisplayName("Deve aceitar a capacidade em sequência e recusar a seguinte com a espera correta")
+  void deveRecusarAposCapacidade() {
+    LimitadorTaxa limitador = new LimitadorTaxa(3, RECARGA, 100, relogio::get);
+
+    assertEquals(0, limitador.consumir("10.0.0.1"));
+    assertEquals(0, limitador.consumir("10.0.0.1"));
+    assertEquals(0, limitador.consumir("10.0.0.1"));
+
+    assertEquals(RECARGA.toNanos(), limitador.consumir("10.0.0.1"));
+    assertEquals(0, limitador.consumir("10.0.0.2"));
+  }
+
+  @Test
+  @DisplayName("Deve recuperar uma requisição a cada intervalo de recarga, até a capacidade")
+  void deveRecarregarComOTempo() {
+    LimitadorTaxa limitador = new LimitadorTaxa(2, RECARGA, 100, relogio::get);
+    limitador.consumir("chave");
+    limitador.consumir("chave");
+
+    relogio.addAndGet(RECARGA.toNanos());
+    assertEquals(0, limitador.consumir("chave"));
+    assertTrue(limitador.consumir("chave") > 0);
+
+    relogio.addAndGet(RECARGA.multipliedBy(10).toNanos());
+    assertEquals(0, limitador.consumir("chave"));
+    assertEquals(0, limitador.consumir("chave"));
+    assertTrue(limitador.consumir("chave") > 0);
+  }
+
+  @Test
+  @DisplayName("Não deve aceitar além da capacidade com consumo simultâneo")
+  void naoDeveExcederCapacidadeComConcorrencia() throws InterruptedException {
+    LimitadorTaxa limitador = new LimitadorTaxa(50, RECARGA, 100, relogio::get);
+    AtomicInteger aceitas = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch largada = new CountDownLatch(1);
+    for (int i = 0; i < 400; i++) {
+      executor.execute(
+          () -> {
+            try {
+              largada.await();
+              if (limitador.consumir("chave") == 0) {
+                aceitas.incrementAndGet();
+              }
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+
+    largada.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    assertEquals(50, aceitas.get());
+  }
+}
@@ -0,0 +1,168 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.autenticacao.api.app.config.security.socket.OuvinteIntrospeccaoSocket;
+import com.autenticacao.api.app.config.security.socket.ProtocoloIntrospeccaoSocket;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+import com.autenticacao.api.app.service.IntrospeccaoService;
+
+@ExtendWith(MockitoExtension.class)
+class OuvinteIntrospeccaoSocketTest {
+
+  private static final String TOKEN_VALIDO = "header.payload.assinatura";
+  private static final String TOKEN_INVALIDO = "token-invalido";
+
+  @Mock private IntrospeccaoService introspeccaoService;
+
+  @TempDir Path diretorio;
+
+  private Path caminho;
+  private OuvinteIntrospeccaoSocket ouvinte;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    caminho = diretorio.resolve("introspeccao.sock");
+    ouvinte =
+        new OuvinteIntrospeccaoSocket(
+            introspeccaoService, caminho.toString(), "rw-------", 2, 2, 64);
+    ouvinte.iniciar();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ouvinte.parar();
+  }
+
+  @Test
+  @DisplayName("Deve responder várias introspecções em sequência pela mesma conexão")
+  void deveResponderIntrospeccoesNaMesmaConexao() throws Exception {
+    IntrospeccaoResponse ativo =
+        new IntrospeccaoResponse(
+            true, "usuario@email.com", UUID.randomUUID(), "USER", 1_700_000_000L);
+    when(introspeccaoService.introspectar(TOKEN_VALIDO)).thenReturn(ativo);
+    when(introspeccaoService.introspectar(TOKEN_INVALIDO))
+        .thenReturn(IntrospeccaoResponse.inativo());
+
+    try (SocketChannel canal = conectar()) {
+      ProtocoloIntrospeccaoSocket.escreverRequisicao(canal, TOKEN_VALIDO);
+      assertEquals(ativo, ProtocoloIntrospeccaoSocket.lerResposta(canal));
+
+      ProtocoloIntrospeccaoSocket.escreverRequisicao(canal, TOKEN_INVALIDO);
+      assertEquals(IntrospeccaoResponse.inativo(), ProtocoloIntrospeccaoSocket.lerResposta(canal));
+
+      ProtocoloIntrospeccaoSocket.escreverRequisicao(canal, TOKEN_VALIDO);
+      assertEquals(ativo, ProtocoloIntrospeccaoSocket.lerResposta(canal));
+    }
+  }
+
+  @Test
+  @DisplayName("Deve encerrar a conexão quando o tamanho do token exceder o limite")
+  void deveEncerrarConexaoComTokenMaiorQueLimite() throws Exception {
+    try (SocketChannel canal = conectar()) {
+      ByteBuffer requisicao = ByteBuffer.allocate(Integer.BYTES).putInt(65).flip();
+      canal.write(requisicao);
+
+      assertThrows(EOFException.class, () -> ProtocoloIntrospeccaoSocket.lerResposta(canal));
+    }
+    verifyNoInteractions(introspeccaoService);
+  }
+
+  @Test
+  @DisplayName("Deve encerrar a conexão sem introspectar quando o token chegar incompleto")
+  void deveEncerrarConexaoComTokenIncompleto() throws Exception {
+    try (SocketChannel canal = conectar()) {
+      ByteBuffer requisicao = ByteBuffer.allocate(Integer.BYTES).putInt(10).flip();
+      canal.write(requisicao);
+      canal.shutdownOutput();
+
+      assertThrows(EOFException.class, () -> ProtocoloIntrospeccaoSocket.lerResposta(canal));
+    }
+    verifyNoInteractions(introspeccaoService);
+  }
+
+  @Test
+  @DisplayName("Deve lançar EOFException quando a conexão terminar logo após o tamanho")
+  void deveLancarEofComRespostaTruncada() {
+    ReadableByteChannel canal = canal(ByteBuffer.allocate(4).putInt(1).array());
+
+    assertThrows(EOFException.class, () -> ProtocoloIntrospeccaoSocket.lerResposta(canal));
+  }
+
+  @Test
+  @DisplayName("Deve recusar resposta com tamanho negativo, nulo ou acima do máximo possível")
+  void deveRecusarTamanhoDeRespostaInvalido() {
+    int maximo = 1 + 3 * Long.BYTES + Short.BYTES + 1 + 0xFFFF + 0xFF;
+    for (int tamanho : new int[] {-1, 0, maximo + 1, Integer.MAX_VALUE}) {
+      ReadableByteChannel canal =
+          canal(ByteBuffer.allocate(5).putInt(tamanho).put((byte) 0).array());
+
+      IOException erro =
+          assertThrows(IOException.class, () -> ProtocoloIntrospeccaoSocket.lerResposta(canal));
+      assertFalse(erro instanceof EOFException);
+    }
+  }
+
+  @Test
+  @DisplayName("Deve recusar resposta ativa cujo tamanho não comporta o conteúdo")
+  void deveRecusarRespostaMenorQueConteudo() {
+    ReadableByteChannel canal =
+        canal(ByteBuffer.allocate(6).putInt(2).put((byte) 1).put((byte) 0).array());
+
+    assertThrows(IOException.class, () -> ProtocoloIntrospeccaoSocket.lerResposta(canal));
+  }
+
+  @Test
+  @DisplayName("Deve falhar ao iniciar e remover o socket se as permissões não forem aplicadas")
+  void deveFalharAoIniciarSemPermissoes() {
+    Path outro = diretorio.resolve("sem-permissao.sock");
+    OuvinteIntrospeccaoSocket semPermissao =
+        new OuvinteIntrospeccaoSocket(introspeccaoService, outro.toString(), "invalido", 1, 1, 64);
+
+    assertThrows(IOException.class, semPermissao::iniciar);
+    assertFalse(Files.exists(outro));
+  }
+
+  @Test
+  @DisplayName("Deve remover o arquivo do socket ao parar")
+  void deveRemoverSocketAoParar() {
+    assertTrue(Files.exists(caminho));
+
+    ouvinte.parar();
+
+    assertFalse(Files.exists(caminho));
+  }
+
+  private static ReadableByteChannel canal(byte[] bytes) {
+    return Channels.newChannel(new ByteArrayInputStream(bytes));
+  }
+
+  private SocketChannel conectar() throws Exception {
+    SocketChannel canal = SocketChannel.open(StandardProtocolFamily.UNIX);
+    canal.connect(UnixDomainSocketAddress.of(caminho));
+    return canal;
+  }
+}
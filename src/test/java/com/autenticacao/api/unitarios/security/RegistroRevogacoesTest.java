@@ -0,0 +1,102 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.autenticacao.api.app.config.security.revogacao.FiltroBloom;
+import com.autenticacao.api.app.config.security.revogacao.RegistroRevogacoes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RegistroRevogacoesTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RegistroRevogacoes registro;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    registro = new RegistroRevogacoes(meterRegistry, 1_000);
+  }
+
+  @Test
+  @DisplayName("Deve considerar revogado apenas o jti registrado")
+  void deveConsiderarRevogadoApenasJtiRegistrado() {
+    registro.revogar("jti-revogado", Instant.now().plusSeconds(3600));
+
+    assertTrue(registro.estaRevogado("jti-revogado"));
+    assertFalse(registro.estaRevogado("jti-valido"));
+    assertFalse(registro.estaRevogado(null));
+    assertEquals(1.0, meterRegistry.get("tokens_revogados").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Não deve registrar revogação de token já expirado")
+  void naoDeveRegistrarTokenExpirado() {
+    registro.revogar("jti-expirado", Instant.now().minusSeconds(1));
+
+    assertFalse(registro.estaRevogado("jti-expirado"));
+    assertEquals(0, registro.quantidade());
+  }
+
+  @Test
+  @DisplayName("Deve manter revogados os tokens ainda válidos após a limpeza")
+  void deveManterRevogadosAposLimpeza() {
+    registro.revogar("jti-curto", Instant.now().plusMillis(50));
+    registro.revogar("jti-longo", Instant.now().plusSeconds(3600));
+
+    aguardar(100);
+    registro.limparExpirados();
+
+    assertFalse(registro.estaRevogado("jti-curto"));
+    assertTrue(registro.estaRevogado("jti-longo"));
+    assertEquals(1, registro.quantidade());
+  }
+
+  @Test
+  @DisplayName("Filtro de Bloom não deve ter falso negativo mesmo acima da capacidade")
+  void filtroNaoDeveTerFalsoNegativo() {
+    FiltroBloom filtro = new FiltroBloom(100, 0.01);
+    String[] valores = new String[1_000];
+    for (int i = 0; i < valores.length; i++) {
+      valores[i] = UUID.randomUUID().toString();
+      filtro.adicionar(valores[i]);
+    }
+
+    for (String valor : valores) {
+      assertTrue(filtro.podeConter(valor));
+    }
+  }
+
+  @Test
+  @DisplayName("Filtro de Bloom deve respeitar a taxa de falso positivo dentro da capacidade")
+  void filtroDeveRespeitarTaxaFalsoPositivo() {
+    FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filtro.adicionar(UUID.randomUUID().toString());
+    }
+
+    int falsosPositivos = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filtro.podeConter(UUID.randomUUID().toString())) {
+        falsosPositivos++;
+      }
+    }
+
+    assertTrue(falsosPositivos < 300, "falsos positivos: " + falsosPositivos);
+  }
+
+  private void aguardar(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.autenticacao.api.app.config.security.cache.RotacaoRefreshTokenCache;
+import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
+import com.autenticacao.api.app.exception.RefreshTokenInvalidoException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RotacaoRefreshTokenCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private final AtomicInteger rotacoes = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("Requisições simultâneas com o mesmo token devem receber o par de uma única rotação")
+  void deveAgruparRotacoesSimultaneas() throws Exception {
+    RotacaoRefreshTokenCache cache = new RotacaoRefreshTokenCache(meterRegistry, true, 60000, 100);
+    CountDownLatch emRotacao = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Optional<LoginResponseDTO>>> respostas = new ArrayList<>();
+    LoginResponseDTO primeira;
+    try {
+      respostas.add(
+          executor.submit(
+              () ->
+                  cache.rotacionar(
+                      "token-1",
+                      token -> {
+                        emRotacao.countDown();
+                        aguardar(liberar);
+                        return rotacionar(token);
+                      })));
+      assertTrue(emRotacao.await(5, TimeUnit.SECONDS));
+      for (int i = 0; i < 3; i++) {
+        respostas.add(executor.submit(() -> cache.rotacionar("token-1", this::rotacionar)));
+      }
+      liberar.countDown();
+
+      primeira = respostas.get(0).get(5, TimeUnit.SECONDS).orElseThrow();
+      for (Future<Optional<LoginResponseDTO>> resposta : respostas) {
+        assertEquals(primeira, resposta.get(5, TimeUnit.SECONDS).orElseThrow());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, rotacoes.get());
+    assertEquals(Optional.of(primeira), cache.rotacionar("token-1", this::rotacionar));
+    assertEquals(1, rotacoes.get());
+  }
+
+  @Test
+  @DisplayName("Tokens diferentes devem ser rotacionados separadamente")
+  void deveRotacionarTokensDiferentesSeparadamente() {
+    RotacaoRefreshTokenCache cache = new RotacaoRefreshTokenCache(meterRegistry, true, 60000, 100);
+
+    LoginResponseDTO primeiro = cache.rotacionar("token-1", this::rotacionar).orElseThrow();
+    LoginResponseDTO segundo = cache.rotacionar("token-2", this::rotacionar).orElseThrow();
+
+    assertNotEquals(primeiro, segundo);
+    assertEquals(2, rotacoes.get());
+  }
+
+  @Test
+  @DisplayName("Rotação que falha com exceção não deve ficar guardada")
+  void naoDeveGuardarFalha() {
+    RotacaoRefreshTokenCache cache = new RotacaoRefreshTokenCache(meterRegistry, true, 60000, 100);
+
+    assertThrows(
+        RefreshTokenInvalidoException.class,
+        () ->
+            cache.rotacionar(
+                "token-1",
+                token -> {
+                  throw new RefreshTokenInvalidoException("falha");
+                }));
+
+    assertTrue(cache.rotacionar("token-1", this::rotacionar).isPresent());
+    assertEquals(1, rotacoes.get());
+  }
+
+  @Test
+  @DisplayName("Desabilitado, deve rotacionar a cada requisição")
+  void deveRotacionarSempreQuandoDesabilitado() {
+    RotacaoRefreshTokenCache cache = new RotacaoRefreshTokenCache(meterRegistry, false, 60000, 100);
+
+    cache.rotacionar("token-1", this::rotacionar);
+    cache.rotacionar("token-1", this::rotacionar);
+
+    assertEquals(2, rotacoes.get());
+  }
+
+  private Optional<LoginResponseDTO> rotacionar(String token) {
+    int numero = rotacoes.incrementAndGet();
+    return Optional.of(new LoginResponseDTO("acesso-" + numero, "refresh-" + numero));
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
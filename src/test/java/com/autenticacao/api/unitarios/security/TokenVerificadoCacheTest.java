@@ -0,0 +1,99 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.autenticacao.api.app.config.security.TokenService;
+import com.autenticacao.api.app.config.security.cache.TokenVerificado;
+import com.autenticacao.api.app.config.security.cache.TokenVerificadoCache;
+import com.autenticacao.api.app.config.security.jwt.TokenDecodificado;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVerificadoCacheTest {
+
+  private static final String TOKEN = "header.payload.assinatura";
+  private static final String EMAIL = "usuario@email.com";
+
+  @Mock private TokenService tokenService;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private TokenVerificadoCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new TokenVerificadoCache(tokenService, meterRegistry, 100);
+  }
+
+  @Test
+  @DisplayName("Deve verificar o token apenas uma vez e reutilizar o resultado")
+  void deveVerificarTokenApenasUmaVez() {
+    TokenDecodificado decodificado = obterTokenDecodificado(Instant.now().plusSeconds(3600));
+    when(tokenService.verificarToken(TOKEN)).thenReturn(Optional.of(decodificado));
+
+    Optional<TokenVerificado> primeiro = cache.obter(TOKEN);
+    Optional<TokenVerificado> segundo = cache.obter(TOKEN);
+
+    assertTrue(primeiro.isPresent());
+    assertEquals(decodificado.usuarioId(), segundo.orElseThrow().usuario().getId());
+    verify(tokenService, times(1)).verificarToken(TOKEN);
+    assertEquals(
+        1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+  }
+
+  @Test
+  @DisplayName("Não deve armazenar resultado de token inválido")
+  void naoDeveArmazenarTokenInvalido() {
+    when(tokenService.verificarToken(TOKEN)).thenReturn(Optional.empty());
+
+    assertTrue(cache.obter(TOKEN).isEmpty());
+    assertTrue(cache.obter(TOKEN).isEmpty());
+
+    verify(tokenService, times(2)).verificarToken(TOKEN);
+  }
+
+  @Test
+  @DisplayName("Não deve manter em cache token já expirado")
+  void naoDeveManterTokenExpirado() {
+    when(tokenService.verificarToken(TOKEN))
+        .thenReturn(Optional.of(obterTokenDecodificado(Instant.now().minusSeconds(1))));
+
+    cache.obter(TOKEN);
+    cache.obter(TOKEN);
+
+    verify(tokenService, times(2)).verificarToken(TOKEN);
+  }
+
+  @Test
+  @DisplayName("Deve verificar novamente após invalidar o token")
+  void deveVerificarNovamenteAposInvalidar() {
+    when(tokenService.verificarToken(TOKEN))
+        .thenReturn(Optional.of(obterTokenDecodificado(Instant.now().plusSeconds(3600))));
+
+    cache.obter(TOKEN);
+    cache.invalidar(TOKEN);
+    cache.obter(TOKEN);
+
+    verify(tokenService, times(2)).verificarToken(TOKEN);
+  }
+
+  private TokenDecodificado obterTokenDecodificado(Instant expiraEm) {
+    return new TokenDecodificado(
+        "kid", "jti", EMAIL, expiraEm, UUID.randomUUID(), UserRole.USER, true, 0);
+  }
+}
@@ -0,0 +1,87 @@
+package com.autenticacao.api.unitarios.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
+import com.autenticacao.api.app.config.security.ValidadorTokenAcesso;
+import com.autenticacao.api.app.config.security.cache.TokenVerificado;
+import com.autenticacao.api.app.config.security.cache.TokenVerificadoCache;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+@ExtendWith(MockitoExtension.class)
+class ValidadorTokenAcessoTest {
+
+  private static final String TOKEN = "header.payload.assinatura";
+  private static final String JTI = "jti-123";
+  private static final UUID USUARIO_ID = UUID.randomUUID();
+
+  @Mock private TokenVerificadoCache tokenVerificadoCache;
+  @Mock private RevogacaoTokenService revogacaoTokenService;
+
+  @InjectMocks private ValidadorTokenAcesso validador;
+
+  private TokenVerificado verificado;
+
+  @BeforeEach
+  void setUp() {
+    verificado =
+        new TokenVerificado(
+            JTI,
+            new UsuarioAutenticado(USUARIO_ID, "usuario@email.com", UserRole.USER, true),
+            Instant.now().plusSeconds(3600),
+            2);
+  }
+
+  @Test
+  @DisplayName("Deve aceitar token não revogado e com a versão atual do usuário")
+  void deveAceitarTokenVigente() {
+    when(tokenVerificadoCache.obter(TOKEN)).thenReturn(Optional.of(verificado));
+    when(revogacaoTokenService.estaRevogado(JTI)).thenReturn(false);
+    when(revogacaoTokenService.versaoVigente(USUARIO_ID, 2)).thenReturn(true);
+
+    assertEquals(Optional.of(verificado), validador.validar(TOKEN));
+  }
+
+  @Test
+  @DisplayName("Deve recusar token revogado pelo jti")
+  void deveRecusarTokenRevogado() {
+    when(tokenVerificadoCache.obter(TOKEN)).thenReturn(Optional.of(verificado));
+    when(revogacaoTokenService.estaRevogado(JTI)).thenReturn(true);
+
+    assertTrue(validador.validar(TOKEN).isEmpty());
+    verify(revogacaoTokenService, never()).versaoVigente(any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("Deve recusar token emitido antes da revogação das sessões do usuário")
+  void deveRecusarTokenComVersaoAnterior() {
+    when(tokenVerificadoCache.obter(TOKEN)).thenReturn(Optional.of(verificado));
+    when(revogacaoTokenService.estaRevogado(JTI)).thenReturn(false);
+    when(revogacaoTokenService.versaoVigente(USUARIO_ID, 2)).thenReturn(false);
+
+    assertTrue(validador.validar(TOKEN).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve recusar token inválido sem consultar revogações")
+  void deveRecusarTokenInvalido() {
+    when(tokenVerificadoCache.obter(TOKEN)).thenReturn(Optional.empty());
+
+    assertTrue(validador.validar(TOKEN).isEmpty());
+    verifyNoInteractions(revogacaoTokenService);
+  }
+}
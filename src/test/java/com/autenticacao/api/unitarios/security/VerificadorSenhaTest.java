@@ -0,0 +1,121 @@
+package com.autenticacao.api.unitarios.security;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.SERVICO_SOBRECARREGADO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.autenticacao.api.app.config.security.senha.VerificadorSenha;
+import com.autenticacao.api.app.exception.ServicoSobrecarregadoException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class VerificadorSenhaTest {
+
+  private static final String SENHA = "senha123";
+  private static final String HASH = "$2a$10$hash";
+
+  @Mock private PasswordEncoder passwordEncoder;
+
+  private SimpleMeterRegistry meterRegistry;
+  private VerificadorSenha verificador;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    verificador = new VerificadorSenha(passwordEncoder, meterRegistry, 1, 1, 2000, 3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verificador.parar();
+  }
+
+  @Test
+  @DisplayName("Deve verificar a senha no pool e registrar espera e tempo de hash")
+  void deveVerificarSenhaERegistrarMetricas() {
+    when(passwordEncoder.matches(SENHA, HASH)).thenReturn(true);
+    when(passwordEncoder.matches("outra", HASH)).thenReturn(false);
+
+    assertTrue(verificador.verificar(SENHA, HASH));
+    assertFalse(verificador.verificar("outra", HASH));
+
+    assertEquals(2, meterRegistry.get("login.senha.espera").timer().count());
+    assertEquals(2, meterRegistry.get("login.senha.hash").timer().count());
+    assertEquals(0.0, meterRegistry.get("login.senha.fila").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Deve recusar de imediato com Retry-After quando a fila estiver cheia")
+  void deveRecusarQuandoFilaCheia() throws Exception {
+    CountDownLatch iniciou = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+    when(passwordEncoder.matches(SENHA, HASH))
+        .thenAnswer(
+            invocacao -> {
+              iniciou.countDown();
+              liberar.await();
+              return true;
+            });
+
+    CompletableFuture<Boolean> emExecucao =
+        CompletableFuture.supplyAsync(() -> verificador.verificar(SENHA, HASH));
+    assertTrue(iniciou.await(2, TimeUnit.SECONDS));
+    CompletableFuture<Boolean> naFila =
+        CompletableFuture.supplyAsync(() -> verificador.verificar(SENHA, HASH));
+    aguardarFila(1);
+
+    ServicoSobrecarregadoException ex =
+        assertThrows(
+            ServicoSobrecarregadoException.class, () -> verificador.verificar(SENHA, HASH));
+    assertEquals(SERVICO_SOBRECARREGADO.getChave(), ex.getMessage());
+    assertEquals(3, ex.getRetryAfterSegundos());
+    assertEquals(1.0, meterRegistry.get("login.senha.recusadas").counter().count());
+
+    liberar.countDown();
+    assertTrue(emExecucao.get(2, TimeUnit.SECONDS));
+    assertTrue(naFila.get(2, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("Deve recusar quando a espera pela verificação passar do limite")
+  void deveRecusarQuandoEsperaExcedida() {
+    verificador.parar();
+    verificador = new VerificadorSenha(passwordEncoder, new SimpleMeterRegistry(), 1, 1, 50, 1);
+    CountDownLatch liberar = new CountDownLatch(1);
+    lenient()
+        .when(passwordEncoder.matches(SENHA, HASH))
+        .thenAnswer(
+            invocacao -> {
+              liberar.await();
+              return true;
+            });
+
+    try {
+      assertThrows(ServicoSobrecarregadoException.class, () -> verificador.verificar(SENHA, HASH));
+    } finally {
+      liberar.countDown();
+    }
+  }
+
+  private void aguardarFila(int tamanho) throws InterruptedException {
+    long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+    while (meterRegistry.get("login.senha.fila").gauge().value() < tamanho
+        && System.nanoTime() < limite) {
+      Thread.sleep(5);
+    }
+  }
+}
@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
 import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
 import com.autenticacao.api.app.domain.entity.Autenticacao;
 import com.autenticacao.api.app.domain.entity.Usuario;
@@ -28,6 +29,7 @@ import com.autenticacao.api.app.exception.AutenticacaoJaExistenteException;
 import com.autenticacao.api.app.exception.UsuarioNaoEncontradoException;
 import com.autenticacao.api.app.repository.AutenticacaoRepository;
 import com.autenticacao.api.app.service.HistoricoAutenticacaoService;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
 import com.autenticacao.api.app.service.impl.AutenticacaoCadastroServiceImpl;
 import com.autenticacao.api.app.util.enums.UserRole;
 
@@ -39,6 +41,8 @@ class AutenticacaoCadastroServiceImplTest {
   @Mock private AutenticacaoRepository autenticacaoRepository;
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private HistoricoAutenticacaoService historicoAutenticacaoService;
+  @Mock private RevogacaoTokenService revogacaoTokenService;
+  @Mock private CredencialVerificadaCache credencialVerificadaCache;
   private Usuario usuario;
   private CadastroUsuarioRequest cadastroRequest;
   private Autenticacao autenticacaoExistente;
@@ -116,6 +120,8 @@ class AutenticacaoCadastroServiceImplTest {
     Autenticacao salvo = captor.getValue();
 
     assertThat(salvo.getAtivo()).isFalse();
+    verify(credencialVerificadaCache).invalidar(usuarioId);
+    verify(revogacaoTokenService).revogarSessoes(usuarioId);
   }
 
   @Test
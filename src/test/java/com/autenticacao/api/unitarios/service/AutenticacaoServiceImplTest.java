@@ -7,6 +7,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,12 +19,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.Authentication;
 
 import com.autenticacao.api.app.config.security.TokenService;
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
+import com.autenticacao.api.app.config.security.jwt.TokenDecodificado;
+import com.autenticacao.api.app.config.security.limite.DetectorAtaqueCredenciais;
 import com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider;
+import com.autenticacao.api.app.config.security.senha.AtualizadorHashSenha;
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
 import com.autenticacao.api.app.domain.DTO.request.AlterarSenhaRequest;
 import com.autenticacao.api.app.domain.DTO.request.LoginUsuarioRequestDTO;
 import com.autenticacao.api.app.domain.DTO.response.LoginResponseDTO;
@@ -31,10 +35,12 @@ import com.autenticacao.api.app.exception.AutenticacaoApiRunTimeException;
 import com.autenticacao.api.app.exception.UsuarioNaoAutenticadoException;
 import com.autenticacao.api.app.exception.UsuarioNaoEncontradoException;
 import com.autenticacao.api.app.repository.UsuarioRepository;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
 import com.autenticacao.api.app.service.SenhaService;
+import com.autenticacao.api.app.service.TentativaLoginService;
 import com.autenticacao.api.app.service.impl.AutenticacaoServiceImpl;
 import com.autenticacao.api.app.service.impl.RefreshTokenServiceImpl;
-import com.autenticacao.api.app.service.impl.TentativaLoginServiceImpl;
+import com.autenticacao.api.app.util.enums.UserRole;
 
 @ExtendWith(MockitoExtension.class)
 class AutenticacaoServiceImplTest {
@@ -45,13 +51,17 @@ class AutenticacaoServiceImplTest {
   @Mock private TokenService tokenService;
   @Mock private RefreshTokenServiceImpl refreshTokenService;
   @Mock private SenhaService senhaService;
-  @Mock private TentativaLoginServiceImpl tentativaLoginService;
-  @Mock private AuthenticationManager authenticationManager;
+  @Mock private TentativaLoginService tentativaLoginService;
+  @Mock private DetectorAtaqueCredenciais detectorAtaqueCredenciais;
+  @Mock private CredencialVerificadaCache credencialVerificadaCache;
+  @Mock private AtualizadorHashSenha atualizadorHashSenha;
   @Mock private UsuarioAutenticadoProvider usuarioAutenticadoProvider;
+  @Mock private RevogacaoTokenService revogacaoTokenService;
 
   private static final UUID USUARIO_ID = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
   private static final String EMAIL = "usuario@email.com";
   private static final String SENHA = "senha123";
+  private static final String SENHA_HASH = "$2a$10$hash";
 
   private Usuario usuario;
   private LoginUsuarioRequestDTO loginRequest;
@@ -68,34 +78,30 @@ class AutenticacaoServiceImplTest {
   @Test
   @DisplayName("Deve realizar login com sucesso e retornar tokens válidos")
   void login_DeveRetornarTokensQuandoCredenciaisValidas() {
-    when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario));
-    doNothing().when(tentativaLoginService).validarBloqueio(usuario);
+    DadosLogin dadosLogin = criarDadosLogin();
+    when(usuarioRepository.buscarDadosLogin(EMAIL)).thenReturn(Optional.of(dadosLogin));
+    when(credencialVerificadaCache.verificar(USUARIO_ID, SENHA, SENHA_HASH)).thenReturn(true);
 
-    Authentication authentication = mock(Authentication.class);
-    when(authentication.getPrincipal()).thenReturn(usuario);
-    when(authenticationManager.authenticate(any())).thenReturn(authentication);
-
-    doNothing().when(tentativaLoginService).resetarTentativas(usuario);
-    doNothing().when(senhaService).validarSenhaExpirada(usuario);
-
-    when(tokenService.generateToken(usuario)).thenReturn("token-de-acesso");
-    when(refreshTokenService.createRefreshToken(usuario)).thenReturn("refresh-token");
+    when(tokenService.generateToken(any(Usuario.class))).thenReturn("token-de-acesso");
+    when(refreshTokenService.createRefreshToken(any(Usuario.class))).thenReturn("refresh-token");
 
     LoginResponseDTO response = autenticacaoService.login(loginRequest);
 
     assertThat(response.token()).isEqualTo("token-de-acesso");
     assertThat(response.refreshToken()).isEqualTo("refresh-token");
 
-    verify(tentativaLoginService).validarBloqueio(usuario);
-    verify(authenticationManager).authenticate(any());
-    verify(tentativaLoginService).resetarTentativas(usuario);
-    verify(senhaService).validarSenhaExpirada(usuario);
+    verify(tentativaLoginService).validarBloqueio(dadosLogin);
+    verify(tentativaLoginService).resetarTentativas(dadosLogin);
+    verify(senhaService).validarSenhaExpirada(dadosLogin.dataUltimaAlteracaoSenha());
+    verify(atualizadorHashSenha).atualizarSeNecessario(USUARIO_ID, SENHA, SENHA_HASH);
+    verify(tokenService).generateToken(argThat(u -> USUARIO_ID.equals(u.getId())));
+    verify(usuarioRepository, never()).findByEmail(any());
   }
 
   @Test
   @DisplayName("Deve lançar exceção ao tentar login com usuário não cadastrado")
   void loginDeveLancarExcecaoQuandoUsuarioNaoEncontrado() {
-    when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+    when(usuarioRepository.buscarDadosLogin(EMAIL)).thenReturn(Optional.empty());
 
     AutenticacaoApiRunTimeException exception =
         assertThrows(
@@ -104,17 +110,15 @@ class AutenticacaoServiceImplTest {
     assertThat(exception.getMessage()).contains(ERRO_REALIZAR_LOGIN.getChave());
 
     verify(tentativaLoginService, never()).validarBloqueio(any());
-    verify(authenticationManager, never()).authenticate(any());
+    verify(credencialVerificadaCache, never()).verificar(any(), any(), any());
   }
 
   @Test
   @DisplayName("Deve registrar falha e lançar exceção customizada quando credenciais inválidas")
   void loginDeveRegistrarFalhaEAguardarExcecaoParaCredenciaisInvalidas() {
-    when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario));
-    doNothing().when(tentativaLoginService).validarBloqueio(any(Usuario.class));
-
-    when(authenticationManager.authenticate(any()))
-        .thenThrow(new BadCredentialsException("Credenciais inválidas"));
+    DadosLogin dadosLogin = criarDadosLogin();
+    when(usuarioRepository.buscarDadosLogin(EMAIL)).thenReturn(Optional.of(dadosLogin));
+    when(credencialVerificadaCache.verificar(USUARIO_ID, SENHA, SENHA_HASH)).thenReturn(false);
 
     AutenticacaoApiRunTimeException ex =
         assertThrows(
@@ -122,13 +126,17 @@ class AutenticacaoServiceImplTest {
 
     assertThat(ex.getMessage()).contains(ERRO_REALIZAR_LOGIN.getChave());
 
-    verify(tentativaLoginService).registrarFalha(argThat(u -> u.getEmail().equals(EMAIL)));
+    verify(tentativaLoginService).registrarFalha(dadosLogin);
+    verify(detectorAtaqueCredenciais).registrarFalha();
+    verify(tentativaLoginService, never()).resetarTentativas(any());
+    verify(atualizadorHashSenha, never()).atualizarSeNecessario(any(), any(), any());
+    verify(tokenService, never()).generateToken(any());
   }
 
   @Test
   @DisplayName("Deve lançar exceção quando usuário estiver bloqueado no login")
   void loginDeveLancarExcecaoQuandoUsuarioBloqueado() {
-    when(usuarioRepository.findByEmail(EMAIL)).thenReturn(Optional.of(usuario));
+    when(usuarioRepository.buscarDadosLogin(EMAIL)).thenReturn(Optional.of(criarDadosLogin()));
     doThrow(new RuntimeException("Usuário bloqueado"))
         .when(tentativaLoginService)
         .validarBloqueio(any());
@@ -139,7 +147,7 @@ class AutenticacaoServiceImplTest {
 
     assertThat(ex.getMessage()).contains(ERRO_REALIZAR_LOGIN.getChave());
 
-    verify(authenticationManager, never()).authenticate(any());
+    verify(credencialVerificadaCache, never()).verificar(any(), any(), any());
   }
 
   // ====== ALTERAR SENHA - CASOS DE SUCESSO E ERRO ======
@@ -214,4 +222,46 @@ class AutenticacaoServiceImplTest {
     assertThat(ex.getMessage()).contains(ERRO_ALTERAR_SENHA.getChave());
     assertThat(ex.getCause()).isInstanceOf(RuntimeException.class);
   }
+
+  // ====== LOGOUT ======
+
+  @Test
+  @DisplayName("Deve revogar o token de acesso pelo jti e remover o refresh token no logout")
+  void logoutDeveRevogarTokenDeAcessoERemoverRefreshToken() {
+    Instant expiraEm = Instant.now().plusSeconds(3600);
+    when(tokenService.verificarToken("token-de-acesso"))
+        .thenReturn(
+            Optional.of(
+                new TokenDecodificado(
+                    "kid", "jti-123", EMAIL, expiraEm, USUARIO_ID, UserRole.USER, true, 0)));
+
+    autenticacaoService.logout("token-de-acesso", "refresh-token");
+
+    verify(revogacaoTokenService).revogar("jti-123", expiraEm);
+    verify(refreshTokenService).deleteByToken("refresh-token");
+  }
+
+  @Test
+  @DisplayName("Deve apenas remover o refresh token quando o token de acesso já for inválido")
+  void logoutNaoDeveRevogarTokenDeAcessoInvalido() {
+    when(tokenService.verificarToken("token-invalido")).thenReturn(Optional.empty());
+
+    autenticacaoService.logout("token-invalido", "refresh-token");
+
+    verify(revogacaoTokenService, never()).revogar(any(), any());
+    verify(refreshTokenService).deleteByToken("refresh-token");
+  }
+
+  private DadosLogin criarDadosLogin() {
+    return new DadosLogin(
+        USUARIO_ID,
+        EMAIL,
+        SENHA_HASH,
+        true,
+        UserRole.USER,
+        0L,
+        0,
+        null,
+        LocalDateTime.now().minusDays(1));
+  }
 }
@@ -24,6 +24,7 @@ import com.autenticacao.api.app.domain.entity.HistoricoUsuario;
 import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.domain.mapper.UsuarioCloneMapper;
 import com.autenticacao.api.app.repository.HistoricoUsuarioRepository;
+import com.autenticacao.api.app.repository.UsuarioRepository;
 import com.autenticacao.api.app.service.UsuarioComparadorService;
 import com.autenticacao.api.app.service.impl.HistoricoUsuarioServiceImpl;
 import com.autenticacao.api.app.util.enums.TipoMovimentacao;
@@ -41,6 +42,8 @@ class HistoricoUsuarioServiceImplTest {
 
   @Mock private UsuarioComparadorService usuarioComparadorService;
 
+  @Mock private UsuarioRepository usuarioRepository;
+
   private Usuario usuarioAntes;
   private Usuario usuarioResponsavel;
   private Usuario cloneUsuario;
@@ -72,11 +75,14 @@ class HistoricoUsuarioServiceImplTest {
     when(usuarioComparadorService.extrairDiferencas(cloneUsuario, cloneUsuario))
         .thenReturn(camposDiferenca);
 
+    when(usuarioRepository.getReferenceById(usuarioResponsavel.getId()))
+        .thenReturn(usuarioResponsavel);
+
     try (MockedStatic<UsuarioAutenticadoProvider> mockedStatic =
         mockStatic(UsuarioAutenticadoProvider.class)) {
       mockedStatic
-          .when(UsuarioAutenticadoProvider::obterUsuarioLogado)
-          .thenReturn(usuarioResponsavel);
+          .when(UsuarioAutenticadoProvider::obterIdUsuarioLogado)
+          .thenReturn(usuarioResponsavel.getId());
 
       historicoService.registrarHistoricoCompleto(usuarioAntes, cloneUsuario);
 
@@ -103,11 +109,14 @@ class HistoricoUsuarioServiceImplTest {
         .when(historicoRepository)
         .save(any(HistoricoUsuario.class));
 
+    when(usuarioRepository.getReferenceById(usuarioResponsavel.getId()))
+        .thenReturn(usuarioResponsavel);
+
     try (MockedStatic<UsuarioAutenticadoProvider> mockedStatic =
         mockStatic(UsuarioAutenticadoProvider.class)) {
       mockedStatic
-          .when(UsuarioAutenticadoProvider::obterUsuarioLogado)
-          .thenReturn(usuarioResponsavel);
+          .when(UsuarioAutenticadoProvider::obterIdUsuarioLogado)
+          .thenReturn(usuarioResponsavel.getId());
 
       RuntimeException ex =
           assertThrows(
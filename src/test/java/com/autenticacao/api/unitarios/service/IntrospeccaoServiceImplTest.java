@@ -0,0 +1,101 @@
+package com.autenticacao.api.unitarios.service;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.INTROSPECCAO_LOTE_EXCEDE_LIMITE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
+import com.autenticacao.api.app.config.security.ValidadorTokenAcesso;
+import com.autenticacao.api.app.config.security.cache.TokenVerificado;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoLoteResponse;
+import com.autenticacao.api.app.domain.DTO.response.IntrospeccaoResponse;
+import com.autenticacao.api.app.exception.ValidacaoException;
+import com.autenticacao.api.app.service.impl.IntrospeccaoServiceImpl;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+@ExtendWith(MockitoExtension.class)
+class IntrospeccaoServiceImplTest {
+
+  private static final UUID USUARIO_ID = UUID.randomUUID();
+  private static final String EMAIL = "usuario@email.com";
+  private static final Instant EXPIRA_EM = Instant.parse("2030-01-01T00:00:00Z");
+
+  @Mock private ValidadorTokenAcesso validadorTokenAcesso;
+
+  private IntrospeccaoServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new IntrospeccaoServiceImpl(validadorTokenAcesso, 3);
+  }
+
+  @Test
+  @DisplayName("Deve retornar os dados do token quando estiver ativo")
+  void deveRetornarDadosDoTokenAtivo() {
+    when(validadorTokenAcesso.validar("token-ativo")).thenReturn(Optional.of(verificado(true)));
+
+    IntrospeccaoResponse response = service.introspectar("token-ativo");
+
+    assertTrue(response.active());
+    assertEquals(EMAIL, response.sub());
+    assertEquals(USUARIO_ID, response.uid());
+    assertEquals("ADMIN", response.role());
+    assertEquals(EXPIRA_EM.getEpochSecond(), response.exp());
+  }
+
+  @Test
+  @DisplayName("Deve retornar apenas active=false para token inválido ou de usuário inativo")
+  void deveRetornarInativo() {
+    when(validadorTokenAcesso.validar("token-invalido")).thenReturn(Optional.empty());
+    when(validadorTokenAcesso.validar("token-usuario-inativo"))
+        .thenReturn(Optional.of(verificado(false)));
+
+    assertEquals(IntrospeccaoResponse.inativo(), service.introspectar("token-invalido"));
+    assertEquals(IntrospeccaoResponse.inativo(), service.introspectar("token-usuario-inativo"));
+    assertNull(IntrospeccaoResponse.inativo().sub());
+  }
+
+  @Test
+  @DisplayName("Deve responder o lote na ordem enviada verificando tokens repetidos uma só vez")
+  void deveIntrospectarLoteNaOrdem() {
+    when(validadorTokenAcesso.validar("a")).thenReturn(Optional.of(verificado(true)));
+    when(validadorTokenAcesso.validar("b")).thenReturn(Optional.empty());
+
+    IntrospeccaoLoteResponse response = service.introspectarLote(List.of("a", "b", "a"));
+
+    assertEquals(
+        List.of(true, false, true),
+        response.resultados().stream().map(IntrospeccaoResponse::active).toList());
+    verify(validadorTokenAcesso, times(1)).validar("a");
+  }
+
+  @Test
+  @DisplayName("Deve recusar lote acima do tamanho máximo")
+  void deveRecusarLoteAcimaDoLimite() {
+    ValidacaoException ex =
+        assertThrows(
+            ValidacaoException.class,
+            () -> service.introspectarLote(Collections.nCopies(4, "token")));
+
+    assertEquals(INTROSPECCAO_LOTE_EXCEDE_LIMITE.getChave(), ex.getMessage());
+    verifyNoInteractions(validadorTokenAcesso);
+  }
+
+  private TokenVerificado verificado(boolean ativo) {
+    return new TokenVerificado(
+        "jti", new UsuarioAutenticado(USUARIO_ID, EMAIL, UserRole.ADMIN, ativo), EXPIRA_EM, 0);
+  }
+}
@@ -3,27 +3,42 @@ package com.autenticacao.api.unitarios.service;
 import static com.autenticacao.api.app.util.enums.MensagemSistema.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.autenticacao.api.app.config.security.provider.TokenGenerator;
+import com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider;
+import com.autenticacao.api.app.domain.DTO.RefreshTokenRotacionado;
+import com.autenticacao.api.app.domain.DTO.SessaoRefreshToken;
+import com.autenticacao.api.app.domain.DTO.response.SessaoResponse;
 import com.autenticacao.api.app.domain.entity.RefreshToken;
 import com.autenticacao.api.app.domain.entity.Usuario;
 import com.autenticacao.api.app.exception.RefreshTokenInvalidoException;
 import com.autenticacao.api.app.repository.RefreshTokenRepository;
 import com.autenticacao.api.app.service.impl.RefreshTokenServiceImpl;
+import com.autenticacao.api.app.util.enums.UserRole;
 
 @ExtendWith(MockitoExtension.class)
 class RefreshTokenServiceImplTest {
@@ -36,11 +51,14 @@ class RefreshTokenServiceImplTest {
 
   @Mock private Usuario usuario;
 
+  @Mock private SessaoRefreshToken sessao;
+
   @BeforeEach
   void setUp() {
     // Configura validade do token para 7 dias
     usuario = new Usuario();
     ReflectionTestUtils.setField(service, "validadeTokenMinutos", 10080L);
+    ReflectionTestUtils.setField(service, "maxSessoes", 10);
   }
 
   // ======= CRIAÇÃO DE REFRESH TOKEN =======
@@ -55,7 +73,10 @@ class RefreshTokenServiceImplTest {
     String resultado = service.createRefreshToken(usuario);
 
     assertEquals(tokenEsperado, resultado);
-    verify(refreshTokenRepository).save(any(RefreshToken.class));
+    ArgumentCaptor<RefreshToken> salvo = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(refreshTokenRepository).save(salvo.capture());
+    assertArrayEquals(sha256(tokenEsperado), salvo.getValue().getTokenHash());
+    verify(refreshTokenRepository).removerExcedentes(isNull(), any(LocalDateTime.class), eq(10));
   }
 
   @Test
@@ -69,110 +90,111 @@ class RefreshTokenServiceImplTest {
     assertEquals(ERRO_CRIAR_REFRESH_TOKEN.getChave(), exception.getMessage());
   }
 
-  // ======= VALIDAÇÃO DE TOKEN =======
   @Test
-  @DisplayName("Deve validar token válido com sucesso")
-  void deveValidarTokenValidoComSucesso() {
-    String token = "abc123";
-    RefreshToken refreshToken = new RefreshToken();
-    refreshToken.setToken(token);
-    refreshToken.setExpiryDate(LocalDateTime.now().plusMinutes(10));
+  @DisplayName("Não deve remover sessões quando o limite estiver desligado")
+  void naoDeveRemoverSessoesSemLimite() {
+    ReflectionTestUtils.setField(service, "maxSessoes", 0);
+    when(tokenGenerator.gerarToken()).thenReturn("token123");
 
-    when(refreshTokenRepository.findByToken(token)).thenReturn(Optional.of(refreshToken));
+    service.createRefreshToken(usuario);
 
-    assertTrue(service.isValid(token));
+    verify(refreshTokenRepository, never()).removerExcedentes(any(), any(), anyInt());
   }
 
+  // ======= SESSÕES =======
   @Test
-  @DisplayName("Deve retornar falso para token expirado")
-  void deveRetornarFalseParaTokenExpirado() {
-    String token = "abc123";
-    RefreshToken tokenExpirado = new RefreshToken();
-    tokenExpirado.setToken(token);
-    tokenExpirado.setExpiryDate(LocalDateTime.now().minusMinutes(1));
-
-    when(refreshTokenRepository.findByToken(token)).thenReturn(Optional.of(tokenExpirado));
-
-    assertFalse(service.isValid(token));
-  }
-
-  @Test
-  @DisplayName("Deve lançar exceção para token nulo ou vazio na validação e obtenção de usuário")
-  void deveLancarExcecaoSeTokenNuloOuVazio() {
-    assertThrows(RefreshTokenInvalidoException.class, () -> service.isValid(null));
-    assertThrows(RefreshTokenInvalidoException.class, () -> service.isValid(""));
-    assertThrows(RefreshTokenInvalidoException.class, () -> service.getUsuario(null));
-    assertThrows(RefreshTokenInvalidoException.class, () -> service.getUsuario(""));
+  @DisplayName("Deve listar as sessões ativas do usuário autenticado")
+  void deveListarSessoesDoUsuarioAutenticado() {
+    UUID usuarioId = UUID.randomUUID();
+    List<SessaoResponse> sessoes =
+        List.of(new SessaoResponse(1L, LocalDateTime.now().plusDays(1), 2));
+    when(refreshTokenRepository.buscarSessoes(eq(usuarioId), any(LocalDateTime.class)))
+        .thenReturn(sessoes);
+
+    try (MockedStatic<UsuarioAutenticadoProvider> provider =
+        mockStatic(UsuarioAutenticadoProvider.class)) {
+      provider.when(UsuarioAutenticadoProvider::obterIdUsuarioLogado).thenReturn(usuarioId);
+
+      assertEquals(sessoes, service.listarSessoes());
+    }
   }
 
+  // ======= ROTAÇÃO DE TOKEN =======
   @Test
-  @DisplayName("Deve lançar exceção ao ocorrer erro interno na validação do token")
-  void deveLancarExcecaoSeErroAoValidarToken() {
-    when(refreshTokenRepository.findByToken(anyString())).thenThrow(new RuntimeException());
-
-    RuntimeException exception =
-        assertThrows(RuntimeException.class, () -> service.isValid("token"));
-
-    assertEquals(ERRO_VALIDAR_REFRESH_TOKEN.getChave(), exception.getMessage());
+  @DisplayName("Deve rotacionar token válido e devolver o usuário para emitir o token de acesso")
+  void deveRotacionarTokenValido() {
+    UUID usuarioId = UUID.randomUUID();
+    when(sessao.getUsuarioId()).thenReturn(usuarioId);
+    when(sessao.getEmail()).thenReturn("email@email.com");
+    when(sessao.getRole()).thenReturn(UserRole.USER.name());
+    when(sessao.getAtivo()).thenReturn(true);
+    when(sessao.getVersaoToken()).thenReturn(3L);
+    when(sessao.usuario()).thenCallRealMethod();
+    when(tokenGenerator.gerarToken()).thenReturn("novo456");
+    when(refreshTokenRepository.rotacionar(
+            aryEq(sha256("abc123")),
+            aryEq(sha256("novo456")),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            eq(10)))
+        .thenReturn(Optional.of(sessao));
+
+    RefreshTokenRotacionado resultado = service.rotacionar("abc123").orElseThrow();
+
+    assertEquals("novo456", resultado.refreshToken());
+    assertEquals(usuarioId, resultado.usuario().getId());
+    assertEquals(UserRole.USER, resultado.usuario().getRole());
+    assertEquals(3L, resultado.usuario().getAutenticacao().getVersaoToken());
   }
 
-  // ======= OBTENÇÃO DE USUÁRIO PELO TOKEN =======
   @Test
-  @DisplayName("Deve retornar usuário com token válido")
-  void deveRetornarUsuarioComTokenValido() {
-    String token = "abc123";
-
-    RefreshToken refreshToken = new RefreshToken();
-    refreshToken.setToken(token);
-    refreshToken.setUsuario(this.usuario);
-    refreshToken.setExpiryDate(LocalDateTime.now().plusMinutes(10));
+  @DisplayName("Deve retornar vazio quando o token não puder ser rotacionado")
+  void deveRetornarVazioParaTokenInvalido() {
+    when(refreshTokenRepository.rotacionar(aryEq(sha256("xyz")), any(), any(), any(), anyInt()))
+        .thenReturn(Optional.empty());
 
-    when(refreshTokenRepository.findByToken(token)).thenReturn(Optional.of(refreshToken));
-
-    Usuario resultado = service.getUsuario(token);
-
-    assertEquals(this.usuario, resultado);
+    assertTrue(service.rotacionar("xyz").isEmpty());
   }
 
   @Test
-  @DisplayName("Deve lançar exceção para token expirado ou inexistente ao obter usuário")
-  void deveLancarExcecaoComTokenExpiradoOuInexistente() {
-    String token = "xyz";
-
-    RefreshToken expirado = new RefreshToken();
-    expirado.setExpiryDate(LocalDateTime.now().minusMinutes(5));
-    when(refreshTokenRepository.findByToken(token)).thenReturn(Optional.of(expirado));
-
-    assertThrows(RefreshTokenInvalidoException.class, () -> service.getUsuario(token));
-
-    when(refreshTokenRepository.findByToken(token)).thenReturn(Optional.empty());
-
-    assertThrows(RefreshTokenInvalidoException.class, () -> service.getUsuario(token));
+  @DisplayName("Deve lançar exceção para token nulo ou vazio na rotação")
+  void deveLancarExcecaoSeTokenNuloOuVazio() {
+    assertThrows(RefreshTokenInvalidoException.class, () -> service.rotacionar(null));
+    assertThrows(RefreshTokenInvalidoException.class, () -> service.rotacionar(""));
+    verifyNoInteractions(refreshTokenRepository);
   }
 
   @Test
-  @DisplayName("Deve lançar exceção ao ocorrer erro interno ao buscar usuário por token")
-  void deveLancarExcecaoAoBuscarUsuarioPorTokenComErroInterno() {
-    when(refreshTokenRepository.findByToken(anyString()))
-        .thenThrow(new RuntimeException("Erro ao buscar token"));
+  @DisplayName("Deve lançar exceção ao ocorrer erro interno na rotação do token")
+  void deveLancarExcecaoSeErroAoRotacionarToken() {
+    when(refreshTokenRepository.rotacionar(any(), any(), any(), any(), anyInt()))
+        .thenThrow(new RuntimeException());
 
     RuntimeException exception =
-        assertThrows(RuntimeException.class, () -> service.getUsuario("token123"));
+        assertThrows(RuntimeException.class, () -> service.rotacionar("token"));
 
-    assertEquals(ERRO_OBTER_USUARIO_REFRESH_TOKEN.getChave(), exception.getMessage());
+    assertEquals(ERRO_CRIAR_REFRESH_TOKEN.getChave(), exception.getMessage());
   }
 
   // ======= DELEÇÃO DE TOKENS =======
   @Test
   @DisplayName("Deve deletar tokens do usuário com sucesso")
   void deveDeletarTokensDoUsuarioComSucesso() {
-    doNothing().when(refreshTokenRepository).deleteByUsuario(usuario);
+    when(refreshTokenRepository.deleteByUsuario(usuario)).thenReturn(2);
 
     assertDoesNotThrow(() -> service.deleteByUsuario(usuario));
 
     verify(refreshTokenRepository).deleteByUsuario(usuario);
   }
 
+  @Test
+  @DisplayName("Deve remover o refresh token pelo hash, sem usar o valor do token")
+  void deveRemoverTokenPeloHash() {
+    service.deleteByToken("abc123");
+
+    verify(refreshTokenRepository).deleteByTokenHash(aryEq(sha256("abc123")));
+  }
+
   @Test
   @DisplayName("Deve lançar exceção ao tentar deletar tokens com erro interno")
   void deveLancarExcecaoAoDeletarTokensComErroInterno() {
@@ -185,4 +207,27 @@ class RefreshTokenServiceImplTest {
 
     assertEquals(ERRO_REMOVER_REFRESH_TOKENS_USUARIO.getChave(), exception.getMessage());
   }
+
+  @Test
+  @DisplayName("Deve revogar as sessões em lotes, sem repetir usuários")
+  void deveRevogarSessoesEmLotes() {
+    ReflectionTestUtils.setField(service, "tamanhoLoteRevogacao", 2);
+    UUID a = UUID.randomUUID();
+    UUID b = UUID.randomUUID();
+    UUID c = UUID.randomUUID();
+    when(refreshTokenRepository.removerPorUsuarios(List.of(a, b))).thenReturn(3);
+    when(refreshTokenRepository.removerPorUsuarios(List.of(c))).thenReturn(1);
+
+    assertEquals(4, service.revogarPorUsuarios(List.of(a, b, a, c)));
+
+    verify(refreshTokenRepository, times(2)).removerPorUsuarios(any());
+  }
+
+  private static byte[] sha256(String valor) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(valor.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +24,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.autenticacao.api.app.config.security.cache.CredencialVerificadaCache;
 import com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider;
 import com.autenticacao.api.app.domain.entity.Autenticacao;
 import com.autenticacao.api.app.domain.entity.HistoricoAutenticacao;
@@ -32,6 +34,7 @@ import com.autenticacao.api.app.exception.SenhaExpiradaException;
 import com.autenticacao.api.app.exception.ValidacaoException;
 import com.autenticacao.api.app.repository.AutenticacaoRepository;
 import com.autenticacao.api.app.repository.HistoricoAutenticacaoRepository;
+import com.autenticacao.api.app.service.RevogacaoTokenService;
 import com.autenticacao.api.app.service.impl.SenhaServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,12 +46,17 @@ class SenhaServiceImplTest {
 
   @Mock private HistoricoAutenticacaoRepository historicoAutenticacaoRepository;
 
+  @Mock private RevogacaoTokenService revogacaoTokenService;
+
+  @Mock private CredencialVerificadaCache credencialVerificadaCache;
+
   @InjectMocks private SenhaServiceImpl service;
 
   private Usuario usuario;
   private Autenticacao autenticacao;
 
   private final long validadeSenhaDias = 90L;
+  private final UUID usuarioId = UUID.randomUUID();
 
   @BeforeEach
   void setup() {
@@ -70,40 +78,42 @@ class SenhaServiceImplTest {
   @Test
   @DisplayName("Valida senha sem lançar exceção quando senha não expirada")
   void deveValidarSenhaSemExcecaoQuandoNaoExpirada() {
-    when(historicoAutenticacaoRepository.findTopByUsuarioResponsavelOrderByDataHoraCriacaoDesc(
-            usuario))
-        .thenReturn(
-            Optional.of(
-                criarHistoricoComData(LocalDateTime.now().minusDays(validadeSenhaDias - 1))));
+    LocalDateTime dataAlteracao = LocalDateTime.now().minusDays(validadeSenhaDias - 1);
 
-    assertDoesNotThrow(() -> service.validarSenhaExpirada(usuario));
+    assertDoesNotThrow(() -> service.validarSenhaExpirada(dataAlteracao));
+    verifyNoInteractions(historicoAutenticacaoRepository);
   }
 
   @Test
   @DisplayName("Lança SenhaExpiradaException quando senha está expirada")
   void deveLancarExcecaoSenhaExpirada() {
-    when(historicoAutenticacaoRepository.findTopByUsuarioResponsavelOrderByDataHoraCriacaoDesc(
-            usuario))
-        .thenReturn(
-            Optional.of(
-                criarHistoricoComData(LocalDateTime.now().minusDays(validadeSenhaDias + 1))));
+    LocalDateTime dataAlteracao = LocalDateTime.now().minusDays(validadeSenhaDias + 1);
 
     SenhaExpiradaException ex =
-        assertThrows(SenhaExpiradaException.class, () -> service.validarSenhaExpirada(usuario));
+        assertThrows(
+            SenhaExpiradaException.class, () -> service.validarSenhaExpirada(dataAlteracao));
     assertEquals(SENHA_EXPIRADA.getChave(), ex.getMessage());
   }
 
   @Test
-  @DisplayName("Lança AutenticacaoApiRunTimeException quando ocorre erro inesperado na validação")
-  void deveLancarExcecaoGenericaSeErroNoMetodo() {
-    when(historicoAutenticacaoRepository.findTopByUsuarioResponsavelOrderByDataHoraCriacaoDesc(
-            usuario))
-        .thenThrow(new RuntimeException("Erro inesperado"));
+  @DisplayName("Lança SenhaExpiradaException quando não há alteração de senha registrada")
+  void deveLancarExcecaoSenhaExpiradaSemHistorico() {
+    SenhaExpiradaException ex =
+        assertThrows(SenhaExpiradaException.class, () -> service.validarSenhaExpirada(null));
+    assertEquals(SENHA_EXPIRADA.getChave(), ex.getMessage());
+  }
 
-    AutenticacaoApiRunTimeException ex =
-        assertThrows(
-            AutenticacaoApiRunTimeException.class, () -> service.validarSenhaExpirada(usuario));
-    assertTrue(ex.getMessage().contains(ERRO_VALIDAR_EXPIRACAO_SENHA.getChave()));
+  @Test
+  @DisplayName("Verifica a expiração pela data de alteração gravada na autenticação")
+  void deveVerificarExpiracaoPelaDataDaAutenticacao() {
+    autenticacao.setDataHoraAlteracaoSenha(LocalDateTime.now().minusDays(validadeSenhaDias - 1));
+    assertFalse(service.senhaExpirada(autenticacao));
+
+    autenticacao.setDataHoraAlteracaoSenha(LocalDateTime.now().minusDays(validadeSenhaDias + 1));
+    assertTrue(service.senhaExpirada(autenticacao));
+
+    autenticacao.setDataHoraAlteracaoSenha(null);
+    assertTrue(service.senhaExpirada(autenticacao));
   }
 
   // --- TESTES alterarSenha ---
@@ -121,16 +131,20 @@ class SenhaServiceImplTest {
     when(passwordEncoder.matches(senhaAntiga, autenticacao.getSenha())).thenReturn(true);
     when(passwordEncoder.encode(novaSenha)).thenReturn(senhaCodificada);
     when(autenticacaoRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+    when(autenticacaoRepository.buscarPorUsuarioId(usuarioId))
+        .thenReturn(Optional.of(autenticacao));
 
-    // Mocka método estático obterUsuarioLogado para retornar o usuário criado
     try (MockedStatic<UsuarioAutenticadoProvider> mockedStatic =
         mockStatic(UsuarioAutenticadoProvider.class)) {
-      mockedStatic.when(UsuarioAutenticadoProvider::obterUsuarioLogado).thenReturn(usuario);
+      mockedStatic.when(UsuarioAutenticadoProvider::obterIdUsuarioLogado).thenReturn(usuarioId);
 
       assertDoesNotThrow(() -> service.alterarSenha(senhaAntiga, novaSenha));
 
       assertEquals(senhaCodificada, autenticacao.getSenha());
+      assertNotNull(autenticacao.getDataHoraAlteracaoSenha());
       verify(autenticacaoRepository).save(autenticacao);
+      verify(credencialVerificadaCache).invalidar(usuarioId);
+      verify(revogacaoTokenService).revogarSessoes(usuarioId);
       verify(historicoAutenticacaoRepository).save(any(HistoricoAutenticacao.class));
     }
   }
@@ -146,9 +160,12 @@ class SenhaServiceImplTest {
 
     when(passwordEncoder.matches(senhaAntiga, autenticacao.getSenha())).thenReturn(false);
 
+    when(autenticacaoRepository.buscarPorUsuarioId(usuarioId))
+        .thenReturn(Optional.of(autenticacao));
+
     try (MockedStatic<UsuarioAutenticadoProvider> mockedStatic =
         mockStatic(UsuarioAutenticadoProvider.class)) {
-      mockedStatic.when(UsuarioAutenticadoProvider::obterUsuarioLogado).thenReturn(usuario);
+      mockedStatic.when(UsuarioAutenticadoProvider::obterIdUsuarioLogado).thenReturn(usuarioId);
 
       ValidacaoException ex =
           assertThrows(
@@ -156,6 +173,7 @@ class SenhaServiceImplTest {
       assertEquals(SENHA_ATUAL_INCORRETA.getChave(), ex.getMessage());
 
       verify(autenticacaoRepository, never()).save(any());
+      verify(revogacaoTokenService, never()).revogarSessoes(any());
       verify(historicoAutenticacaoRepository, never()).save(any());
     }
   }
@@ -173,9 +191,12 @@ class SenhaServiceImplTest {
     when(passwordEncoder.encode(novaSenha)).thenReturn("codificada");
     doThrow(new RuntimeException("Erro banco")).when(autenticacaoRepository).save(any());
 
+    when(autenticacaoRepository.buscarPorUsuarioId(usuarioId))
+        .thenReturn(Optional.of(autenticacao));
+
     try (MockedStatic<UsuarioAutenticadoProvider> mockedStatic =
         mockStatic(UsuarioAutenticadoProvider.class)) {
-      mockedStatic.when(UsuarioAutenticadoProvider::obterUsuarioLogado).thenReturn(usuario);
+      mockedStatic.when(UsuarioAutenticadoProvider::obterIdUsuarioLogado).thenReturn(usuarioId);
 
       AutenticacaoApiRunTimeException ex =
           assertThrows(
@@ -184,10 +205,4 @@ class SenhaServiceImplTest {
       assertTrue(ex.getMessage().contains(ERRO_ALTERAR_SENHA.getChave()));
     }
   }
-
-  // --- Método auxiliar para criar HistoricoAutenticacao com data ---
-
-  private HistoricoAutenticacao criarHistoricoComData(LocalDateTime data) {
-    return HistoricoAutenticacao.builder().dataAlteracao(data).build();
-  }
 }
@@ -0,0 +1,174 @@
+package com.autenticacao.api.unitarios.service;
+
+import static com.autenticacao.api.app.util.enums.MensagemSistema.CONTA_BLOQUEADA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.autenticacao.api.app.domain.DTO.DadosLogin;
+import com.autenticacao.api.app.exception.ContaBloqueadaException;
+import com.autenticacao.api.app.service.TentativaLoginService;
+import com.autenticacao.api.app.service.impl.TentativaLoginMemoriaServiceImpl;
+import com.autenticacao.api.app.util.enums.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TentativaLoginMemoriaServiceImplTest {
+
+  private static final UUID USUARIO_ID = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Captor private ArgumentCaptor<List<Object[]>> lote;
+
+  private TentativaLoginMemoriaServiceImpl tentativaLoginService;
+
+  @BeforeEach
+  void setup() {
+    tentativaLoginService =
+        new TentativaLoginMemoriaServiceImpl(jdbcTemplate, new SimpleMeterRegistry(), 500);
+  }
+
+  @Test
+  @DisplayName("Não deve acessar o banco no login bem-sucedido de conta sem falhas")
+  void naoDeveAcessarBancoSemFalhas() {
+    DadosLogin dadosLogin = criarDadosLogin(null, null);
+
+    tentativaLoginService.validarBloqueio(dadosLogin);
+    tentativaLoginService.resetarTentativas(dadosLogin);
+    tentativaLoginService.gravarPendentes();
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("Deve bloquear a conta ao atingir o limite de falhas, sem gravar cada falha")
+  void deveBloquearAoAtingirLimite() {
+    DadosLogin dadosLogin = criarDadosLogin(null, null);
+
+    for (int i = 1; i < TentativaLoginService.MAX_TENTATIVAS; i++) {
+      tentativaLoginService.registrarFalha(dadosLogin);
+    }
+    assertDoesNotThrow(() -> tentativaLoginService.validarBloqueio(dadosLogin));
+
+    tentativaLoginService.registrarFalha(dadosLogin);
+
+    assertThatThrownBy(() -> tentativaLoginService.validarBloqueio(dadosLogin))
+        .isInstanceOf(ContaBloqueadaException.class)
+        .hasMessageContaining(CONTA_BLOQUEADA.getChave());
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("Deve respeitar o bloqueio gravado no banco por outra instância")
+  void deveRespeitarBloqueioGravado() {
+    DadosLogin dadosLogin =
+        criarDadosLogin(TentativaLoginService.MAX_TENTATIVAS, LocalDateTime.now().plusMinutes(5));
+
+    assertThatThrownBy(() -> tentativaLoginService.validarBloqueio(dadosLogin))
+        .isInstanceOf(ContaBloqueadaException.class);
+  }
+
+  @Test
+  @DisplayName("Deve gravar em lote o bloqueio, inserindo o controle quando ele não existir")
+  void deveGravarBloqueioEmLote() {
+    when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), anyList())).thenReturn(new int[] {0});
+    when(jdbcTemplate.batchUpdate(startsWith("INSERT"), anyList())).thenReturn(new int[] {1});
+    DadosLogin dadosLogin = criarDadosLogin(null, null);
+    for (int i = 0; i < TentativaLoginService.MAX_TENTATIVAS; i++) {
+      tentativaLoginService.registrarFalha(dadosLogin);
+    }
+
+    tentativaLoginService.gravarPendentes();
+    tentativaLoginService.gravarPendentes();
+
+    verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT"), lote.capture());
+    Object[] linha = lote.getValue().get(0);
+    assertEquals(USUARIO_ID, linha[1]);
+    assertEquals(TentativaLoginService.MAX_TENTATIVAS, linha[2]);
+    assertThat((LocalDateTime) linha[3]).isAfter(LocalDateTime.now());
+  }
+
+  @Test
+  @DisplayName("Deve agendar o desbloqueio no login bem-sucedido de conta com falhas gravadas")
+  void deveAgendarDesbloqueio() {
+    when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), anyList())).thenReturn(new int[] {1});
+
+    tentativaLoginService.resetarTentativas(criarDadosLogin(3, null));
+    tentativaLoginService.gravarPendentes();
+
+    verify(jdbcTemplate).batchUpdate(startsWith("UPDATE"), lote.capture());
+    Object[] linha = lote.getValue().get(0);
+    assertEquals(0, linha[0]);
+    assertNull(linha[1]);
+    assertEquals(USUARIO_ID, linha[2]);
+    verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+  }
+
+  @Test
+  @DisplayName("Deve bloquear uma única vez com falhas simultâneas")
+  void deveBloquearUmaVezComFalhasSimultaneas() throws InterruptedException {
+    when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), anyList())).thenReturn(new int[] {1});
+    DadosLogin dadosLogin = criarDadosLogin(null, null);
+    int falhas = TentativaLoginService.MAX_TENTATIVAS * 4;
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch largada = new CountDownLatch(1);
+    for (int i = 0; i < falhas; i++) {
+      executor.execute(
+          () -> {
+            try {
+              largada.await();
+              tentativaLoginService.registrarFalha(dadosLogin);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+
+    largada.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    tentativaLoginService.gravarPendentes();
+
+    verify(jdbcTemplate, times(1)).batchUpdate(startsWith("UPDATE"), lote.capture());
+    assertEquals(1, lote.getValue().size());
+    assertThatThrownBy(() -> tentativaLoginService.validarBloqueio(dadosLogin))
+        .isInstanceOf(ContaBloqueadaException.class);
+  }
+
+  private DadosLogin criarDadosLogin(Integer tentativasFalhas, LocalDateTime bloqueadoAte) {
+    return new DadosLogin(
+        USUARIO_ID,
+        "usuario@email.com",
+        "hash",
+        true,
+        UserRole.USER,
+        0L,
+        tentativasFalhas,
+        bloqueadoAte,
+        LocalDateTime.now());
+  }
+}
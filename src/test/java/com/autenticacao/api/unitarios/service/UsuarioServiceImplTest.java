@@ -21,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.autenticacao.api.app.config.security.UsuarioAutenticado;
 import com.autenticacao.api.app.config.security.provider.UsuarioAutenticadoProvider;
 import com.autenticacao.api.app.domain.DTO.request.AtualizarUsuarioRequest;
 import com.autenticacao.api.app.domain.DTO.request.CadastroUsuarioRequest;
@@ -175,7 +176,8 @@ class UsuarioServiceImplTest {
   @Test
   @DisplayName("Deve listar todos os usuários quando usuário logado for ADMIN")
   void deveListarTodosUsuariosQuandoUsuarioAdmin() {
-    Usuario usuarioLogado = Usuario.builder().role(UserRole.ADMIN).build();
+    UsuarioAutenticado usuarioLogado =
+        new UsuarioAutenticado(UUID.randomUUID(), "admin@email.com", UserRole.ADMIN, true);
 
     // Mockar obterUsuarioLogado para retornar usuário admin
     try (var mockedStatic = Mockito.mockStatic(UsuarioAutenticadoProvider.class)) {
@@ -209,7 +211,8 @@ class UsuarioServiceImplTest {
   @Test
   @DisplayName("Deve lançar exceção quando usuário logado não for ADMIN")
   void deveLancarExcecaoQuandoUsuarioNaoForAdmin() {
-    Usuario usuarioLogado = Usuario.builder().role(UserRole.USER).build();
+    UsuarioAutenticado usuarioLogado =
+        new UsuarioAutenticado(UUID.randomUUID(), "user@email.com", UserRole.USER, true);
 
     try (var mockedStatic = Mockito.mockStatic(UsuarioAutenticadoProvider.class)) {
       mockedStatic.when(UsuarioAutenticadoProvider::obterUsuarioLogado).thenReturn(usuarioLogado);